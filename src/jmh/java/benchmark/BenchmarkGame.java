@@ -0,0 +1,48 @@
+package benchmark;
+
+import exceptions.GameLoadingException;
+import exceptions.MissingParsingKeysException;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import gameplay.GamePlay;
+import output.SilentOutput;
+
+/**
+ * Headless scenario game of a random player whose turns can be played one by one
+ */
+public class BenchmarkGame extends ScenarioGame {
+    public static final String playerName = "benchmark";
+
+    private BenchmarkGame(GameRandom random) {
+        super(GameDifficulty.NORMAL, playerName, new RandomPlayer(random.split(), Integer.MAX_VALUE), new SilentOutput(), random);
+    }
+
+    /**
+     * @param filePath configuration file path
+     * @param seed seed of the game and of its player
+     * @return loaded game, ready to play its first turn
+     * @throws MissingParsingKeysException Keys are missing in configuration file
+     * @throws GameLoadingException Configuration file cannot be read
+     */
+    public static BenchmarkGame load(String filePath, long seed) throws MissingParsingKeysException, GameLoadingException {
+        BenchmarkGame game = new BenchmarkGame(new GameRandom(seed));
+        game.load(new GameParameters(playerName, GameDifficulty.NORMAL, ScenarioGame.class.getSimpleName(), filePath));
+        game.getGamePlay().canPlayEvents();
+        game.getGamePlay().nextEvent();
+        return game;
+    }
+
+    public GamePlay getGamePlay() {
+        return this.gamePlay;
+    }
+
+    /**
+     * @return if a turn can be played, the game is over otherwise
+     */
+    public boolean canPlayTurn() {
+        return keepsPlaying() && isPlayerWinning();
+    }
+}
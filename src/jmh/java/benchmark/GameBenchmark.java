@@ -0,0 +1,63 @@
+package benchmark;
+
+import game.saving.GameSaver;
+import game.saving.JSONGameSaver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Headless game turns of a random player and game saves
+ * A new game is loaded (out of the measurement) whenever the previous one is over
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+    @Param({"scenarios/attackOnTitans_remastered.json", "synthetic:1000", "synthetic:100000"})
+    public String scenario;
+
+    private String filePath;
+    private long seed;
+    private BenchmarkGame game;
+    private GameSaver gameSaver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.filePath = SyntheticScenario.getFilePath(this.scenario);
+        loadNewGame();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpTurn() throws Exception {
+        if(!this.game.canPlayTurn()) {
+            loadNewGame();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.gameSaver.deleteFile(this.game.getSavePath());
+    }
+
+    @Benchmark
+    public BenchmarkGame playGameTurn() {
+        this.game.playCurrentGameTurn();
+        return this.game;
+    }
+
+    @Benchmark
+    public GameSaver saveGame() {
+        this.gameSaver.saveGame();
+        return this.gameSaver;
+    }
+
+    private void loadNewGame() throws Exception {
+        this.game = BenchmarkGame.load(this.filePath, this.seed);
+        this.gameSaver = new JSONGameSaver(this.game);
+        this.seed += 1;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmark;
+
+import gameplay.Choice;
+import gameplay.Event;
+import gameplay.GamePlay;
+import gameplay.ScenarioGamePlay;
+import gameplay.Season;
+import org.openjdk.jmh.annotations.*;
+import parser.JSONParser;
+import parser.ParsedScenario;
+import parser.ScenarioCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenario checks done before a game starts and placement of related events during the game
+ * Scenario checks run on a game play whose first season is already set, as in every check after the first one
+ * Related events are placed in a game play reset before each iteration, so its size barely changes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GamePlayBenchmark {
+    @Param({"scenarios/attackOnTitans_remastered.json", "synthetic:1000", "synthetic:100000"})
+    public String scenario;
+
+    private ParsedScenario parsedScenario;
+    private List<List<Event>> relatedEvents;
+    private int indexRelatedEvents;
+    private GamePlay checkedGamePlay;
+    private GamePlay gamePlay;
+
+    @Setup(Level.Trial)
+    public void setUpScenario() throws Exception {
+        this.parsedScenario = ScenarioCache.getScenario(SyntheticScenario.getFilePath(this.scenario), new JSONParser());
+        this.relatedEvents = new ArrayList<>();
+        for(Season season : Season.values()) {
+            for(Event event : this.parsedScenario.getEvents(season)) {
+                for(Choice choice : event.getChoices()) {
+                    if(choice.hasRelatedEvents()) {
+                        this.relatedEvents.add(choice.getRelatedEvents());
+                    }
+                }
+            }
+        }
+        this.checkedGamePlay = newGamePlay();
+        this.checkedGamePlay.canPlayEvents();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpGamePlay() {
+        this.gamePlay = newGamePlay();
+        this.gamePlay.canPlayEvents();
+        this.gamePlay.nextEvent();
+    }
+
+    @Benchmark
+    public boolean canPlayEvents() {
+        return this.checkedGamePlay.canPlayEvents();
+    }
+
+    @Benchmark
+    public GamePlay placeRelatedEvents() {
+        this.gamePlay.placeRelatedEvents(this.relatedEvents.get(this.indexRelatedEvents));
+        this.indexRelatedEvents = (this.indexRelatedEvents + 1) % this.relatedEvents.size();
+        return this.gamePlay;
+    }
+
+    private GamePlay newGamePlay() {
+        GamePlay newGamePlay = new ScenarioGamePlay(this.parsedScenario.getName(), this.parsedScenario.getStory(), this.parsedScenario.getFirstSeason());
+        newGamePlay.addEventsFromScenario(this.parsedScenario);
+        return newGamePlay;
+    }
+}
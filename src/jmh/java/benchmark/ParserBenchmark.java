@@ -0,0 +1,46 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import parser.*;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a whole configuration file, JSON and compiled
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"scenarios/attackOnTitans_remastered.json", "synthetic:1000", "synthetic:100000"})
+    public String scenario;
+
+    private String filePath;
+    private File compiledFile;
+
+    @Setup
+    public void setUp() throws Exception {
+        this.filePath = SyntheticScenario.getFilePath(this.scenario);
+        this.compiledFile = File.createTempFile("benchmark_", ScenarioCompiler.FILE_EXTENSION);
+        this.compiledFile.deleteOnExit();
+        ScenarioCompiler.compile(this.filePath, this.compiledFile.toPath());
+    }
+
+    @Benchmark
+    public ParsedScenario parseJsonScenario() throws Exception {
+        Parser parser = new JSONParser();
+        parser.openFile(this.filePath);
+        return parser.parseScenario();
+    }
+
+    @Benchmark
+    public ParsedScenario parseCompiledScenario() throws Exception {
+        Parser parser = new BinaryParser();
+        parser.openFile(this.compiledFile.getPath());
+        return parser.parseScenario();
+    }
+}
@@ -0,0 +1,53 @@
+package benchmark;
+
+import game.Game;
+import game.ScenarioGame;
+import game.journal.JournalReplayer;
+import game.journal.ReplayResult;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import org.openjdk.jmh.annotations.*;
+import output.SilentOutput;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays of complete recorded games of a random player, the journals are recorded out of the measurement
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayBenchmark {
+    private static final int NB_JOURNALS = 64;
+
+    @Param({"scenarios/attackOnTitans_remastered.json", "synthetic:1000"})
+    public String scenario;
+
+    private final JournalReplayer replayer = new JournalReplayer();
+    private byte[][] journals;
+    private int nextJournal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        GameParameters gameParameters = new GameParameters(BenchmarkGame.playerName, GameDifficulty.NORMAL, ScenarioGame.class.getSimpleName(), SyntheticScenario.getFilePath(this.scenario));
+        this.journals = new byte[NB_JOURNALS][];
+        for(int seed = 0; seed < NB_JOURNALS; seed += 1) {
+            GameRandom random = new GameRandom(seed);
+            Game game = new ScenarioGame(GameDifficulty.NORMAL, BenchmarkGame.playerName, new RandomPlayer(random.split(), 100), new SilentOutput(), random);
+            game.load(gameParameters);
+            game.launchGame();
+            this.journals[seed] = game.getJournal().toByteArray();
+        }
+    }
+
+    @Benchmark
+    public ReplayResult replayGame() {
+        this.nextJournal = (this.nextJournal + 1) % NB_JOURNALS;
+        return this.replayer.replay(this.journals[this.nextJournal]);
+    }
+}
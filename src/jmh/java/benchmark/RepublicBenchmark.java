@@ -0,0 +1,101 @@
+package benchmark;
+
+import gameplay.Choice;
+import gameplay.Effect;
+import gameplay.Event;
+import gameplay.Season;
+import org.openjdk.jmh.annotations.*;
+import output.SilentOutput;
+import parser.ParsedScenario;
+import parser.ScenarioCache;
+import parser.JSONParser;
+import republic.Republic;
+import republic.factions.Population;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Effects of the scenario choices on a republic, satisfaction and famine
+ * The republic is reset before each iteration (effects) or invocation (famine) so it does not drift to an empty one
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepublicBenchmark {
+    @Param({"scenarios/attackOnTitans_remastered.json", "synthetic:100000", "synthetic:100000:64"})
+    public String scenario;
+
+    @Param({"1000", "1000000"})
+    public int nbSupportersByFaction;
+
+    private String filePath;
+    private Effect[] effects;
+    private int indexEffect;
+    private Republic republic;
+
+    @Setup(Level.Trial)
+    public void setUpEffects() throws Exception {
+        this.filePath = SyntheticScenario.getFilePath(this.scenario);
+        ParsedScenario parsedScenario = ScenarioCache.getScenario(this.filePath, new JSONParser());
+        List<Effect> choiceEffects = new ArrayList<>();
+        for(Season season : Season.values()) {
+            for(Event event : parsedScenario.getEvents(season)) {
+                for(Choice choice : event.getChoices()) {
+                    choiceEffects.add(choice.getEffects());
+                }
+            }
+        }
+        this.effects = choiceEffects.toArray(new Effect[0]);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpRepublic() throws Exception {
+        this.republic = BenchmarkGame.load(this.filePath, 0).getRepublic();
+        Population population = this.republic.getPopulation();
+        for(int factionId = 0; factionId < population.getNbFactions(); factionId += 1) {
+            population.setFaction(factionId, this.nbSupportersByFaction, 60);
+        }
+        this.republic.setOutput(new SilentOutput());
+    }
+
+    @Benchmark
+    public Republic applyEffects() {
+        this.republic.applyEffects(this.effects[this.indexEffect]);
+        this.indexEffect = (this.indexEffect + 1) % this.effects.length;
+        return this.republic;
+    }
+
+    @Benchmark
+    public double getGlobalSatisfactionRate() {
+        return this.republic.getPopulation().getGlobalSatisfactionRate();
+    }
+
+    @Benchmark
+    public boolean eliminateSupportersUntilEnoughFood(FamineState famineState) {
+        return famineState.population.eliminateSupportersUntilEnoughFood(famineState.nbSupportersToEliminate);
+    }
+
+    /**
+     * Fresh population before each famine, a tenth of it cannot be fed
+     */
+    @State(Scope.Thread)
+    public static class FamineState {
+        private Population population;
+        private int nbSupportersToEliminate;
+
+        @Setup(Level.Invocation)
+        public void setUp(RepublicBenchmark benchmark) {
+            this.population = new Population(benchmark.republic.getPopulation().getFactionTypes());
+            for(int factionId = 0; factionId < this.population.getNbFactions(); factionId += 1) {
+                this.population.setFaction(factionId, benchmark.nbSupportersByFaction, 60);
+            }
+            this.population.setOutput(new SilentOutput());
+            this.nbSupportersToEliminate = this.population.getTotalPopulation() / 10;
+        }
+    }
+}
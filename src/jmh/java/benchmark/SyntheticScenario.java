@@ -0,0 +1,162 @@
+package benchmark;
+
+import gameplay.Season;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import parser.ParsingKeys;
+import republic.factions.FactionTypes;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Configuration files shaped like the bundled scenarios but with any number of events,
+ * to benchmark the game far beyond the size of the bundled scenarios
+ */
+public class SyntheticScenario {
+    public static final String PREFIX = "synthetic:";
+    private static final String[] factorKeys = { ParsingKeys.farmRate, ParsingKeys.industryRate, ParsingKeys.money, ParsingKeys.foodUnits };
+    private static final Map<String, String> filePathByScenario = new HashMap<>();
+
+    /**
+     * @param scenario a configuration file path, or "synthetic:nbEvents" for a generated one with the default factions,
+     *                 or "synthetic:nbEvents:nbFactions" for a generated one declaring its own factions
+     * @return path of the configuration file, generated once per number of events and factions
+     * @throws IOException generated configuration file cannot be written
+     */
+    public static synchronized String getFilePath(String scenario) throws IOException {
+        if(!scenario.startsWith(PREFIX)) {
+            return scenario;
+        }
+        String filePath = filePathByScenario.get(scenario);
+        if(filePath == null) {
+            String[] sizes = scenario.substring(PREFIX.length()).split(":");
+            int nbFactions = sizes.length > 1 ? Integer.parseInt(sizes[1]) : 0;
+            filePath = write(Integer.parseInt(sizes[0]), nbFactions);
+            filePathByScenario.put(scenario, filePath);
+        }
+        return filePath;
+    }
+
+    /**
+     * @param nbEvents number of events, spread over the seasons
+     * @param nbFactions number of declared factions, 0 for the default factions
+     * @return path of a temporary configuration file, deleted when the JVM exits
+     * @throws IOException configuration file cannot be written
+     */
+    public static String write(int nbEvents, int nbFactions) throws IOException {
+        File file = File.createTempFile("synthetic_" + nbEvents + "_" + nbFactions + "_", ".json");
+        file.deleteOnExit();
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            generate(nbEvents, nbFactions, nbEvents).write(writer);
+        }
+        return file.getPath();
+    }
+
+    public static JSONObject generate(int nbEvents, long seed) {
+        return generate(nbEvents, 0, seed);
+    }
+
+    public static JSONObject generate(int nbEvents, int nbFactions, long seed) {
+        Random random = new Random(seed);
+        JSONObject scenario = new JSONObject();
+        scenario.put(ParsingKeys.name, "Scénario synthétique de " + nbEvents + " évènements");
+        scenario.put(ParsingKeys.story, "Scénario généré pour mesurer les performances du jeu.");
+        List<String> factionNames = FactionTypes.DEFAULT.getNames();
+        if(nbFactions > 0) {
+            factionNames = new ArrayList<>();
+            JSONArray factions = new JSONArray();
+            for(int indexFaction = 0; indexFaction < nbFactions; indexFaction += 1) {
+                String factionName = "Faction" + indexFaction;
+                factionNames.add(factionName);
+                factions.put(new JSONObject()
+                        .put(ParsingKeys.name, factionName)
+                        .put(ParsingKeys.label, "Faction n°" + indexFaction)
+                        .put(ParsingKeys.bribable, indexFaction % 8 != 0));
+            }
+            scenario.put(ParsingKeys.factions, factions);
+        }
+        scenario.put(ParsingKeys.gameStartParameters, new JSONObject().put("NORMAL", generateStartParameters(factionNames)));
+
+        JSONObject gamePlay = new JSONObject();
+        Season[] seasons = Season.values();
+        for(int indexSeason = 0; indexSeason < seasons.length; indexSeason += 1) {
+            int nbSeasonEvents = nbEvents / seasons.length + (indexSeason < nbEvents % seasons.length ? 1 : 0);
+            JSONArray seasonEvents = new JSONArray();
+            for(int indexEvent = 0; indexEvent < nbSeasonEvents; indexEvent += 1) {
+                seasonEvents.put(generateEvent(random, factionNames, seasons[indexSeason].name() + " " + indexEvent, true));
+            }
+            gamePlay.put(seasons[indexSeason].name(), seasonEvents);
+        }
+        scenario.put(ParsingKeys.gameplay, gamePlay);
+        return scenario;
+    }
+
+    private static JSONObject generateStartParameters(List<String> factionNames) {
+        JSONObject factions = new JSONObject();
+        for(String factionName : factionNames) {
+            factions.put(factionName.toUpperCase(), new JSONObject()
+                    .put(ParsingKeys.satisfactionRate, 60)
+                    .put(ParsingKeys.nbSupporters, 100));
+        }
+        return new JSONObject()
+                .put(ParsingKeys.farmRate, 40)
+                .put(ParsingKeys.industryRate, 35)
+                .put(ParsingKeys.money, 700)
+                .put(ParsingKeys.foodUnits, 5000)
+                .put(ParsingKeys.factions, factions);
+    }
+
+    /**
+     * One event out of ten has irreversible effects, one choice out of twenty has a related event
+     */
+    private static JSONObject generateEvent(Random random, List<String> factionNames, String name, boolean canHaveRelatedEvents) {
+        JSONObject event = new JSONObject();
+        event.put(ParsingKeys.name, "Évènement " + name);
+        event.put(ParsingKeys.description, "Description de l'évènement " + name);
+        if(random.nextInt(10) == 0) {
+            event.put(ParsingKeys.irreversible, generateEffects(random, factionNames));
+        }
+        JSONArray choices = new JSONArray();
+        int nbChoices = 2 + random.nextInt(2);
+        for(int indexChoice = 1; indexChoice <= nbChoices; indexChoice += 1) {
+            JSONObject choice = new JSONObject();
+            choice.put(ParsingKeys.name, "Choix " + indexChoice);
+            choice.put(ParsingKeys.description, "Description du choix " + indexChoice + " de l'évènement " + name);
+            choice.put(ParsingKeys.effects, generateEffects(random, factionNames));
+            if(canHaveRelatedEvents && random.nextInt(20) == 0) {
+                choice.put(ParsingKeys.relatedEvents, new JSONArray().put(generateEvent(random, factionNames, name + " suite " + indexChoice, false)));
+            }
+            choices.put(choice);
+        }
+        event.put(ParsingKeys.choices, choices);
+        return event;
+    }
+
+    private static JSONObject generateEffects(Random random, List<String> factionNames) {
+        JSONObject effects = new JSONObject();
+        effects.put(factorKeys[random.nextInt(factorKeys.length)], random.nextInt(21) - 10);
+        JSONArray factions = new JSONArray();
+        int nbFactions = 1 + random.nextInt(2);
+        for(int indexFaction = 0; indexFaction < nbFactions; indexFaction += 1) {
+            String factionName = factionNames.get(random.nextInt(factionNames.size()));
+            JSONObject faction = new JSONObject().put(ParsingKeys.name, factionName);
+            faction.put(ParsingKeys.satisfactionRate, random.nextInt(21) - 10);
+            if(random.nextBoolean()) {
+                faction.put(ParsingKeys.nbSupporters, random.nextInt(11) - 5);
+            }
+            factions.put(faction);
+        }
+        effects.put(ParsingKeys.factions, factions);
+        return effects;
+    }
+}
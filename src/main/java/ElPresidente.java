@@ -1,9 +1,16 @@
 import game.*;
 import game.needs.GameParameters;
 import game.needs.GamePlayerInput;
+import server.GameServer;
+
+import java.util.Arrays;
 
 public class ElPresidente {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if(args.length > 0 && args[0].equals("--server")) {
+            GameServer.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         boolean wantsToPlayAgain = true;
         while(wantsToPlayAgain) {
             Game.displayIntroduction();
@@ -13,6 +20,9 @@ public class ElPresidente {
                 Game game = gameParameters.getGameAccordingToChosenGameParameters();
                 game.load(gameParameters);
                 game.launchGame();
+                if(game.hasPlayerQuit()) {
+                    Game.shutDown();
+                }
                 wantsToPlayAgain = GamePlayerInput.wantsToPlayAgain();
             } catch (Exception ex) {
                 ex.printStackTrace();
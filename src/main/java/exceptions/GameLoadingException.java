@@ -0,0 +1,10 @@
+package exceptions;
+
+/**
+ * Exception thrown when a game cannot be loaded (configuration file or game save unreadable, incorrect start parameters)
+ */
+public class GameLoadingException extends Exception {
+    public GameLoadingException(String errorMessage, Throwable cause) {
+        super(errorMessage, cause);
+    }
+}
@@ -1,18 +1,31 @@
 package game;
+import exceptions.GameLoadingException;
 import exceptions.MissingEventsException;
 import exceptions.MissingParsingKeysException;
+import game.journal.GameJournal;
 import game.needs.*;
+import game.players.ConsolePlayer;
+import game.players.Player;
 import game.saving.GameSaver;
 import game.saving.JSONGameSaver;
 import gameplay.*;
+import listeners.SatisfactionChangedListener;
 import listeners.SatisfactionDecreasedListener;
 import listeners.SatisfactionIncreasedListener;
+import output.ConsoleOutput;
+import output.Output;
 import publisher.EventManager;
+import publisher.EventType;
 import republic.Republic;
 import republic.economy.Resources;
 import republic.factions.Population;
+import parser.BinaryParser;
+import parser.ParsedScenario;
 import parser.Parser;
 import parser.JSONParser;
+import parser.ScenarioCache;
+import parser.ScenarioCompiler;
+import parser.StartParameters;
 
 import java.io.File;
 
@@ -25,17 +38,45 @@ public abstract class Game {
     protected int eventCount = 1;
     public EventManager events;
     private Parser parser;
+    private Parser saveParser;
     private GameSaver gameSaver;
     private String filePath;
+    private ParsedScenario scenario;
     private boolean isASavedGame = false;
+    private boolean hasPlayerQuit = false;
+    private GameOutcome outcome;
+    protected final Player player;
+    protected final Output output;
+    protected final GameRandom random;
+    private final GameJournal journal;
 
     public Game(GameDifficulty gameDifficulty, String playerName) {
+        this(gameDifficulty, playerName, new ConsolePlayer(), new ConsoleOutput());
+    }
+
+    /**
+     * @param player takes every decision of the game (human, bot...)
+     * @param output where the game is displayed, a SilentOutput runs the game headless
+     */
+    public Game(GameDifficulty gameDifficulty, String playerName, Player player, Output output) {
+        this(gameDifficulty, playerName, player, output, new GameRandom());
+    }
+
+    /**
+     * @param random every random draw of the game comes from it, a seeded one makes the game reproducible
+     */
+    public Game(GameDifficulty gameDifficulty, String playerName, Player player, Output output, GameRandom random) {
+        this.random = random;
+        this.journal = new GameJournal(getClass().getSimpleName(), gameDifficulty, playerName, random);
         this.playerName = playerName;
         this.gameDifficulty = gameDifficulty;
+        this.player = player;
+        this.output = output;
         this.score = GameRules.INITIAL_SCORE * (1 / gameDifficulty.getDifficultyCoefficient());
-        this.events = new EventManager("satisfaction_increased", "satisfaction_decreased");
-        this.events.subscribe("satisfaction_decreased", new SatisfactionDecreasedListener(this));
-        this.events.subscribe("satisfaction_increased", new SatisfactionIncreasedListener(this));
+        this.events = new EventManager(EventType.SATISFACTION_INCREASED, EventType.SATISFACTION_DECREASED, EventType.SATISFACTION_CHANGED);
+        this.events.subscribeInt(EventType.SATISFACTION_DECREASED, new SatisfactionDecreasedListener(this));
+        this.events.subscribeInt(EventType.SATISFACTION_INCREASED, new SatisfactionIncreasedListener(this));
+        this.events.subscribe(EventType.SATISFACTION_CHANGED, new SatisfactionChangedListener(this));
     }
 
     public Republic getRepublic() {
@@ -71,111 +112,290 @@ public abstract class Game {
         return this.score;
     }
 
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    public Output getOutput() {
+        return this.output;
+    }
+
+    public GameRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * @return record of the decisions of this game, see JournalReplayer
+     */
+    public GameJournal getJournal() {
+        return this.journal;
+    }
+
+    /**
+     * @return how the game ended, null while it is not finished
+     */
+    public GameOutcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return if player quit during the game (before launching it or at a year end)
+     */
+    public boolean hasPlayerQuit() {
+        return this.hasPlayerQuit;
+    }
+
     public static void displayIntroduction() {
+        Output console = new ConsoleOutput();
+        displayIntroduction(console);
+        console.flush();
+    }
+
+    public static void displayIntroduction(Output output) {
         String welcome = "\"Bonjour et bienvenue dans un jeu vidéo à la croisée entre Tropico et Reigns !\"";
         String gameRole = "\"Vous incarnerez un jeune dictateur en herbe sur une île tropicale, fraîchement élu comme Président.";
         String gameGoal = "Vous aurez la lourde tâche de faire prospérer cette nouvelle mini-république.\"";
-        System.out.printf("%n%n%n%n%n%n%n%n%n%n%n%n%n%n%n%s%n", welcome);
-        System.out.println("===================");
-        System.out.printf("%s%n%s%n", gameRole, gameGoal);
-        System.out.println("===================");
+        output.printf("%n%n%n%n%n%n%n%n%n%n%n%n%n%n%n%s%n", welcome);
+        output.println("===================");
+        output.printf("%s%n%s%n", gameRole, gameGoal);
+        output.println("===================");
     }
 
     /**
      * Load game data from the configuration file
      * @param gameParameters containing GameDifficulty and configuration file path
      * @throws MissingParsingKeysException Keys are missing in configuration file
+     * @throws GameLoadingException Configuration file or game save cannot be read
      */
-    public void load(GameParameters gameParameters) throws MissingParsingKeysException {
+    public void load(GameParameters gameParameters) throws MissingParsingKeysException, GameLoadingException {
         this.filePath = gameParameters.getFilePath();
-        setParserAndGameSaver(this.filePath, gameParameters);
-        openFile(gameParameters.getFilePath());
-
-        if(canLoadGame()) {
-            setGamePlay();
-            if(doesPlayerHasGameSave() && GamePlayerInput.doesPlayerWantsToUseGameSave()) {
-                setSavedGameStartParameters();
+        this.journal.setScenarioId(this.filePath);
+        setParserAndGameSaver(this.filePath);
+        ParsedScenario scenario = getScenario(this.filePath);
+        this.saveParser.setFactionTypes(scenario.getFactionTypes());
+
+        String startParametersDifficulty = getStartParametersDifficulty(scenario);
+        if(startParametersDifficulty != null) {
+            setGamePlay(scenario);
+            StartParameters startParameters = scenario.getStartParameters(startParametersDifficulty);
+            if(doesPlayerHasGameSave() && this.player.wantsToUseGameSave()) {
+                this.journal.record(GameJournal.USE_GAME_SAVE, 1);
+                startParameters = setSavedGameStartParameters();
                 this.isASavedGame = true;
             }
-            setRepublic();
+            else if(startParameters == null) {
+                throw new MissingParsingKeysException("Cannot load game. Incorrect start parameters for difficulty " + startParametersDifficulty + " : " + scenario.getStartParametersError(startParametersDifficulty));
+            }
+            setRepublic(startParameters);
         }
         else {
             throw new MissingParsingKeysException("Cannot load game. Something is missing in the configuration file.");
         }
     }
 
-    public void openFile(String filePath) {
+    /**
+     * @throws GameLoadingException game save cannot be read
+     */
+    public void openSaveFile(String filePath) throws GameLoadingException {
         try {
-            this.parser.openFile(filePath);
+            this.saveParser.openFile(filePath);
         } catch (Exception ex) {
-            ex.printStackTrace();
-            shutDown();
+            throw new GameLoadingException("Cannot open the game save.", ex);
         }
     }
 
-    public boolean canLoadGame() {
-        if(parser.canParseFile()) {
-            return parser.isGameStartParameterDifficultyInJson();
+    /**
+     * Configuration file is parsed only by the first game played on it, next games reuse it
+     * @param filePath configuration file path
+     * @return parsed configuration file
+     * @throws GameLoadingException configuration file cannot be read or parsed
+     */
+    public ParsedScenario getScenario(String filePath) throws GameLoadingException {
+        try {
+            return ScenarioCache.getScenario(filePath, this.parser);
+        } catch (Exception ex) {
+            throw new GameLoadingException("Cannot parse the configuration file.", ex);
         }
-        return false;
     }
 
-    public void setGamePlay() {
-        try {
-            this.gamePlay = this.parser.parseGamePlay();
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            shutDown();
+    /**
+     * Chosen difficulty start parameters are used if they exist, else normal ones
+     * @param scenario parsed configuration file
+     * @return difficulty of the start parameters to use, null if game cannot be loaded
+     */
+    public String getStartParametersDifficulty(ParsedScenario scenario) {
+        String startParametersDifficulty = scenario.getStartParametersDifficulty(this.gameDifficulty);
+        if(startParametersDifficulty == null) {
+            this.output.printf("%nLes difficultés %s et %s n'existent pas dans ce scénario.%n", this.gameDifficulty.toString(), GameDifficulty.NORMAL.toString());
+        }
+        else if(!startParametersDifficulty.equals(this.gameDifficulty.name())) {
+            this.output.printf("%nLa difficulté \"%s\" n'existe pas dans ce scénario, c'est-à-dire que les ressources de base (population, agriculture, argent...) sont de difficulté %s.", this.gameDifficulty.toString(), GameDifficulty.NORMAL.toString());
+            this.output.printf("%nCependant, la difficulté des évènements est appliqué selon votre choix, c'est-à-dire que si un évènement en mode normal diminue la population de 10%%,%nalors avec la difficulté que vous avez choisi, la population diminuera de %d%%.%n", (int)(10 * this.gameDifficulty.getDifficultyCoefficient()));
         }
+        return startParametersDifficulty;
+    }
+
+    /**
+     * Game play of this game, holding its own copy of the scenario events
+     * @param scenario parsed configuration file
+     */
+    public void setGamePlay(ParsedScenario scenario) {
+        this.scenario = scenario;
+        this.gamePlay = newGamePlay(scenario.getName(), scenario.getStory(), scenario.getFirstSeason());
+        this.gamePlay.addEventsFromScenario(scenario);
+    }
+
+    protected abstract GamePlay newGamePlay(String name, String story, Season firstSeason);
+
+    /**
+     * @return a new game of the same mode and difficulty, without scenario nor republic
+     */
+    protected abstract Game newGame(Player player, Output output, GameRandom random);
+
+    /**
+     * @return values of the current game state, see restore and fork
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(this, this.outcome, this.hasPlayerQuit);
+    }
+
+    /**
+     * Puts this game back to a state taken from it or from a game on the same scenario
+     * @param snapshot game state
+     */
+    public void restore(GameSnapshot snapshot) {
+        this.score = snapshot.getScore();
+        this.eventCount = snapshot.getEventCount();
+        this.outcome = snapshot.getOutcome();
+        this.hasPlayerQuit = snapshot.hasPlayerQuit();
+        this.random.restore(snapshot.getRandom());
+        this.journal.restore(snapshot.getJournal());
+        snapshot.restoreRepublic(this.republic);
+        snapshot.restoreGamePlay(this.gamePlay);
+    }
+
+    /**
+     * Creates a game in the current state of this one, see fork(GameSnapshot, Player, Output)
+     */
+    public Game fork(Player player, Output output) {
+        return fork(snapshot(), player, output);
+    }
+
+    /**
+     * Creates a game on the scenario of this one, in the state of a snapshot, without parsing the scenario again
+     * The forked game has its own republic and random generator : both games can then be played independently
+     * @param snapshot state of a game on the same scenario
+     * @param player takes every decision of the forked game
+     * @param output where the forked game is displayed
+     * @return forked game
+     * @throws IllegalStateException this game is not loaded
+     */
+    public Game fork(GameSnapshot snapshot, Player player, Output output) throws IllegalStateException {
+        if(this.scenario == null || this.republic == null) {
+            throw new IllegalStateException("Only a loaded game can be forked.");
+        }
+        Game game = newGame(player, output, snapshot.getRandom().copy());
+        game.filePath = this.filePath;
+        game.parser = this.parser;
+        game.saveParser = this.saveParser;
+        game.gameSaver = this.gameSaver.newGameSaver(game);
+        game.scenario = this.scenario;
+        game.gamePlay = game.newGamePlay(this.scenario.getName(), this.scenario.getStory(), this.scenario.getFirstSeason());
+        Population population = new Population(snapshot.getFactionTypes(), game.random);
+        population.factionsSubscribeToBribeEventExceptLoyalists();
+        game.setRepublic(population, new Resources());
+        game.restore(snapshot);
+        return game;
     }
 
     public boolean doesPlayerHasGameSave() {
         String savePath = this.getSavePath();
-        File file = new File(savePath);
-        return file.exists() && doesFileContainsChosenDifficulty(file);
+        return this.gameSaver.hasGameSave(savePath) && doesFileContainsChosenDifficulty(new File(savePath));
     }
 
     public boolean doesFileContainsChosenDifficulty(File file) {
-        return this.parser.doesChosenDifficultyHasSavedGame(file, this.gameDifficulty);
+        return this.saveParser.doesChosenDifficultyHasSavedGame(file, this.gameDifficulty);
     }
 
-    public void setSavedGameStartParameters() {
-        openFile(getSavePath());
-        this.parser.setGameStartParameterDifficulty(this.gameDifficulty.name());// setGameDifficulty in JSONParser;
-        this.gamePlay.setCurrentSeason(this.parser.getSavedCurrentSeason());
-        this.gamePlay.setYear(this.parser.getSavedYear());
-        this.eventCount = this.parser.getSavedEventCount();
-        this.score = this.parser.getSavedScore();
+    /**
+     * Sets game progress from the game save
+     * @return republic start parameters saved for the chosen difficulty
+     * @throws GameLoadingException game save cannot be read or is incorrect
+     */
+    public StartParameters setSavedGameStartParameters() throws GameLoadingException {
+        openSaveFile(getSavePath());
+        try {
+            this.gamePlay.setCurrentSeason(this.saveParser.getSavedCurrentSeason());
+            this.gamePlay.setYear(this.saveParser.getSavedYear());
+            this.eventCount = this.saveParser.getSavedEventCount();
+            this.score = this.saveParser.getSavedScore();
+            return this.saveParser.parseStartParameters(this.gameDifficulty.name());
+        } catch (Exception ex) {
+            throw new GameLoadingException("Cannot read the game save.", ex);
+        }
     }
 
     public void deleteSavedFile(String filePath) {
         this.gameSaver.deleteFile(filePath);
     }
 
+    /**
+     * Ends the console game process, never called by games hosted with others (server, simulations)
+     */
     public static void shutDown() {
-        System.out.println("Le jeu est terminé.");
+        Output console = new ConsoleOutput();
+        console.println("Le jeu est terminé.");
+        console.flush();
         System.exit(0);
     }
 
-    public void setParserAndGameSaver(String filePath, GameParameters gameParameters) {
+    /**
+     * Configuration file parser is picked by file extension, game saves are always JSON files
+     * A game saver set before loading (setGameSaver) is kept
+     * @param filePath configuration file path
+     */
+    public void setParserAndGameSaver(String filePath) {
         if(filePath.toLowerCase().endsWith(".json")) {
             this.parser = new JSONParser();
-            this.parser.setGameParametersChosen(gameParameters);
+        }
+        else if(filePath.toLowerCase().endsWith(ScenarioCompiler.FILE_EXTENSION)) {
+            this.parser = new BinaryParser();
+        }
+        this.saveParser = new JSONParser();
+        if(this.gameSaver == null) {
             this.gameSaver = new JSONGameSaver(this);
         }
     }
 
-    public void setRepublic() {
+    /**
+     * @param gameSaver where the game is saved and its game save looked up, e.g. a NoGameSaver for a game which must not touch the disk
+     */
+    public void setGameSaver(GameSaver gameSaver) {
+        this.gameSaver = gameSaver;
+    }
+
+    /**
+     * Creates this game republic, event effects on it are scaled with the game difficulty
+     * @param startParameters resources and factions to start with
+     * @throws GameLoadingException start parameters are incorrect
+     */
+    public void setRepublic(StartParameters startParameters) throws GameLoadingException {
         try {
-            Population population = this.parser.parsePopulation();
-            Resources resources = this.parser.parseResources();
-            this.republic = new Republic(population, resources);
-            this.republic.events = this.events;
+            Population population = startParameters.createPopulation(this.random);
+            Resources resources = startParameters.createResources();
+            setRepublic(population, resources);
         } catch (Exception ex) {
-            ex.printStackTrace();
-            shutDown();
+            throw new GameLoadingException("Cannot create the republic from the start parameters.", ex);
         }
     }
+
+    private void setRepublic(Population population, Resources resources) {
+        this.republic = new Republic(population, resources, this.gameDifficulty.getDifficultyCoefficient());
+        this.republic.events = this.events;
+        this.republic.setBatchedEffects(true);
+        this.republic.setOutput(this.output);
+        this.gamePlay.watchRepublic(this.republic);
+    }
     /**
      * Launches the game if game conditions are set (republic and events)
      * @throws NullPointerException Republic is not fully set
@@ -185,9 +405,15 @@ public abstract class Game {
     public void launchGame() throws NullPointerException, MissingEventsException {
         if(this.republic.isSet()) {
             if(this.gamePlay.canPlayEvents()) {
-                GamePlayerInput.displayScaredOrNotScared("Continuer");
-                if(GamePlayerInput.wantsToQuitGame()) { shutDown(); }
-                System.out.printf("%nLancement du jeu...%n");
+                boolean wantsToQuitGame = this.player.wantsToQuitGame();
+                this.journal.record(GameJournal.QUIT_GAME, wantsToQuitGame ? 1 : 0);
+                if(wantsToQuitGame) {
+                    this.hasPlayerQuit = true;
+                    this.outcome = GameOutcome.QUIT;
+                    this.journal.end(this);
+                    return;
+                }
+                this.output.printf("%nLancement du jeu...%n");
                 displayPregame();
                 play();
             }
@@ -196,37 +422,73 @@ public abstract class Game {
             }
         }
         else {
-            System.out.printf("%n%nArrêt du jeu...%n");
+            this.output.printf("%n%nArrêt du jeu...%n");
             throw new NullPointerException("Republic properties are not set.");
         }
     }
 
     public void displayPregame() {
-        GamePlayerInput.pressAnyKeyToContinue();
+        this.player.pressAnyKeyToContinue();
         displayGameModeAndDifficulty();
-        this.gamePlay.displayContext();
-        GamePlayerInput.pressAnyKeyToContinue();
-        System.out.printf("%n%n%n%n%n%n%n%n%n%n%n%n%n%n%nVous commencez avec ces paramètres de jeu : %n");
+        this.gamePlay.displayContext(this.output);
+        this.player.pressAnyKeyToContinue();
+        this.output.printf("%n%n%n%n%n%n%n%n%n%n%n%n%n%n%nVous commencez avec ces paramètres de jeu : %n");
         displaySummary();
     }
 
     public void displayGameModeAndDifficulty() {
-        System.out.printf("%nMode de jeu : %s | En difficulté : %s%n", toString(), this.gameDifficulty.toString());
+        this.output.printf("%nMode de jeu : %s | En difficulté : %s%n", toString(), this.gameDifficulty.toString());
     }
 
     public void play() {
         this.gamePlay.nextEvent();
         playsGame();
+        endGame();
+    }
+
+    /**
+     * Plays the rest of the game from a choice for its current event, as play() would (forked games)
+     * @param choice choice for the current event, whose irreversible effects are already applied
+     */
+    public void playFromChoice(int choice) {
+        this.journal.record(GameJournal.EVENT_SOLUTION, choice);
+        playerChoiceEffects(choice);
+        endCurrentGameTurn();
+        if(!isOverAfterGameTurn()) {
+            playsGame();
+        }
+        endGame();
+    }
+
+    private void endGame() {
+        if(this.hasPlayerQuit) {
+            this.journal.end(this);
+            this.output.flush();
+            return;
+        }
         addEndGameScore();
+        if(this.outcome == null) {
+            this.outcome = isPlayerWinning() ? GameOutcome.WON : GameOutcome.LOST_AT_SCENARIO_END;
+        }
+        this.journal.end(this);
         finalSummary();
         handlePlayerEndGame();
         if(this.isASavedGame) { deleteSavedFile(getSavePath()); }
+        this.output.flush();
     }
 
     public abstract boolean keepsPlaying();
 
     public abstract void playsGame();
 
+    /**
+     * Checks made right after a game turn, before the next one
+     * @return if the game is over
+     */
+    protected boolean isOverAfterGameTurn() {
+        return false;
+    }
+
     public abstract void handlePlayerEndGame();
 
     public boolean isPlayerWinning() {
@@ -242,9 +504,15 @@ public abstract class Game {
      * Launches year end summary when needed
      */
     public void playCurrentGameTurn() {
-        System.out.printf("%n%n-- Nous sommes en %s de la %de année --%n", this.gamePlay.getCurrentSeason().capitalize(), getYear() + 1);
+        this.output.printf("%n%n-- Nous sommes en %s de la %de année --%n", this.gamePlay.getCurrentSeason().capitalize(), getYear() + 1);
         handleCurrentSeason(this.eventCount);
+        endCurrentGameTurn();
+    }
 
+    /**
+     * Sets next season and event, launches year end summary when needed
+     */
+    public void endCurrentGameTurn() {
         this.gamePlay.nextSeason();
         this.gamePlay.nextEvent();
 
@@ -262,10 +530,11 @@ public abstract class Game {
      * @param nbEvents event count for displaying
      */
     public void handleCurrentSeason(int nbEvents) {
-        this.gamePlay.displayCurrentEvent(nbEvents);
+        this.gamePlay.displayCurrentEvent(nbEvents, this.output, this.gameDifficulty.getDifficultyCoefficient());
         this.republic.irreversibleEventEffects(getCurrentEvent());
 
-        int playerSolutionChoice = GamePlayerInput.getPlayerEventSolutionChoice(getCurrentEvent().getNbChoices());
+        int playerSolutionChoice = this.player.chooseEventSolution(this, getCurrentEvent().getNbChoices());
+        this.journal.record(GameJournal.EVENT_SOLUTION, playerSolutionChoice);
         playerChoiceEffects(playerSolutionChoice);
     }
 
@@ -292,25 +561,28 @@ public abstract class Game {
 
     /**
      * Ask every year if player wants to continue playing
+     * Quitting ends the game loop, the caller decides what happens next (shut down, new game...)
      */
     public void askPlayerWantsToKeepPlaying() {
-        GamePlayerInput.displayContinueOrSaveAndOrQuit();
-        int playerChoice = GamePlayerInput.makeContinueOrSaveAndOrQuitChoice();
+        int playerChoice = this.player.chooseContinueOrSaveAndOrQuit(this);
+        this.journal.record(GameJournal.CONTINUE_OR_QUIT, playerChoice);
         if(playerChoice == GameInputOptions.END_YEAR_QUIT) {
             if(this.isASavedGame) {
                 deleteSavedFile(getSavePath());
             }
             addEndGameScore();
             finalSummary();
-            shutDown();
+            this.hasPlayerQuit = true;
+            this.outcome = GameOutcome.QUIT;
         }
         else if(playerChoice == GameInputOptions.END_YEAR_SAVE_AND_QUIT) {
             finalSummary();
             saveGame();
-            shutDown();
+            this.hasPlayerQuit = true;
+            this.outcome = GameOutcome.QUIT;
         }
         else {
-            System.out.printf("%n%nContinuons !%n");
+            this.output.printf("%n%nContinuons !%n");
         }
 
     }
@@ -332,12 +604,12 @@ public abstract class Game {
      */
     public void endOfYearConsequencesAndChoices() {
         generateIncomes();
-        GamePlayerInput.pressAnyKeyToContinue();
+        this.player.pressAnyKeyToContinue();
 
         displaySummary();
 
         handlePlayerYearEndChoices(0);
-        GamePlayerInput.pressAnyKeyToContinue();
+        this.player.pressAnyKeyToContinue();
 
         killAndOrFeedCitizen();
     }
@@ -345,8 +617,8 @@ public abstract class Game {
     public void generateIncomes() {
         this.republic.getResources().generateFarmIncome();
         this.republic.getResources().generateIndustryIncome();
-        System.out.printf("%n%nL'agriculture a généré cette année %d unité(s) de nourriture.", this.republic.getResources().getFoodIncomeFromFarm());
-        System.out.printf("%nL'industrie, quant à elle, a généré cette année %d$.", this.republic.getResources().getMoneyIncomeFromIndustry());
+        this.output.printf("%n%nL'agriculture a généré cette année %d unité(s) de nourriture.", this.republic.getResources().getFoodIncomeFromFarm());
+        this.output.printf("%nL'industrie, quant à elle, a généré cette année %d$.", this.republic.getResources().getMoneyIncomeFromIndustry());
     }
 
     public void killAndOrFeedCitizen() {
@@ -358,27 +630,29 @@ public abstract class Game {
 
     public void applyFoodConsequences(boolean hasEliminatedSupporters, int nbCitizensEliminated) {
         if(hasEliminatedSupporters) {
-            System.out.println("La population a diminué car vous n'aviez pas assez de nourriture.");
-            System.out.printf("%nVous avez perdu %d citoyens.%n", nbCitizensEliminated);
+            this.output.println("La population a diminué car vous n'aviez pas assez de nourriture.");
+            this.output.printf("%nVous avez perdu %d citoyens.%n", nbCitizensEliminated);
         }
         else {
             int nbNewCitizens = this.republic.getPopulation().increasePopulationRandomly();
-            System.out.println("Félicitation, vous avez assez de nourriture pour nourriture toute votre population.");
-            System.out.println("Vous avez même du surplus.");
-            System.out.printf("%nAinsi, la population a augmenté de %d citoyens.%n", nbNewCitizens);
+            this.output.println("Félicitation, vous avez assez de nourriture pour nourriture toute votre population.");
+            this.output.println("Vous avez même du surplus.");
+            this.output.printf("%nAinsi, la population a augmenté de %d citoyens.%n", nbNewCitizens);
         }
-        GamePlayerInput.pressAnyKeyToContinue();
+        this.player.pressAnyKeyToContinue();
     }
 
     public void displaySummary() {
-        if(getYear() > 0) {
-            System.out.printf("%n%n- Bilan de cette %de année -%n", getYear() + 1);
+        if(this.output.isEnabled()) {
+            if(getYear() > 0) {
+                this.output.printf("%n%n- Bilan de cette %de année -%n", getYear() + 1);
+            }
+            this.republic.getPopulation().displaySummary(this.output);
+            this.output.println();
+            this.republic.getResources().displaySummary(this.output);
+            this.output.printf("%n%n- Score : %.2f -%n", this.score);
         }
-        this.republic.getPopulation().displaySummary();
-        System.out.println();
-        this.republic.getResources().displaySummary();
-        System.out.printf("%n%n- Score : %.2f -%n", this.score);
-        GamePlayerInput.pressAnyKeyToContinue();
+        this.player.pressAnyKeyToContinue();
     }
 
     public void handlePlayerYearEndChoices(int nbChoicesDone) {
@@ -386,29 +660,55 @@ public abstract class Game {
             throw new IllegalArgumentException("Number of choices done at year end can't be negative");
         }
         displayPlayerYearEndChoices();
-        int playerYearEndChoice = GamePlayerInput.chooseEndYearOption();
-        this.republic.playerEndYearChoiceImpacts(playerYearEndChoice, nbChoicesDone);
+        int playerYearEndChoice = this.player.chooseEndYearOption(this, nbChoicesDone);
+        this.journal.record(GameJournal.END_YEAR_OPTION, playerYearEndChoice);
+        playerEndYearChoiceImpacts(playerYearEndChoice, nbChoicesDone);
         if(canRedoYearEndChoice(playerYearEndChoice)) {
             nbChoicesDone += 1;
-            GamePlayerInput.pressAnyKeyToContinue();
+            this.player.pressAnyKeyToContinue();
             handlePlayerYearEndChoices(nbChoicesDone);
         }
     }
 
+    /**
+     * Applies the player's year end option, asking him the faction to bribe or the food units to buy
+     * @param choice player's year end option
+     * @param nbChoicesDone number of year end options already chosen this year
+     */
+    public void playerEndYearChoiceImpacts(int choice, int nbChoicesDone) {
+        if(choice == GameInputOptions.YEAR_END_DO_NOTHING_CHOICE) {
+            this.republic.displayDoNothingChoice(nbChoicesDone);
+        }
+        if(choice == GameInputOptions.YEAR_END_BRIBE_CHOICE) {
+            Population population = this.republic.getPopulation();
+            population.displayAvailableFactions(this.output);
+            int indexFactionToBribe = this.player.chooseFactionToBribe(this, population.getNbFactions());
+            this.journal.record(GameJournal.FACTION_TO_BRIBE, indexFactionToBribe);
+            String factionToBribe = population.getFactionNameByIndex(indexFactionToBribe);
+            this.republic.bribeIfPossible(factionToBribe);
+        }
+        if(choice == GameInputOptions.YEAR_END_BUY_FOOD_CHOICE) {
+            int foodUnitPossibleToBuy = this.republic.getResources().buyingFoodUnitsPossible();
+            int foodUnitsToBuy = this.player.chooseFoodUnitsToBuy(this, foodUnitPossibleToBuy);
+            this.journal.record(GameJournal.FOOD_UNITS, foodUnitsToBuy);
+            this.republic.buyFoodIfPossible(foodUnitsToBuy);
+        }
+    }
+
     public boolean canRedoYearEndChoice(int playerYearEndChoice) {
         return playerYearEndChoice == GameInputOptions.YEAR_END_BRIBE_CHOICE || playerYearEndChoice == GameInputOptions.YEAR_END_BUY_FOOD_CHOICE;
     }
 
     public void displayPlayerYearEndChoices() {
-        System.out.printf("%n%nEn cette fin d'année, vous avez plusieurs options qui se présente à vous pour tenter de sauver votre république de l'insurrection.%n");
-        System.out.println("Option 1 : Ne rien faire");
-        System.out.println("Option 2 : Pot-de-vin à une faction (coût par partisan : 15$)");
-        System.out.println("\t=> Possible sur toute faction sauf les Loyalistes");
-        System.out.println("\t=> +10 points de pourcentage de satisfaction sur la faction choisie");
-        System.out.printf("\t=> Diminution de la satisfaction des Loyalistes à hauteur du prix du pot-de-vin (prix / %d)%n", GameRules.BRIBE_FACTION_DECREASE_LOYALISTS_SATISFACTION);
-        System.out.println("Option 3 : Marché alimentaire (coût par unité : 8$)");
-        System.out.println("\t=> Rappel : 4 unités de nourriture par citoyen sont nécessaires");
-        System.out.println("Entrez votre choix :");
+        this.output.printf("%n%nEn cette fin d'année, vous avez plusieurs options qui se présente à vous pour tenter de sauver votre république de l'insurrection.%n");
+        this.output.println("Option 1 : Ne rien faire");
+        this.output.println("Option 2 : Pot-de-vin à une faction (coût par partisan : 15$)");
+        this.output.println("\t=> Possible sur toute faction sauf les Loyalistes");
+        this.output.println("\t=> +10 points de pourcentage de satisfaction sur la faction choisie");
+        this.output.printf("\t=> Diminution de la satisfaction des Loyalistes à hauteur du prix du pot-de-vin (prix / %d)%n", GameRules.BRIBE_FACTION_DECREASE_LOYALISTS_SATISFACTION);
+        this.output.println("Option 3 : Marché alimentaire (coût par unité : 8$)");
+        this.output.println("\t=> Rappel : 4 unités de nourriture par citoyen sont nécessaires");
+        this.output.println("Entrez votre choix :");
     }
 
     public void setScore(double score) {
@@ -426,17 +726,19 @@ public abstract class Game {
      */
     public boolean didPlayerFailedCatchingUp() {
         if(!canCatchUp()) {
+            this.outcome = isScorePositive() ? GameOutcome.EMPTY_POPULATION : GameOutcome.NEGATIVE_SCORE;
             displayPlayerLostAndCannotCatchUp();
-            GamePlayerInput.pressAnyKeyToContinue();
+            this.player.pressAnyKeyToContinue();
             return true;
         }
         else {
             displayPlayerLostButCanCatchUp();
-            GamePlayerInput.pressAnyKeyToContinue();
+            this.player.pressAnyKeyToContinue();
             endOfYearConsequencesAndChoices();
             if(!isPlayerWinning()) {
-                System.out.printf("%n%nDommage, malgré ce dernier effort, vous avez perdu la partie...%n");
-                GamePlayerInput.pressAnyKeyToContinue();
+                this.outcome = GameOutcome.FAILED_CATCHING_UP;
+                this.output.printf("%n%nDommage, malgré ce dernier effort, vous avez perdu la partie...%n");
+                this.player.pressAnyKeyToContinue();
                 return true;
             }
         }
@@ -453,10 +755,10 @@ public abstract class Game {
     }
 
     public void finalSummary() {
-        System.out.printf("%n==========================%n");
-        System.out.printf("%n- Voici votre bilan final : -%n");
+        this.output.printf("%n==========================%n");
+        this.output.printf("%n- Voici votre bilan final : -%n");
         displaySummary();
-        System.out.printf("%n- Voici votre score final : %.2f -%n", getScore());
+        this.output.printf("%n- Voici votre score final : %.2f -%n", getScore());
     }
 
     public void addEndGameScore() {
@@ -469,16 +771,16 @@ public abstract class Game {
     }
 
     public void displayPlayerLostAndCannotCatchUp() {
-        System.out.printf("%nUn dernier bilan vous sera affiché mais le jeu est fini pour vous. %nGAME OVER.%n");
+        this.output.printf("%nUn dernier bilan vous sera affiché mais le jeu est fini pour vous. %nGAME OVER.%n");
     }
 
     public void displayPlayerLostButCanCatchUp() {
-        System.out.println("Un dernier bilan vous sera affiché.");
-        System.out.println("Cependant, peut-être que vous pouvez encore sauver votre république.");
-        System.out.println("Essayez d'améliorer la satisfaction globale de votre république...");
+        this.output.println("Un dernier bilan vous sera affiché.");
+        this.output.println("Cependant, peut-être que vous pouvez encore sauver votre république.");
+        this.output.println("Essayez d'améliorer la satisfaction globale de votre république...");
     }
 
     public void displayGameIsFinished() {
-        System.out.printf("%nVotre partie en mode %s est terminée.%n", toString());
+        this.output.printf("%nVotre partie en mode %s est terminée.%n", toString());
     }
 }
\ No newline at end of file
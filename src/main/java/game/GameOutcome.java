@@ -0,0 +1,17 @@
+package game;
+
+/**
+ * How a game ended
+ */
+public enum GameOutcome {
+    WON,
+    LOST_AT_SCENARIO_END,
+    FAILED_CATCHING_UP,
+    EMPTY_POPULATION,
+    NEGATIVE_SCORE,
+    QUIT;
+
+    public boolean isLost() {
+        return this != WON && this != QUIT;
+    }
+}
@@ -0,0 +1,169 @@
+package game;
+
+import game.journal.GameJournal;
+import game.needs.GameRandom;
+import gameplay.Event;
+import gameplay.GamePlay;
+import gameplay.Season;
+import republic.Republic;
+import republic.economy.Resources;
+import republic.factions.FactionTypes;
+import republic.factions.Population;
+
+/**
+ * Values of a game state at one time : score, progress in the game play, republic resources and factions,
+ * random generator state, journal of the decisions taken so far
+ * A snapshot holds no listener nor game object, it never changes once taken so a game can be restored to it
+ * or forked from it any number of times, each in O(size of the state)
+ * Events are shared with the game, they are never modified during a game
+ */
+public final class GameSnapshot {
+    private final double score;
+    private final int eventCount;
+    private final GameOutcome outcome;
+    private final boolean hasPlayerQuit;
+    private final int year;
+    private final Season firstSeason;
+    private final Season currentSeason;
+    private final Event currentEvent;
+    private final Event[][] eventsBySeason;
+    private final FactionTypes factionTypes;
+    private final int[] nbSupporters;
+    private final int[] satisfactionRates;
+    private final int foodUnits;
+    private final double money;
+    private final int farmRate;
+    private final int industryRate;
+    private final GameRandom random;
+    private final GameJournal journal;
+
+    GameSnapshot(Game game, GameOutcome outcome, boolean hasPlayerQuit) {
+        this.score = game.score;
+        this.eventCount = game.eventCount;
+        this.outcome = outcome;
+        this.hasPlayerQuit = hasPlayerQuit;
+        GamePlay gamePlay = game.gamePlay;
+        this.year = gamePlay.getYear();
+        this.firstSeason = gamePlay.getFirstSeason();
+        this.currentSeason = gamePlay.getCurrentSeason();
+        this.currentEvent = gamePlay.getCurrentEvent();
+        this.eventsBySeason = gamePlay.copyEventsBySeason();
+        Population population = game.republic.getPopulation();
+        this.factionTypes = population.getFactionTypes();
+        this.nbSupporters = new int[population.getNbFactions()];
+        this.satisfactionRates = new int[population.getNbFactions()];
+        for(int factionId = 0; factionId < population.getNbFactions(); factionId += 1) {
+            this.nbSupporters[factionId] = population.getNbSupporters(factionId);
+            this.satisfactionRates[factionId] = population.getSatisfactionRate(factionId);
+        }
+        Resources resources = game.republic.getResources();
+        this.foodUnits = resources.getFoodUnits();
+        this.money = resources.getMoney();
+        this.farmRate = resources.getFarmRate();
+        this.industryRate = resources.getIndustryRate();
+        this.random = game.random.copy();
+        this.journal = game.getJournal().copy();
+    }
+
+    public double getScore() {
+        return this.score;
+    }
+
+    public int getEventCount() {
+        return this.eventCount;
+    }
+
+    public GameOutcome getOutcome() {
+        return this.outcome;
+    }
+
+    public boolean hasPlayerQuit() {
+        return this.hasPlayerQuit;
+    }
+
+    public int getYear() {
+        return this.year;
+    }
+
+    public Season getFirstSeason() {
+        return this.firstSeason;
+    }
+
+    public Season getCurrentSeason() {
+        return this.currentSeason;
+    }
+
+    /**
+     * @return number of events of a season, 0 for a season without events
+     */
+    public int getNbEvents(Season season) {
+        Event[] seasonEvents = this.eventsBySeason[season.ordinal()];
+        return seasonEvents == null ? 0 : seasonEvents.length;
+    }
+
+    public Event getEvent(Season season, int index) {
+        return this.eventsBySeason[season.ordinal()][index];
+    }
+
+    public Event getCurrentEvent() {
+        return this.currentEvent;
+    }
+
+    public FactionTypes getFactionTypes() {
+        return this.factionTypes;
+    }
+
+    public int getNbSupporters(int factionId) {
+        return this.nbSupporters[factionId];
+    }
+
+    public int getSatisfactionRate(int factionId) {
+        return this.satisfactionRates[factionId];
+    }
+
+    public int getFoodUnits() {
+        return this.foodUnits;
+    }
+
+    public double getMoney() {
+        return this.money;
+    }
+
+    public int getFarmRate() {
+        return this.farmRate;
+    }
+
+    public int getIndustryRate() {
+        return this.industryRate;
+    }
+
+    /**
+     * @return state of the random generator of the game
+     */
+    public long getRandomState() {
+        return this.random.getState();
+    }
+
+    /**
+     * @return a generator drawing the numbers the game drew after the snapshot
+     */
+    GameRandom getRandom() {
+        return this.random;
+    }
+
+    GameJournal getJournal() {
+        return this.journal;
+    }
+
+    void restoreRepublic(Republic republic) {
+        Population population = republic.getPopulation();
+        for(int factionId = 0; factionId < this.nbSupporters.length; factionId += 1) {
+            population.setFaction(factionId, this.nbSupporters[factionId], this.satisfactionRates[factionId]);
+        }
+        republic.getResources().setValues(this.foodUnits, this.money, this.farmRate, this.industryRate);
+    }
+
+    void restoreGamePlay(GamePlay gamePlay) {
+        gamePlay.restore(this.firstSeason, this.currentSeason, this.year, this.currentEvent, this.eventsBySeason);
+    }
+}
@@ -1,6 +1,12 @@
 package game;
 
 import game.needs.GameDifficulty;
+import game.needs.GameRandom;
+import game.players.Player;
+import gameplay.GamePlay;
+import gameplay.SandboxGamePlay;
+import gameplay.Season;
+import output.Output;
 
 import java.util.Objects;
 
@@ -10,6 +16,24 @@ public class SandboxGame extends Game {
         super(gameDifficulty, playerName);
     }
 
+    public SandboxGame(GameDifficulty gameDifficulty, String playerName, Player player, Output output) {
+        super(gameDifficulty, playerName, player, output);
+    }
+
+    public SandboxGame(GameDifficulty gameDifficulty, String playerName, Player player, Output output, GameRandom random) {
+        super(gameDifficulty, playerName, player, output, random);
+    }
+
+    @Override
+    protected Game newGame(Player player, Output output, GameRandom random) {
+        return new SandboxGame(this.gameDifficulty, this.playerName, player, output, random);
+    }
+
+    @Override
+    protected GamePlay newGamePlay(String name, String story, Season firstSeason) {
+        return new SandboxGamePlay(name, story, firstSeason, this.random);
+    }
+
     /**
      * While the player's score is above a certain amount
      * and his global satisfaction rate is above a certain percentage
@@ -19,17 +43,26 @@ public class SandboxGame extends Game {
     public void playsGame() {
         while(keepsPlaying()) {
             playCurrentGameTurn();
-            if(!isPlayerWinning()) {
-                if(didPlayerFailedCatchingUp()) {
-                    break;
-                }
+            if(isOverAfterGameTurn()) {
+                break;
             }
         }
     }
 
+    /**
+     * A player who is losing tries to catch up right after the turn
+     */
+    @Override
+    protected boolean isOverAfterGameTurn() {
+        if(hasPlayerQuit()) {
+            return true;
+        }
+        return !isPlayerWinning() && didPlayerFailedCatchingUp();
+    }
+
     @Override
     public boolean keepsPlaying() {
-        return isPlayerWinning();
+        return !hasPlayerQuit() && isPlayerWinning();
     }
 
     /**
@@ -1,6 +1,12 @@
 package game;
 
 import game.needs.GameDifficulty;
+import game.needs.GameRandom;
+import game.players.Player;
+import gameplay.GamePlay;
+import gameplay.ScenarioGamePlay;
+import gameplay.Season;
+import output.Output;
 
 import java.net.URL;
 import java.util.Objects;
@@ -11,6 +17,24 @@ public class ScenarioGame extends Game {
         super(gameDifficulty, playerName);
     }
 
+    public ScenarioGame(GameDifficulty gameDifficulty, String playerName, Player player, Output output) {
+        super(gameDifficulty, playerName, player, output);
+    }
+
+    public ScenarioGame(GameDifficulty gameDifficulty, String playerName, Player player, Output output, GameRandom random) {
+        super(gameDifficulty, playerName, player, output, random);
+    }
+
+    @Override
+    protected Game newGame(Player player, Output output, GameRandom random) {
+        return new ScenarioGame(this.gameDifficulty, this.playerName, player, output, random);
+    }
+
+    @Override
+    protected GamePlay newGamePlay(String name, String story, Season firstSeason) {
+        return new ScenarioGamePlay(name, story, firstSeason, this.random);
+    }
+
     /**
      * While the scenario is not finished and the player's score is above a certain amount
      * and his global satisfaction rate is above a certain percentage
@@ -23,7 +47,7 @@ public class ScenarioGame extends Game {
                 playCurrentGameTurn();
             }
             else {
-                System.out.printf("%n%n%nLe scénario n'est pas fini mais vous avez perdu...%n");
+                this.output.printf("%n%n%nLe scénario n'est pas fini mais vous avez perdu...%n");
                 if(didPlayerFailedCatchingUp()) {
                     break;
                 }
@@ -33,7 +57,7 @@ public class ScenarioGame extends Game {
 
     @Override
     public boolean keepsPlaying() {
-        return !isScenarioFinished();
+        return !hasPlayerQuit() && !isScenarioFinished();
     }
 
     /**
@@ -50,7 +74,7 @@ public class ScenarioGame extends Game {
             else {
                 displayPlayerFinishedScenarioButLost();
             }
-            System.out.printf("%nVous avez fini le scénario : %s%n", gamePlay.getName());
+            this.output.printf("%nVous avez fini le scénario : %s%n", gamePlay.getName());
         }
         else {
             displayGameIsFinished();
@@ -62,14 +86,14 @@ public class ScenarioGame extends Game {
     }
 
     public void displayPlayerFinishedScenarioButLost() {
-        System.out.printf("%n%nLe scénario est fini. Mais vous avez perdu la partie.%n");
-        System.out.println("Dommage, les derniers évènements vous ont mis dans le rouge.");
-        System.out.println("Réessayez une prochaine fois !");
+        this.output.printf("%n%nLe scénario est fini. Mais vous avez perdu la partie.%n");
+        this.output.println("Dommage, les derniers évènements vous ont mis dans le rouge.");
+        this.output.println("Réessayez une prochaine fois !");
     }
 
     public void displayPlayerWon() {
-        System.out.println("Le scénario est fini. Vous avez gagné la partie.");
-        System.out.println("Félicitations !");
+        this.output.println("Le scénario est fini. Vous avez gagné la partie.");
+        this.output.println("Félicitations !");
     }
 
     @Override
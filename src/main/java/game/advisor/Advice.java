@@ -0,0 +1,52 @@
+package game.advisor;
+
+/**
+ * Choice recommended by the advisor for an event, with the statistics of the simulated games behind it
+ */
+public class Advice {
+    private final int choice;
+    private final int[] nbVisits;
+    private final double[] meanValues;
+    private final long nbRollouts;
+
+    Advice(int choice, int[] nbVisits, double[] meanValues, long nbRollouts) {
+        this.choice = choice;
+        this.nbVisits = nbVisits;
+        this.meanValues = meanValues;
+        this.nbRollouts = nbRollouts;
+    }
+
+    /**
+     * @return recommended choice between 1 and the number of choices of the event
+     */
+    public int getChoice() {
+        return this.choice;
+    }
+
+    public int getNbChoices() {
+        return this.nbVisits.length;
+    }
+
+    /**
+     * @param choice choice between 1 and the number of choices
+     * @return number of simulated games starting with this choice
+     */
+    public int getNbVisits(int choice) {
+        return this.nbVisits[choice - 1];
+    }
+
+    /**
+     * @param choice choice between 1 and the number of choices
+     * @return mean value of the simulated games starting with this choice, NaN if none was simulated
+     */
+    public double getMeanValue(int choice) {
+        return this.meanValues[choice - 1];
+    }
+
+    /**
+     * @return number of simulated games
+     */
+    public long getNbRollouts() {
+        return this.nbRollouts;
+    }
+}
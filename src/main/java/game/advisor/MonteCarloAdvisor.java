@@ -0,0 +1,378 @@
+package game.advisor;
+
+import game.Game;
+import game.GameSnapshot;
+import game.needs.GameRandom;
+import game.players.Player;
+import game.players.RandomPlayer;
+import gameplay.Event;
+import output.Output;
+import output.SilentOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recommends a choice for the current event of a game with a Monte Carlo tree search over the real game rules
+ *
+ * Each worker thread forks the game once, then restores the fork to the snapshot of the game for every rollout
+ * (simulated game) with a random stream of its own. Event choices of a rollout follow the search tree while it
+ * is known (UCB1), one node is added to the tree by rollout, then choices and year end options are random until the
+ * game ends or the search horizon is reached. The value of the rollout is added to every choice of its path
+ *
+ * Workers share the tree, a choice being counted as visited as soon as it is selected so that parallel rollouts
+ * spread over the choices : rollouts still running shrink the exploration bonus of their choices, while mean values
+ * are over finished rollouts only. The search stops at its deadline, rollouts still running are dropped
+ */
+public class MonteCarloAdvisor implements AutoCloseable {
+    public static final int DEFAULT_HORIZON_YEARS = 10;
+    public static final double DEFAULT_EXPLORATION = Math.sqrt(2);
+
+    private final ExecutorService executor;
+    private final int nbThreads;
+    private final Objective objective;
+    private final int horizonYears;
+    private final double exploration;
+    private final GameRandom random;
+    private final Output silentOutput = new SilentOutput();
+
+    public MonteCarloAdvisor(Objective objective) {
+        this(objective, Runtime.getRuntime().availableProcessors(), DEFAULT_HORIZON_YEARS, new GameRandom());
+    }
+
+    /**
+     * @param objective what the advice maximises
+     * @param nbThreads number of worker threads
+     * @param horizonYears number of years simulated after the current one, at most
+     * @param random random generator of the rollouts, a seeded one makes the rollouts reproducible with one thread
+     */
+    public MonteCarloAdvisor(Objective objective, int nbThreads, int horizonYears, GameRandom random) {
+        if(nbThreads < 1 || horizonYears < 1) {
+            throw new IllegalArgumentException("The advisor needs at least one thread and one year of horizon!");
+        }
+        this.objective = objective;
+        this.nbThreads = nbThreads;
+        this.horizonYears = horizonYears;
+        this.exploration = DEFAULT_EXPLORATION;
+        this.random = random;
+        this.executor = Executors.newFixedThreadPool(nbThreads, runnable -> {
+            Thread thread = new Thread(runnable, "monte-carlo-advisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Searches the best choice for the current event of a game, whose irreversible effects are already applied
+     * The game is not modified, the advice is given at the deadline at the latest
+     * @param game loaded game waiting for a choice for its current event
+     * @param timeBudgetMillis time given to the search
+     * @return recommended choice and statistics of the search
+     * @throws IllegalStateException a rollout failed for another reason than the deadline, the game engine is broken
+     */
+    public Advice advise(Game game, long timeBudgetMillis) throws IllegalStateException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        Search search = new Search(game, game.snapshot(), game.getCurrentEvent().getNbChoices(), deadline, game.getYear() + this.horizonYears);
+        CountDownLatch workersDone = new CountDownLatch(this.nbThreads);
+        for(int worker = 0; worker < this.nbThreads; worker += 1) {
+            GameRandom workerRandom = this.random.split();
+            this.executor.execute(() -> {
+                try {
+                    search.run(workerRandom);
+                } catch (RuntimeException ex) {
+                    search.fail(ex);
+                } finally {
+                    workersDone.countDown();
+                }
+            });
+        }
+        try {
+            workersDone.await(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        search.stop();
+        if(search.failure != null) {
+            throw new IllegalStateException("A rollout of the advisor failed.", search.failure);
+        }
+        return search.getAdvice();
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    private class Search {
+        private final Game game;
+        private final GameSnapshot snapshot;
+        private final long deadline;
+        private final int maxYear;
+        private final Node root;
+        private final AtomicLong nbRollouts = new AtomicLong();
+        private volatile boolean isStopped;
+        private volatile RuntimeException failure;
+
+        private Search(Game game, GameSnapshot snapshot, int nbChoices, long deadline, int maxYear) {
+            this.game = game;
+            this.snapshot = snapshot;
+            this.deadline = deadline;
+            this.maxYear = maxYear;
+            this.root = new Node(nbChoices);
+        }
+
+        private void stop() {
+            this.isStopped = true;
+        }
+
+        /**
+         * Stops the search on the first failure of a worker, it is then thrown by advise
+         */
+        private synchronized void fail(RuntimeException failure) {
+            if(this.failure == null) {
+                this.failure = failure;
+            }
+            stop();
+        }
+
+        private boolean isOver() {
+            return this.isStopped || System.nanoTime() - this.deadline >= 0;
+        }
+
+        private void run(GameRandom workerRandom) {
+            TreePlayer player = new TreePlayer(this, workerRandom);
+            Game rolloutGame = null;
+            while(!isOver()) {
+                if(rolloutGame == null) {
+                    rolloutGame = this.game.fork(this.snapshot, player, silentOutput);
+                }
+                else {
+                    rolloutGame.restore(this.snapshot);
+                }
+                rolloutGame.getRandom().restore(workerRandom.split());
+                int choiceIndex = player.startRollout(this.root);
+                try {
+                    rolloutGame.playFromChoice(choiceIndex + 1);
+                    player.backPropagate(objective.getValue(rolloutGame));
+                    this.nbRollouts.incrementAndGet();
+                } catch (RolloutCancelledException ex) {
+                    player.cancelRollout();
+                }
+            }
+        }
+
+        /**
+         * The most visited choice is recommended, its value being the most reliable
+         */
+        private Advice getAdvice() {
+            synchronized(this.root) {
+                int nbChoices = this.root.nbVisits.length;
+                int[] nbVisits = new int[nbChoices];
+                double[] meanValues = new double[nbChoices];
+                int bestChoiceIndex = 0;
+                for(int choiceIndex = 0; choiceIndex < nbChoices; choiceIndex += 1) {
+                    nbVisits[choiceIndex] = this.root.nbVisits[choiceIndex] - this.root.nbPendingVisits[choiceIndex];
+                    meanValues[choiceIndex] = nbVisits[choiceIndex] == 0 ? Double.NaN : this.root.totalValues[choiceIndex] / nbVisits[choiceIndex];
+                    if(nbVisits[choiceIndex] > nbVisits[bestChoiceIndex]
+                            || (nbVisits[choiceIndex] == nbVisits[bestChoiceIndex] && meanValues[choiceIndex] > meanValues[bestChoiceIndex])) {
+                        bestChoiceIndex = choiceIndex;
+                    }
+                }
+                return new Advice(bestChoiceIndex + 1, nbVisits, meanValues, this.nbRollouts.get());
+            }
+        }
+    }
+
+    /**
+     * Decision on an event : statistics of each choice, and the nodes of the events drawn after each choice
+     */
+    private class Node {
+        private final int[] nbVisits;
+        private final int[] nbPendingVisits;
+        private final double[] totalValues;
+        private final List<ConcurrentHashMap<Event, Node>> children;
+        private int nbTotalVisits;
+        private double minValue = Double.POSITIVE_INFINITY;
+        private double maxValue = Double.NEGATIVE_INFINITY;
+
+        private Node(int nbChoices) {
+            this.nbVisits = new int[nbChoices];
+            this.nbPendingVisits = new int[nbChoices];
+            this.totalValues = new double[nbChoices];
+            this.children = new ArrayList<>(nbChoices);
+            for(int choiceIndex = 0; choiceIndex < nbChoices; choiceIndex += 1) {
+                this.children.add(new ConcurrentHashMap<>());
+            }
+        }
+
+        /**
+         * Unvisited choices first, then UCB1 with an exploration scaled to the range of the values seen
+         * @return index of the selected choice, counted as visited until its rollout is back
+         */
+        private synchronized int select(Random random) {
+            int selectedIndex = -1;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            double valueRange = this.maxValue > this.minValue ? this.maxValue - this.minValue : 1;
+            double logTotalVisits = Math.log(Math.max(this.nbTotalVisits, 1));
+            int firstIndex = random.nextInt(this.nbVisits.length);
+            for(int offset = 0; offset < this.nbVisits.length; offset += 1) {
+                int choiceIndex = (firstIndex + offset) % this.nbVisits.length;
+                if(this.nbVisits[choiceIndex] == 0) {
+                    selectedIndex = choiceIndex;
+                    break;
+                }
+                int nbValuedVisits = this.nbVisits[choiceIndex] - this.nbPendingVisits[choiceIndex];
+                double meanValue = nbValuedVisits == 0 ? this.maxValue : this.totalValues[choiceIndex] / nbValuedVisits;
+                double bound = meanValue + exploration * valueRange * Math.sqrt(logTotalVisits / this.nbVisits[choiceIndex]);
+                if(bound > bestBound) {
+                    bestBound = bound;
+                    selectedIndex = choiceIndex;
+                }
+            }
+            this.nbVisits[selectedIndex] += 1;
+            this.nbPendingVisits[selectedIndex] += 1;
+            this.nbTotalVisits += 1;
+            return selectedIndex;
+        }
+
+        private synchronized void update(int choiceIndex, double value) {
+            this.nbPendingVisits[choiceIndex] -= 1;
+            this.totalValues[choiceIndex] += value;
+            this.minValue = Math.min(this.minValue, value);
+            this.maxValue = Math.max(this.maxValue, value);
+        }
+
+        private synchronized void cancel(int choiceIndex) {
+            this.nbPendingVisits[choiceIndex] -= 1;
+            this.nbVisits[choiceIndex] -= 1;
+            this.nbTotalVisits -= 1;
+        }
+
+        /**
+         * @return node of an event drawn after a choice, null if it is added to the tree by this call
+         */
+        private Node getChild(int choiceIndex, Event event, boolean[] isAdded) {
+            return this.children.get(choiceIndex).computeIfAbsent(event, drawnEvent -> {
+                isAdded[0] = true;
+                return new Node(drawnEvent.getNbChoices());
+            });
+        }
+    }
+
+    /**
+     * Rollout player of a worker : follows the tree while it is known, then plays at random until the horizon
+     */
+    private class TreePlayer implements Player {
+        private final Search search;
+        private final Random random;
+        private final RandomPlayer randomPlayer;
+        private final List<Node> pathNodes = new ArrayList<>();
+        private final List<Integer> pathChoices = new ArrayList<>();
+        private final boolean[] isAdded = new boolean[1];
+        private boolean isInTree;
+
+        private TreePlayer(Search search, GameRandom random) {
+            this.search = search;
+            this.random = random;
+            this.randomPlayer = new RandomPlayer(random, search.maxYear);
+        }
+
+        private int startRollout(Node root) {
+            this.pathNodes.clear();
+            this.pathChoices.clear();
+            this.isInTree = true;
+            return selectIn(root);
+        }
+
+        private int selectIn(Node node) {
+            int choiceIndex = node.select(this.random);
+            this.pathNodes.add(node);
+            this.pathChoices.add(choiceIndex);
+            return choiceIndex;
+        }
+
+        private void backPropagate(double value) {
+            for(int index = 0; index < this.pathNodes.size(); index += 1) {
+                this.pathNodes.get(index).update(this.pathChoices.get(index), value);
+            }
+        }
+
+        private void cancelRollout() {
+            for(int index = 0; index < this.pathNodes.size(); index += 1) {
+                this.pathNodes.get(index).cancel(this.pathChoices.get(index));
+            }
+        }
+
+        /**
+         * Rollouts still running at the deadline are dropped
+         */
+        private void checkSearch() {
+            if(this.search.isOver()) {
+                throw new RolloutCancelledException();
+            }
+        }
+
+        @Override
+        public boolean wantsToUseGameSave() {
+            return false;
+        }
+
+        @Override
+        public boolean wantsToQuitGame() {
+            return false;
+        }
+
+        @Override
+        public int chooseEventSolution(Game game, int nbChoices) {
+            checkSearch();
+            if(!this.isInTree) {
+                return this.random.nextInt(nbChoices) + 1;
+            }
+            int lastIndex = this.pathNodes.size() - 1;
+            this.isAdded[0] = false;
+            Node node = this.pathNodes.get(lastIndex).getChild(this.pathChoices.get(lastIndex), game.getCurrentEvent(), this.isAdded);
+            this.isInTree = !this.isAdded[0];
+            return selectIn(node) + 1;
+        }
+
+        @Override
+        public int chooseEndYearOption(Game game, int nbChoicesDone) {
+            checkSearch();
+            return this.randomPlayer.chooseEndYearOption(game, nbChoicesDone);
+        }
+
+        @Override
+        public int chooseFactionToBribe(Game game, int nbFactions) {
+            return this.randomPlayer.chooseFactionToBribe(game, nbFactions);
+        }
+
+        @Override
+        public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+            return this.randomPlayer.chooseFoodUnitsToBuy(game, foodUnitPossibleToBuy);
+        }
+
+        /**
+         * Rollouts end at the search horizon
+         */
+        @Override
+        public int chooseContinueOrSaveAndOrQuit(Game game) {
+            return this.randomPlayer.chooseContinueOrSaveAndOrQuit(game);
+        }
+
+        @Override
+        public void pressAnyKeyToContinue() {}
+    }
+
+    private static class RolloutCancelledException extends RuntimeException {
+        private RolloutCancelledException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package game.advisor;
+
+import game.Game;
+
+/**
+ * What the advisor maximises, the value of a simulated game
+ */
+public enum Objective {
+    /**
+     * Final score of the game
+     */
+    SCORE {
+        @Override
+        public double getValue(Game game) {
+            return game.getScore();
+        }
+    },
+    /**
+     * 1 if the republic survived until the end of the game or the search horizon, 0 if the game is lost
+     */
+    SURVIVAL {
+        @Override
+        public double getValue(Game game) {
+            return game.getOutcome() != null && game.getOutcome().isLost() ? 0 : 1;
+        }
+    };
+
+    /**
+     * @param game finished game
+     * @return value of the game
+     */
+    public abstract double getValue(Game game);
+}
@@ -0,0 +1,318 @@
+package game.journal;
+
+import game.Game;
+import game.GameOutcome;
+import game.needs.GameDifficulty;
+import game.needs.GameRandom;
+import republic.economy.Resources;
+import republic.factions.Population;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Compact append-only record of a game, enough to play it again (see JournalReplayer) :
+ * random generator state, game mode, difficulty, player name and scenario, then every decision of the player
+ * in the order the game asked them, then the end of the game (score, outcome and fingerprint of the republic)
+ *
+ * A decision is a varint of its zigzag value shifted left by 3 bits, or'ed with its type : most of them take one byte
+ */
+public class GameJournal {
+    public static final int USE_GAME_SAVE = 0;
+    public static final int QUIT_GAME = 1;
+    public static final int EVENT_SOLUTION = 2;
+    public static final int END_YEAR_OPTION = 3;
+    public static final int FACTION_TO_BRIBE = 4;
+    public static final int FOOD_UNITS = 5;
+    public static final int CONTINUE_OR_QUIT = 6;
+    static final int END = 7;
+    static final int TYPE_BITS = 3;
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final String gameMode;
+    private final GameDifficulty gameDifficulty;
+    private final String playerName;
+    private long randomState;
+    private long randomGamma;
+    private String scenarioId = "";
+    private byte[] records;
+    private int length;
+    private int endPosition = -1;
+
+    /**
+     * @param gameMode SandboxGame or ScenarioGame simple class name
+     * @param random random generator of the game, before its first draw
+     */
+    public GameJournal(String gameMode, GameDifficulty gameDifficulty, String playerName, GameRandom random) {
+        this(gameMode, gameDifficulty, playerName, random.getState(), random.getGamma(), new byte[INITIAL_CAPACITY], 0);
+    }
+
+    private GameJournal(String gameMode, GameDifficulty gameDifficulty, String playerName, long randomState, long randomGamma, byte[] records, int length) {
+        this.gameMode = gameMode;
+        this.gameDifficulty = gameDifficulty;
+        this.playerName = playerName;
+        this.randomState = randomState;
+        this.randomGamma = randomGamma;
+        this.records = records;
+        this.length = length;
+    }
+
+    public String getGameMode() {
+        return this.gameMode;
+    }
+
+    public GameDifficulty getGameDifficulty() {
+        return this.gameDifficulty;
+    }
+
+    public String getPlayerName() {
+        return this.playerName;
+    }
+
+    /**
+     * @return configuration file path the game was loaded from, empty before it is loaded
+     */
+    public String getScenarioId() {
+        return this.scenarioId;
+    }
+
+    public void setScenarioId(String scenarioId) {
+        this.scenarioId = scenarioId;
+    }
+
+    /**
+     * @return a random generator in the state of the game one before its first draw
+     */
+    public GameRandom newRandom() {
+        return new GameRandom(this.randomState, this.randomGamma);
+    }
+
+    /**
+     * Appends a decision of the player
+     * @param type one of the decision types of this class
+     * @param value decision as returned by the player
+     */
+    public void record(int type, int value) {
+        writeVarLong((zigzag(value) << TYPE_BITS) | type);
+    }
+
+    /**
+     * Appends the end of the game, once it is over
+     * @param game game recorded by this journal
+     */
+    public void end(Game game) {
+        this.endPosition = this.length;
+        writeVarLong(END);
+        writeLong(Double.doubleToLongBits(game.getScore()));
+        writeVarLong(game.getOutcome().ordinal());
+        writeLong(fingerprint(game));
+    }
+
+    public boolean isEnded() {
+        return this.endPosition >= 0;
+    }
+
+    /**
+     * @return if the game was continued from a game save, it can't be replayed then
+     */
+    public boolean hasUsedGameSave() {
+        JournalReader reader = getDecisionsReader();
+        while(reader.getPosition() < this.length) {
+            long record = reader.readVarLong();
+            if((record & ((1 << TYPE_BITS) - 1)) == USE_GAME_SAVE) {
+                return true;
+            }
+            if(record == END) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @throws IllegalStateException the game is not over
+     */
+    public double getScore() throws IllegalStateException {
+        return Double.longBitsToDouble(getEndReader().readLong());
+    }
+
+    /**
+     * @throws IllegalStateException the game is not over
+     */
+    public GameOutcome getOutcome() throws IllegalStateException {
+        JournalReader reader = getEndReader();
+        reader.readLong();
+        return GameOutcome.values()[(int) reader.readVarLong()];
+    }
+
+    /**
+     * @return fingerprint of the game at its end, see fingerprint(Game)
+     * @throws IllegalStateException the game is not over
+     */
+    public long getFingerprint() throws IllegalStateException {
+        JournalReader reader = getEndReader();
+        reader.readLong();
+        reader.readVarLong();
+        return reader.readLong();
+    }
+
+    /**
+     * @return reader of the decisions, from the first one to the end of the game
+     */
+    JournalReader getDecisionsReader() {
+        return new JournalReader(this.records, 0, this.length);
+    }
+
+    private JournalReader getEndReader() throws IllegalStateException {
+        if(!isEnded()) {
+            throw new IllegalStateException("The game of this journal is not over.");
+        }
+        JournalReader reader = new JournalReader(this.records, this.endPosition, this.length);
+        reader.readVarLong();
+        return reader;
+    }
+
+    /**
+     * @return a journal which will record the same game as this one from now on (game snapshots)
+     */
+    public GameJournal copy() {
+        GameJournal journal = new GameJournal(this.gameMode, this.gameDifficulty, this.playerName, this.randomState, this.randomGamma, Arrays.copyOf(this.records, this.length), this.length);
+        journal.scenarioId = this.scenarioId;
+        journal.endPosition = this.endPosition;
+        return journal;
+    }
+
+    /**
+     * Puts back the records of another journal of the same game, e.g. taken by copy() before later decisions
+     * A forked game gets the journal of the game it was forked from this way
+     * @param journal journal whose random generator state, scenario and records are copied
+     */
+    public void restore(GameJournal journal) {
+        this.randomState = journal.randomState;
+        this.randomGamma = journal.randomGamma;
+        if(this.records.length < journal.length) {
+            this.records = new byte[journal.records.length];
+        }
+        System.arraycopy(journal.records, 0, this.records, 0, journal.length);
+        this.length = journal.length;
+        this.endPosition = journal.endPosition;
+        this.scenarioId = journal.scenarioId;
+    }
+
+    /**
+     * @return values of the republic and of the progress of a game mixed in a 64 bits hash
+     */
+    public static long fingerprint(Game game) {
+        long hash = mix(0, game.getYear());
+        hash = mix(hash, game.getEventCount());
+        Population population = game.getRepublic().getPopulation();
+        for(int factionId = 0; factionId < population.getNbFactions(); factionId += 1) {
+            hash = mix(hash, population.getNbSupporters(factionId));
+            hash = mix(hash, population.getSatisfactionRate(factionId));
+        }
+        Resources resources = game.getRepublic().getResources();
+        hash = mix(hash, resources.getFoodUnits());
+        hash = mix(hash, Double.doubleToLongBits(resources.getMoney()));
+        hash = mix(hash, resources.getFarmRate());
+        return mix(hash, resources.getIndustryRate());
+    }
+
+    private static long mix(long hash, long value) {
+        long z = (hash ^ value) * 0xbf58476d1ce4e5b9L + 0x9e3779b97f4a7c15L;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return header then records of the journal, see fromByteArray
+     */
+    public byte[] toByteArray() {
+        byte[] gameMode = this.gameMode.getBytes(StandardCharsets.UTF_8);
+        byte[] playerName = this.playerName.getBytes(StandardCharsets.UTF_8);
+        byte[] scenarioId = this.scenarioId.getBytes(StandardCharsets.UTF_8);
+        GameJournal header = new GameJournal(this.gameMode, this.gameDifficulty, this.playerName, 0, 0, new byte[32 + gameMode.length + playerName.length + scenarioId.length + this.length], 0);
+        header.writeVarLong(VERSION);
+        header.writeLong(this.randomState);
+        header.writeLong(this.randomGamma);
+        header.writeVarLong(this.gameDifficulty.ordinal());
+        header.writeBytes(gameMode);
+        header.writeBytes(playerName);
+        header.writeBytes(scenarioId);
+        System.arraycopy(this.records, 0, header.records, header.length, this.length);
+        return Arrays.copyOf(header.records, header.length + this.length);
+    }
+
+    /**
+     * @param bytes journal written by toByteArray
+     * @return journal of the recorded game
+     * @throws IllegalArgumentException bytes are not a journal of this version
+     */
+    public static GameJournal fromByteArray(byte[] bytes) throws IllegalArgumentException {
+        try {
+            JournalReader reader = new JournalReader(bytes, 0, bytes.length);
+            if(reader.readVarLong() != VERSION) {
+                throw new IllegalArgumentException("Unknown game journal version.");
+            }
+            long randomState = reader.readLong();
+            long randomGamma = reader.readLong();
+            GameDifficulty gameDifficulty = GameDifficulty.values()[(int) reader.readVarLong()];
+            String gameMode = reader.readString();
+            String playerName = reader.readString();
+            String scenarioId = reader.readString();
+            int start = reader.getPosition();
+            GameJournal journal = new GameJournal(gameMode, gameDifficulty, playerName, randomState, randomGamma, Arrays.copyOfRange(bytes, start, bytes.length), bytes.length - start);
+            journal.scenarioId = scenarioId;
+            JournalReader records = journal.getDecisionsReader();
+            while(records.getPosition() < journal.length) {
+                int position = records.getPosition();
+                if(records.readVarLong() == END) {
+                    journal.endPosition = position;
+                    records.readLong();
+                    records.readVarLong();
+                    records.readLong();
+                    break;
+                }
+            }
+            return journal;
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Truncated game journal.", ex);
+        }
+    }
+
+    private static long zigzag(int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+
+    static int unzigzag(long value) {
+        return (int) (value >>> 1) ^ -(int) (value & 1);
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while((value & ~0x7FL) != 0) {
+            this.records[this.length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.records[this.length++] = (byte) value;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for(int shift = 56; shift >= 0; shift -= 8) {
+            this.records[this.length++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.records, this.length, bytes.length);
+        this.length += bytes.length;
+    }
+
+    private void ensureCapacity(int nbBytes) {
+        if(this.length + nbBytes > this.records.length) {
+            this.records = Arrays.copyOf(this.records, Math.max(this.records.length * 2, this.length + nbBytes));
+        }
+    }
+}
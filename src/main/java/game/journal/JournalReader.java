@@ -0,0 +1,70 @@
+package game.journal;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by a GameJournal, from a position to a limit of its bytes
+ */
+class JournalReader {
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+
+    JournalReader(byte[] bytes, int position, int limit) {
+        this.bytes = bytes;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    /**
+     * @param reader reader to read again from its position, it does not move
+     */
+    JournalReader(JournalReader reader) {
+        this(reader.bytes, reader.position, reader.limit);
+    }
+
+    int getPosition() {
+        return this.position;
+    }
+
+    boolean hasRemaining() {
+        return this.position < this.limit;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while(b < 0);
+        return value;
+    }
+
+    long readLong() {
+        long value = 0;
+        for(int i = 0; i < Long.BYTES; i += 1) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
+    String readString() {
+        int nbBytes = (int) readVarLong();
+        if(nbBytes < 0 || this.position + nbBytes > this.limit) {
+            throw new IndexOutOfBoundsException("String of " + nbBytes + " bytes at " + this.position);
+        }
+        String string = new String(this.bytes, this.position, nbBytes, StandardCharsets.UTF_8);
+        this.position += nbBytes;
+        return string;
+    }
+
+    private byte readByte() {
+        if(this.position >= this.limit) {
+            throw new IndexOutOfBoundsException("End of the journal at " + this.position);
+        }
+        return this.bytes[this.position++];
+    }
+}
@@ -0,0 +1,89 @@
+package game.journal;
+
+import exceptions.GameLoadingException;
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import game.Game;
+import game.SandboxGame;
+import game.ScenarioGame;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.saving.NoGameSaver;
+import output.Output;
+import output.SilentOutput;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+ * Plays again recorded games, headless and without waiting for any player, and checks they end the same,
+ * e.g. to find the archived games changed by new game rules
+ * Scenarios are parsed once for all the replays (ScenarioCache), a replay costs about the same as a bot game
+ * Replays never touch the disk : game saves are neither looked up nor written (NoGameSaver)
+ */
+public class JournalReplayer {
+    private final Output silentOutput = new SilentOutput();
+
+    /**
+     * @param journal bytes of a journal, see GameJournal.toByteArray
+     * @throws IllegalArgumentException bytes are not a game journal
+     */
+    public ReplayResult replay(byte[] journal) throws IllegalArgumentException {
+        return replay(GameJournal.fromByteArray(journal));
+    }
+
+    public ReplayResult replay(GameJournal journal) {
+        if(!journal.isEnded() || journal.hasUsedGameSave()) {
+            return ReplayResult.NOT_REPLAYABLE;
+        }
+        ReplayPlayer player = new ReplayPlayer(journal);
+        Game game = newGame(journal, player);
+        game.setGameSaver(new NoGameSaver(game));
+        try {
+            game.load(new GameParameters(journal.getPlayerName(), journal.getGameDifficulty(), journal.getGameMode(), journal.getScenarioId()));
+            game.launchGame();
+        } catch (ReplayPlayer.DivergedReplayException ex) {
+            return ReplayResult.DIFFERENT_DECISIONS;
+        } catch (MissingParsingKeysException | MissingEventsException | GameLoadingException ex) {
+            return ReplayResult.NOT_REPLAYABLE;
+        }
+        if(!player.hasTakenEveryDecision() || !game.getJournal().isEnded()) {
+            return ReplayResult.DIFFERENT_DECISIONS;
+        }
+        boolean isSameEnd = Double.compare(journal.getScore(), game.getScore()) == 0
+                && journal.getOutcome() == game.getOutcome()
+                && journal.getFingerprint() == GameJournal.fingerprint(game);
+        return isSameEnd ? ReplayResult.REPRODUCED : ReplayResult.DIFFERENT_RESULT;
+    }
+
+    /**
+     * @param journals bytes of journals
+     * @param pool where games are replayed
+     * @return number of journals for each replay result, malformed journals are not replayable
+     */
+    public Map<ReplayResult, Long> replayAll(List<byte[]> journals, ForkJoinPool pool) {
+        return pool.submit(() -> journals.parallelStream()
+                .map(this::replayIfWellFormed)
+                .collect(Collectors.groupingBy(result -> result, () -> new EnumMap<>(ReplayResult.class), Collectors.counting())))
+                .join();
+    }
+
+    private ReplayResult replayIfWellFormed(byte[] journal) {
+        try {
+            return replay(journal);
+        } catch (IllegalArgumentException ex) {
+            return ReplayResult.NOT_REPLAYABLE;
+        }
+    }
+
+    private Game newGame(GameJournal journal, ReplayPlayer player) {
+        GameRandom random = journal.newRandom();
+        if(journal.getGameMode().equals(SandboxGame.class.getSimpleName())) {
+            return new SandboxGame(journal.getGameDifficulty(), journal.getPlayerName(), player, this.silentOutput, random);
+        }
+        return new ScenarioGame(journal.getGameDifficulty(), journal.getPlayerName(), player, this.silentOutput, random);
+    }
+}
@@ -0,0 +1,97 @@
+package game.journal;
+
+import game.Game;
+import game.players.Player;
+
+/**
+ * Takes again the decisions recorded by a game journal, in the same order
+ * A game asking a decision which is not the next recorded one has diverged from the recorded game
+ */
+public class ReplayPlayer implements Player {
+    private final JournalReader decisions;
+
+    /**
+     * @param journal journal of a game which was not continued from a game save
+     */
+    public ReplayPlayer(GameJournal journal) {
+        this.decisions = journal.getDecisionsReader();
+    }
+
+    /**
+     * Games continued from a save are not replayed, a recorded game which declined its save did as if it had none
+     */
+    @Override
+    public boolean wantsToUseGameSave() {
+        return false;
+    }
+
+    @Override
+    public boolean wantsToQuitGame() {
+        return nextDecision(GameJournal.QUIT_GAME) != 0;
+    }
+
+    @Override
+    public int chooseEventSolution(Game game, int nbChoices) {
+        return nextDecision(GameJournal.EVENT_SOLUTION);
+    }
+
+    @Override
+    public int chooseEndYearOption(Game game, int nbChoicesDone) {
+        return nextDecision(GameJournal.END_YEAR_OPTION);
+    }
+
+    @Override
+    public int chooseFactionToBribe(Game game, int nbFactions) {
+        return nextDecision(GameJournal.FACTION_TO_BRIBE);
+    }
+
+    @Override
+    public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+        return nextDecision(GameJournal.FOOD_UNITS);
+    }
+
+    @Override
+    public int chooseContinueOrSaveAndOrQuit(Game game) {
+        return nextDecision(GameJournal.CONTINUE_OR_QUIT);
+    }
+
+    @Override
+    public void pressAnyKeyToContinue() {}
+
+    /**
+     * @return if every recorded decision was taken again
+     */
+    public boolean hasTakenEveryDecision() {
+        return !this.decisions.hasRemaining() || peekRecord() == GameJournal.END;
+    }
+
+    /**
+     * @param type type of the decision asked by the game
+     * @return next recorded decision
+     * @throws DivergedReplayException next recorded decision is of another type, or there is none
+     */
+    private int nextDecision(int type) throws DivergedReplayException {
+        if(!this.decisions.hasRemaining()) {
+            throw new DivergedReplayException();
+        }
+        long record = this.decisions.readVarLong();
+        if(record == GameJournal.END || (record & ((1 << GameJournal.TYPE_BITS) - 1)) != type) {
+            throw new DivergedReplayException();
+        }
+        return GameJournal.unzigzag(record >>> GameJournal.TYPE_BITS);
+    }
+
+    private long peekRecord() {
+        JournalReader reader = new JournalReader(this.decisions);
+        return reader.readVarLong();
+    }
+
+    /**
+     * Thrown out of the replayed game as soon as it diverges, without stack trace : it is not an error of the game
+     */
+    static class DivergedReplayException extends RuntimeException {
+        DivergedReplayException() {
+            super(null, null, false, false);
+        }
+    }
+}
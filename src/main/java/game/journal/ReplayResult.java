@@ -0,0 +1,27 @@
+package game.journal;
+
+/**
+ * What a replay of a game journal found
+ */
+public enum ReplayResult {
+    /**
+     * Same decisions asked, same score, outcome and republic at the end
+     */
+    REPRODUCED,
+    /**
+     * Same decisions asked but another score, outcome or republic at the end
+     */
+    DIFFERENT_RESULT,
+    /**
+     * The replayed game asked another decision than the recorded one, or fewer or more decisions
+     */
+    DIFFERENT_DECISIONS,
+    /**
+     * The recorded game is not over, was continued from a game save, or its scenario can't be loaded anymore
+     */
+    NOT_REPLAYABLE;
+
+    public boolean isReproduced() {
+        return this == REPRODUCED;
+    }
+}
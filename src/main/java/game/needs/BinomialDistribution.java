@@ -0,0 +1,119 @@
+package game.needs;
+
+import java.util.Random;
+
+/**
+ * Samples binomial and uniform multinomial distributions in constant time, whatever the number of trials
+ * Inversion is used when few successes are expected, BTRS (Hörmann, transformed rejection with squeeze) otherwise
+ */
+public class BinomialDistribution {
+    private static final double INVERSION_MAX_MEAN = 10;
+    private static final double HALF_LOG_TWO_PI = 0.5 * Math.log(2 * Math.PI);
+    private static final double[] logFactorials = new double[16];
+
+    static {
+        for(int k = 1; k < logFactorials.length; k += 1) {
+            logFactorials[k] = logFactorials[k - 1] + Math.log(k);
+        }
+    }
+
+    /**
+     * @param random random generator of the game
+     * @param nbTrials number of trials
+     * @param probability probability of success of each trial
+     * @return number of successes
+     */
+    public static int sample(Random random, int nbTrials, double probability) {
+        if(nbTrials <= 0 || probability <= 0) {
+            return 0;
+        }
+        if(probability >= 1) {
+            return nbTrials;
+        }
+        if(probability > 0.5) {
+            return nbTrials - sample(random, nbTrials, 1 - probability);
+        }
+        if(nbTrials * probability < INVERSION_MAX_MEAN) {
+            return sampleByInversion(random, nbTrials, probability);
+        }
+        return sampleByRejection(random, nbTrials, probability);
+    }
+
+    /**
+     * Throws a number of balls uniformly into boxes, as sequential binomial draws
+     * @param random random generator of the game
+     * @param nbTrials number of balls
+     * @param nbOutcomes number of boxes
+     * @param countByOutcome where the number of balls of each box is written, at least nbOutcomes long
+     */
+    public static void sampleUniformMultinomial(Random random, int nbTrials, int nbOutcomes, int[] countByOutcome) {
+        int nbTrialsLeft = nbTrials;
+        for(int outcome = 0; outcome < nbOutcomes; outcome += 1) {
+            int nbOutcomesLeft = nbOutcomes - outcome;
+            int count = nbOutcomesLeft == 1 ? nbTrialsLeft : sample(random, nbTrialsLeft, 1.0 / nbOutcomesLeft);
+            countByOutcome[outcome] = count;
+            nbTrialsLeft -= count;
+        }
+    }
+
+    private static int sampleByInversion(Random random, int nbTrials, double probability) {
+        double failureProbability = 1 - probability;
+        double odds = probability / failureProbability;
+        double a = (nbTrials + 1) * odds;
+        double currentProbability = Math.pow(failureProbability, nbTrials);
+        double uniform = random.nextDouble();
+        int nbSuccesses = 0;
+        while(uniform > currentProbability) {
+            uniform -= currentProbability;
+            nbSuccesses += 1;
+            if(nbSuccesses > nbTrials) {
+                return nbTrials;
+            }
+            currentProbability *= a / nbSuccesses - odds;
+        }
+        return nbSuccesses;
+    }
+
+    private static int sampleByRejection(Random random, int nbTrials, double probability) {
+        double failureProbability = 1 - probability;
+        double spq = Math.sqrt(nbTrials * probability * failureProbability);
+        double b = 1.15 + 2.53 * spq;
+        double a = -0.0873 + 0.0248 * b + 0.01 * probability;
+        double c = nbTrials * probability + 0.5;
+        double vr = 0.92 - 4.2 / b;
+        double alpha = (2.83 + 5.1 / b) * spq;
+        double logOdds = Math.log(probability / failureProbability);
+        int mode = (int) Math.floor((nbTrials + 1) * probability);
+        double h = logFactorial(mode) + logFactorial(nbTrials - mode);
+        while(true) {
+            double u = random.nextDouble() - 0.5;
+            double v = random.nextDouble();
+            double us = 0.5 - Math.abs(u);
+            int k = (int) Math.floor((2 * a / us + b) * u + c);
+            if(k < 0 || k > nbTrials) {
+                continue;
+            }
+            if(us >= 0.07 && v <= vr) {
+                return k;
+            }
+            v = Math.log(v * alpha / (a / (us * us) + b));
+            if(v <= h - logFactorial(k) - logFactorial(nbTrials - k) + (k - mode) * logOdds) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * @return log(k!), from a table for small k then from Stirling series
+     */
+    static double logFactorial(int k) {
+        if(k < logFactorials.length) {
+            return logFactorials[k];
+        }
+        double n = k + 1;
+        double inverse = 1 / n;
+        double inverseSquare = inverse * inverse;
+        return (n - 0.5) * Math.log(n) - n + HALF_LOG_TWO_PI
+                + inverse * (1.0 / 12 - inverseSquare * (1.0 / 360 - inverseSquare / 1260));
+    }
+}
@@ -3,20 +3,26 @@ package game.needs;
 import game.Game;
 import game.SandboxGame;
 import game.ScenarioGame;
-import org.json.JSONObject;
-import org.json.JSONTokener;
-import parser.ParsingKeys;
+import output.ConsoleOutput;
+import output.Output;
+import output.SilentOutput;
+import parser.ScenarioCatalog;
+import parser.ScenarioHeader;
+import parser.ScenarioManifest;
 
 import java.io.*;
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
+/**
+ * Game mode, difficulty, player name and configuration file of a game, asked to the player through an output
+ * (the console by default) or set directly for headless games
+ */
 public class GameParameters {
+    private final Output output;
     private String playerName;
     private GameDifficulty gameDifficulty;
     private String gameModeClass;
@@ -37,6 +43,30 @@ public class GameParameters {
     public final String scenariosResourcePath = "scenarios/";
     public final String sandboxFilePath = "sandbox/sandboxProperties.json";
 
+    public GameParameters() {
+        this(new ConsoleOutput());
+    }
+
+    /**
+     * @param output where the menus asking the game parameters are displayed, flushed before each player input
+     */
+    public GameParameters(Output output) {
+        this.output = output;
+    }
+
+    /**
+     * Game parameters set without asking the player, for headless games
+     * @param gameModeClass SandboxGame or ScenarioGame simple class name
+     * @param filePath configuration file path in resources
+     */
+    public GameParameters(String playerName, GameDifficulty gameDifficulty, String gameModeClass, String filePath) {
+        this.output = new SilentOutput();
+        this.playerName = playerName;
+        this.gameDifficulty = gameDifficulty;
+        this.gameModeClass = gameModeClass;
+        this.filePath = filePath;
+    }
+
     public void askPlayerGameModeAndDifficulty() {
         this.playerName = askPlayerName();
 
@@ -61,25 +91,34 @@ public class GameParameters {
         }
     }
 
-    public static String askPlayerName() {
+    public String askPlayerName() {
         Scanner playerInput = new Scanner(System.in);
         String warning = "Attention vous devez entrer des caractères alphanumériques !";
-        System.out.printf("%n%nEntrez votre pseudo ou votre prénom : %n");
+        this.output.printf("%n%nEntrez votre pseudo ou votre prénom : %n");
         try {
+            this.output.flush();
             String playerChoice = playerInput.nextLine();
             if(playerChoice.length() > 1) {
                 return playerChoice;
             }
             else {
-                System.out.println(warning);
+                this.output.println(warning);
                 return askPlayerName();
             }
         } catch (Exception ex) {
-            System.out.println(warning);
+            this.output.println(warning);
             return askPlayerName();
         }
     }
 
+    /**
+     * Everything displayed so far is written before waiting for the player
+     */
+    private int nextInt(Scanner playerInput) {
+        this.output.flush();
+        return playerInput.nextInt();
+    }
+
     public boolean wantsToCancel(int choice) {
         return choice == GameInputOptions.CANCEL;
     }
@@ -102,23 +141,23 @@ public class GameParameters {
 
     public void displayGameModeInstructions() {
         String instructions = String.format("%nChoisissez votre mode de jeu :%n%s%n%s%n%s%n%s", chooseCancel, chooseSandboxGame, or, chooseScenarioGame);
-        System.out.println(instructions);
+        this.output.println(instructions);
     }
 
     public int chooseGameMode() {
         Scanner playerInput = new Scanner(System.in);
         String warning = String.format("%nAttention ! Ce mode de jeu n'existe pas :%n%s%n%s%n%s%n%s", chooseCancel, chooseSandboxGame, or, chooseScenarioGame);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(isPlayerGameModeChoiceCorrect(playerChoice)) {
                 return playerChoice;
             }
             else {
-                System.out.println(warning);
+                this.output.println(warning);
                 return chooseGameMode();
             }
         } catch (Exception ex) {
-            System.out.println(warning);
+            this.output.println(warning);
             return chooseGameMode();
         }
     }
@@ -139,23 +178,23 @@ public class GameParameters {
 
     public void displayGameDifficultyInstructions() {
         String instructions = String.format("%nChoisissez votre difficulté de jeu :%n%s%n%s%n%s%n%s%n%s", chooseCancel, chooseEasyDifficulty, chooseMediumDifficulty, or, chooseHardDifficulty);
-        System.out.println(instructions);
+        this.output.println(instructions);
     }
 
     public int chooseGameDifficulty() {
         Scanner playerInput = new Scanner(System.in);
         String warning = String.format("%nAttention ! Cette difficulté n'existe pas :%n%s%n%s%n%s%n%s%n%s", chooseCancel, chooseEasyDifficulty, chooseMediumDifficulty, or, chooseHardDifficulty);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(isPlayerGameDifficultyChoiceCorrect(playerChoice)) {
                 return playerChoice;
             }
             else {
-                System.out.println(warning);
+                this.output.println(warning);
                 return chooseGameDifficulty();
             }
         } catch (Exception ex) {
-            System.out.println(warning);
+            this.output.println(warning);
             return chooseGameDifficulty();
         }
     }
@@ -164,49 +203,40 @@ public class GameParameters {
         return choice == GameInputOptions.CANCEL || choice == GameDifficulty.EASY.ordinal() + 1 || choice == GameDifficulty.NORMAL.ordinal() + 1 || choice == GameDifficulty.HARD.ordinal() + 1;
     }
 
-    public String getScenarioListInstructions(List<File> scenarios) {
+    public String getScenarioListInstructions(List<ScenarioHeader> scenarios) {
         int countScenario = 0;
         StringBuilder instructions = new StringBuilder(String.format("%nVeuillez choisir parmis ces %d scénarios :%n", scenarios.size()));
         instructions.append(String.format("%d. %s%n", countScenario, quit));
-        for (File scenario: scenarios) {
-            if(scenario.isFile()) {
-                countScenario += 1;
-                String currentScenario = String.format("%d. %s%n",countScenario, getScenarioName(scenario));
-                instructions.append(currentScenario);
-            }
+        for (ScenarioHeader scenario: scenarios) {
+            countScenario += 1;
+            String currentScenario = String.format("%d. %s (%d événements)%n", countScenario, scenario.getName(), scenario.getNbEvents());
+            instructions.append(currentScenario);
         }
         return instructions.toString();
     }
 
-    public String getScenarioName(File file) {
-        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
-            JSONTokener token = new JSONTokener(reader);
-            JSONObject scenario = new JSONObject(token);
-            return scenario.get(ParsingKeys.name).toString();
-        } catch (IOException e){
-            throw new NullPointerException("Cannot find resource file " + file.getPath());
-        }
-    }
-
-    public String chooseScenario(List<File> scenarios) {
+    /**
+     * Asks the player a scenario until his choice is correct
+     * @param scenarios playable scenarios
+     * @return chosen scenario file path in resources
+     */
+    public String chooseScenario(List<ScenarioHeader> scenarios) {
         int nbScenario = scenarios.size();
         Scanner playerInput = new Scanner(System.in);
         String warning = String.format("%nAttention ! Ce scénario n'existe pas !%s", getScenarioListInstructions(scenarios));
-        try {
-            int playerChoice = playerInput.nextInt();
-            if(playerChoice == GameInputOptions.QUIT) {
-                Game.shutDown();
-            }
-            if(isPlayerScenarioChoiceCorrect(playerChoice, nbScenario)) {
-                return scenarios.get(playerChoice - 1).getPath();
-            }
-            else {
-                System.out.println(warning);
-                return chooseScenario(scenarios);
+        while(true) {
+            try {
+                int playerChoice = nextInt(playerInput);
+                if(playerChoice == GameInputOptions.QUIT) {
+                    Game.shutDown();
+                }
+                if(isPlayerScenarioChoiceCorrect(playerChoice, nbScenario)) {
+                    return scenarios.get(playerChoice - 1).getFilePath();
+                }
+            } catch (Exception ex) {
+                playerInput.nextLine();
             }
-        } catch (Exception ex) {
-            System.out.println(warning);
-            return chooseScenario(scenarios);
+            this.output.println(warning);
         }
     }
 
@@ -220,7 +250,7 @@ public class GameParameters {
             return new SandboxGame(this.gameDifficulty, this.playerName);
         }
         else if(isGameModeScenario()) {
-            List<File> scenarioList = getScenarioList();
+            List<ScenarioHeader> scenarioList = getPlayableScenarios();
             displayScenarioListInstructions(scenarioList);
 
             setFilePath(chooseScenario(scenarioList));
@@ -235,10 +265,25 @@ public class GameParameters {
         this.filePath = filePath;
     }
 
-    public List<File> getScenarioList() throws IOException, URISyntaxException {
+    /**
+     * Scenarios of the manifest generated by the build, or if there is none, of the scenarios directory
+     * @return headers of the playable scenarios
+     */
+    public List<ScenarioHeader> getPlayableScenarios() throws IOException, URISyntaxException {
+        List<ScenarioHeader> scenarios = ScenarioManifest.getPlayableHeaders();
+        if(scenarios == null) {
+            scenarios = ScenarioCatalog.getPlayableHeaders(getScenarioList());
+        }
+        return scenarios;
+    }
+
+    /**
+     * @return scenario file paths in resources
+     */
+    public List<String> getScenarioList() throws IOException, URISyntaxException {
         String path = this.scenariosResourcePath;
         final File jarFile = new File(getClass().getProtectionDomain().getCodeSource().getLocation().getPath());
-        List<File> scenarios = new ArrayList<>();
+        List<String> scenarios = new ArrayList<>();
 
         // Run with JAR file
         if(jarFile.isFile()) {
@@ -247,9 +292,8 @@ public class GameParameters {
 
             while(jarEntries.hasMoreElements()) {
                 final String name = jarEntries.nextElement().getName();
-                if(name.startsWith(path) && !name.endsWith(path)) {
-                    URI fullPath = this.getClass().getResource("/" + name).toURI();
-                    scenarios.add(new File(fullPath.toString()));
+                if(name.startsWith(path) && name.indexOf('/', path.length()) < 0 && !name.endsWith(path)) {
+                    scenarios.add(name);
                 }
             }
             jar.close();
@@ -259,20 +303,21 @@ public class GameParameters {
         else {
             final URL url = this.getClass().getResource("/" + path);
             if (url != null) {
-                try {
-                    final File scenarioFiles = new File(url.toURI());
-                    Collections.addAll(scenarios, Objects.requireNonNull(scenarioFiles.listFiles()));
-                } catch (URISyntaxException ex) {
-                    ex.printStackTrace();
+                final File scenarioFiles = new File(url.toURI());
+                for(File scenarioFile : Objects.requireNonNull(scenarioFiles.listFiles())) {
+                    if(scenarioFile.isFile()) {
+                        scenarios.add(path + scenarioFile.getName());
+                    }
                 }
             }
         }
+        Collections.sort(scenarios);
 
         return scenarios;
     }
 
-    public void displayScenarioListInstructions(List<File> scenarios) {
-        System.out.print(getScenarioListInstructions(scenarios));
+    public void displayScenarioListInstructions(List<ScenarioHeader> scenarios) {
+        this.output.printf("%s", getScenarioListInstructions(scenarios));
     }
 
     public boolean isGameModeSandbox() {
@@ -1,25 +1,42 @@
 package game.needs;
 
+import output.ConsoleOutput;
+import output.Output;
+
 import java.util.Scanner;
 
 public class GamePlayerInput {
     public static final String incorrectInputWarning = "Attention ! Votre choix est incorrect";
+    private static final Output console = new ConsoleOutput();
 
     public static void pressAnyKeyToContinue()
     {
-        System.out.printf("%n%n- Appuyez sur la touche 'Entrer' pour continuer... - %n");
+        console.printf("%n%n- Appuyez sur la touche 'Entrer' pour continuer... - %n");
+        console.flush();
         try {
             System.in.read();
         } catch(Exception ignored) {}
     }
 
+    /**
+     * Everything displayed on the console is written before waiting for the player
+     */
+    private static int nextInt(Scanner playerInput) {
+        console.flush();
+        return playerInput.nextInt();
+    }
+
+    public static void displayUseGameSave(Output output) {
+        output.printf("%n%nVoulez-vous reprendre la dernière partie que vous avez sauvegardé ?%n");
+        output.printf("%n1. Oui");
+        output.printf("%n2. Non%n");
+    }
+
     public static boolean doesPlayerWantsToUseGameSave() {
-        System.out.printf("%n%nVoulez-vous reprendre la dernière partie que vous avez sauvegardé ?%n");
-        System.out.printf("%n1. Oui");
-        System.out.printf("%n2. Non%n");
+        displayUseGameSave(console);
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice == GameInputOptions.YES) {
                 return true;
             }
@@ -27,11 +44,11 @@ public class GamePlayerInput {
                 return false;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return doesPlayerWantsToUseGameSave();
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return doesPlayerWantsToUseGameSave();
         }
     }
@@ -39,71 +56,83 @@ public class GamePlayerInput {
     public static int getPlayerEventSolutionChoice(int nbChoice) {
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice >= 1 && playerChoice <= nbChoice) {
                 return playerChoice;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return getPlayerEventSolutionChoice(nbChoice);
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return getPlayerEventSolutionChoice(nbChoice);
         }
     }
 
     public static void displayScaredOrNotScared(String firstOption) {
-        System.out.printf("%nÊtes-vous prêt à perdre ?%n");
-        System.out.println("Entrez votre choix :");
-        System.out.printf("%n1. %s", firstOption);
-        System.out.printf("%n2. Fuir%n");
+        displayScaredOrNotScared(console, firstOption);
+    }
+
+    public static void displayScaredOrNotScared(Output output, String firstOption) {
+        output.printf("%nÊtes-vous prêt à perdre ?%n");
+        output.println("Entrez votre choix :");
+        output.printf("%n1. %s", firstOption);
+        output.printf("%n2. Fuir%n");
     }
 
     public static void displayOptionOrQuit(String firstOption) {
-        System.out.printf("%nVoulez-vous continuer de jouer ?%n");
-        System.out.println("Entrez votre choix :");
-        System.out.printf("%n1. %s", firstOption);
-        System.out.printf("%n2. Quitter%n");
+        displayOptionOrQuit(console, firstOption);
+    }
+
+    public static void displayOptionOrQuit(Output output, String firstOption) {
+        output.printf("%nVoulez-vous continuer de jouer ?%n");
+        output.println("Entrez votre choix :");
+        output.printf("%n1. %s", firstOption);
+        output.printf("%n2. Quitter%n");
     }
 
     public static boolean wantsToQuitGame() {
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice == 1) {
                 return false;
             }
             if(playerChoice == 2) {
                 return true;
             }
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return wantsToQuitGame();
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return wantsToQuitGame();
         }
     }
 
     public static void displayContinueOrSaveAndOrQuit() {
-        System.out.printf("%nVoulez-vous continuer de jouer ?%n");
-        System.out.println("Entrez votre choix :");
-        System.out.printf("%n1. Continuer");
-        System.out.printf("%n2. Sauvegarder et Quitter");
-        System.out.printf("%n3. Quitter%n");
+        displayContinueOrSaveAndOrQuit(console);
+    }
+
+    public static void displayContinueOrSaveAndOrQuit(Output output) {
+        output.printf("%nVoulez-vous continuer de jouer ?%n");
+        output.println("Entrez votre choix :");
+        output.printf("%n1. Continuer");
+        output.printf("%n2. Sauvegarder et Quitter");
+        output.printf("%n3. Quitter%n");
     }
 
     public static int makeContinueOrSaveAndOrQuitChoice() {
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(isEndYearContinueOrSaveAndOrQuitChoiceCorrect(playerChoice)) {
                 return playerChoice;
             }
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return makeContinueOrSaveAndOrQuitChoice();
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return makeContinueOrSaveAndOrQuitChoice();
         }
     }
@@ -117,16 +146,16 @@ public class GamePlayerInput {
     public static int chooseEndYearOption() {
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice >= 1 && playerChoice <= GameInputOptions.NB_YEAR_END_OPTIONS) {
                 return playerChoice;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return chooseEndYearOption();
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return chooseEndYearOption();
         }
     }
@@ -134,44 +163,48 @@ public class GamePlayerInput {
     public static int chooseFactionToBribe(int nbFactions) {
         Scanner playerInput = new Scanner(System.in);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice >= 1 && playerChoice <= nbFactions) {
                 return playerChoice;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return chooseFactionToBribe(nbFactions);
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return chooseFactionToBribe(nbFactions);
         }
     }
 
     public static int chooseFoodUnitsToBuy(int foodUnitPossibleToBuy) {
         Scanner playerInput = new Scanner(System.in);
-        System.out.printf("%nVous pouvez acheter %d unité(s) de nourriture.%n", foodUnitPossibleToBuy);
-        System.out.printf("%nEntrez le nombre d'unité de nourriture que vous voulez acheter :%n");
+        displayFoodUnitsToBuy(console, foodUnitPossibleToBuy);
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice >= 0) {
                 return playerChoice;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return chooseFoodUnitsToBuy(foodUnitPossibleToBuy);
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return chooseFoodUnitsToBuy(foodUnitPossibleToBuy);
         }
     }
 
+    public static void displayFoodUnitsToBuy(Output output, int foodUnitPossibleToBuy) {
+        output.printf("%nVous pouvez acheter %d unité(s) de nourriture.%n", foodUnitPossibleToBuy);
+        output.printf("%nEntrez le nombre d'unité de nourriture que vous voulez acheter :%n");
+    }
+
     public static boolean wantsToPlayAgain() {
         Scanner playerInput = new Scanner(System.in);
         GamePlayerInput.displayOptionOrQuit("Rejouer");
         try {
-            int playerChoice = playerInput.nextInt();
+            int playerChoice = nextInt(playerInput);
             if(playerChoice == GameInputOptions.END_GAME_CHOICE_START_NEW_GAME) {
                 return true;
             }
@@ -179,11 +212,11 @@ public class GamePlayerInput {
                 return false;
             }
             else {
-                System.out.println(incorrectInputWarning);
+                console.println(incorrectInputWarning);
                 return wantsToPlayAgain();
             }
         } catch (Exception ex) {
-            System.out.println(incorrectInputWarning);
+            console.println(incorrectInputWarning);
             return wantsToPlayAgain();
         }
     }
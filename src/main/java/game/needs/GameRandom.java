@@ -0,0 +1,127 @@
+package game.needs;
+
+import java.util.Random;
+
+/**
+ * Random generator of a game : every random draw of a game (events, seasons, population) comes from it,
+ * so a game played with the same seed and the same decisions is always the same
+ *
+ * SplitMix64 (the algorithm of SplittableRandom) behind the java.util.Random interface :
+ * no synchronization, no allocation per draw, and split() gives independent streams to parallel workers
+ */
+public class GameRandom extends Random {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long seed;
+    private long gamma;
+
+    public GameRandom() {
+        this(mix64(System.nanoTime()) ^ mix64(Thread.currentThread().getId() + GOLDEN_GAMMA));
+    }
+
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * @param seed state of the generator, see getState
+     * @param gamma increment of the generator stream, see getGamma (game journals)
+     */
+    public GameRandom(long seed, long gamma) {
+        super(0);
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * @return a new generator whose stream is independent from this one, this generator moves forward
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * @return a generator which will draw the same numbers as this one from now on (game snapshots)
+     */
+    public GameRandom copy() {
+        return new GameRandom(this.seed, this.gamma);
+    }
+
+    /**
+     * @return state of the generator, generators split from the same one draw the same numbers from the same state
+     */
+    public long getState() {
+        return this.seed;
+    }
+
+    /**
+     * @return increment of the generator stream, generators split from another one have their own
+     */
+    public long getGamma() {
+        return this.gamma;
+    }
+
+    /**
+     * Makes this generator draw the same numbers as another one from now on (game snapshots restored)
+     * @param random generator whose state is copied
+     */
+    public void restore(GameRandom random) {
+        this.seed = random.seed;
+        this.gamma = random.gamma;
+    }
+
+    /**
+     * Random's constructor calls setSeed before the fields are set, it is ignored
+     */
+    @Override
+    public void setSeed(long seed) {
+        if(this.gamma != 0) {
+            this.seed = seed;
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    private long nextSeed() {
+        this.seed += this.gamma;
+        return this.seed;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int nbTransitions = Long.bitCount(z ^ (z >>> 1));
+        return (nbTransitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,73 @@
+package game.players;
+
+import game.Game;
+import game.advisor.Advice;
+import game.advisor.MonteCarloAdvisor;
+import game.needs.GamePlayerInput;
+
+/**
+ * Human player typing in the terminal, optionally helped by an advisor for each event
+ */
+public class ConsolePlayer implements Player {
+    private final MonteCarloAdvisor advisor;
+    private final long adviceTimeBudgetMillis;
+
+    public ConsolePlayer() {
+        this(null, 0);
+    }
+
+    /**
+     * @param advisor advisor recommending a choice before each event choice, null for none
+     * @param adviceTimeBudgetMillis time the player waits for an advice
+     */
+    public ConsolePlayer(MonteCarloAdvisor advisor, long adviceTimeBudgetMillis) {
+        this.advisor = advisor;
+        this.adviceTimeBudgetMillis = adviceTimeBudgetMillis;
+    }
+
+    @Override
+    public boolean wantsToUseGameSave() {
+        return GamePlayerInput.doesPlayerWantsToUseGameSave();
+    }
+
+    @Override
+    public boolean wantsToQuitGame() {
+        GamePlayerInput.displayScaredOrNotScared("Continuer");
+        return GamePlayerInput.wantsToQuitGame();
+    }
+
+    @Override
+    public int chooseEventSolution(Game game, int nbChoices) {
+        if(this.advisor != null) {
+            Advice advice = this.advisor.advise(game, this.adviceTimeBudgetMillis);
+            game.getOutput().printf("%nConseil de votre ministre : choix %d (%d simulations)%n", advice.getChoice(), advice.getNbRollouts());
+        }
+        return GamePlayerInput.getPlayerEventSolutionChoice(nbChoices);
+    }
+
+    @Override
+    public int chooseEndYearOption(Game game, int nbChoicesDone) {
+        return GamePlayerInput.chooseEndYearOption();
+    }
+
+    @Override
+    public int chooseFactionToBribe(Game game, int nbFactions) {
+        return GamePlayerInput.chooseFactionToBribe(nbFactions);
+    }
+
+    @Override
+    public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+        return GamePlayerInput.chooseFoodUnitsToBuy(foodUnitPossibleToBuy);
+    }
+
+    @Override
+    public int chooseContinueOrSaveAndOrQuit(Game game) {
+        GamePlayerInput.displayContinueOrSaveAndOrQuit();
+        return GamePlayerInput.makeContinueOrSaveAndOrQuitChoice();
+    }
+
+    @Override
+    public void pressAnyKeyToContinue() {
+        GamePlayerInput.pressAnyKeyToContinue();
+    }
+}
@@ -0,0 +1,52 @@
+package game.players;
+
+import game.Game;
+
+/**
+ * Takes every decision of a game in place of the static console inputs
+ * so that a game can be played by a human, a bot, a test or a batch job
+ */
+public interface Player {
+    boolean wantsToUseGameSave();
+
+    /**
+     * @return if player wants to quit right before the game starts
+     */
+    boolean wantsToQuitGame();
+
+    /**
+     * @param game game being played, current event is the one to solve
+     * @param nbChoices number of choices of the current event
+     * @return chosen solution between 1 and nbChoices
+     */
+    int chooseEventSolution(Game game, int nbChoices);
+
+    /**
+     * @param game game being played
+     * @param nbChoicesDone number of year end options already chosen this year
+     * @return one of the GameInputOptions.YEAR_END_* options
+     */
+    int chooseEndYearOption(Game game, int nbChoicesDone);
+
+    /**
+     * @param game game being played
+     * @param nbFactions number of factions in the republic
+     * @return index of the faction to bribe between 1 and nbFactions
+     */
+    int chooseFactionToBribe(Game game, int nbFactions);
+
+    /**
+     * @param game game being played
+     * @param foodUnitPossibleToBuy food units affordable with current money
+     * @return food units to buy, positive or zero
+     */
+    int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy);
+
+    /**
+     * @param game game being played
+     * @return one of the GameInputOptions.END_YEAR_* options
+     */
+    int chooseContinueOrSaveAndOrQuit(Game game);
+
+    void pressAnyKeyToContinue();
+}
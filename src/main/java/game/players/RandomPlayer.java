@@ -0,0 +1,69 @@
+package game.players;
+
+import game.Game;
+import game.needs.GameInputOptions;
+import game.needs.GameRandom;
+
+/**
+ * Bot taking random decisions, it never uses a game save and quits after a given number of years
+ */
+public class RandomPlayer implements Player {
+    private final GameRandom random;
+    private final int maxYears;
+
+    public RandomPlayer(long seed, int maxYears) {
+        this(new GameRandom(seed), maxYears);
+    }
+
+    /**
+     * @param random stream of the player decisions, e.g. split from the game one
+     */
+    public RandomPlayer(GameRandom random, int maxYears) {
+        this.random = random;
+        this.maxYears = maxYears;
+    }
+
+    @Override
+    public boolean wantsToUseGameSave() {
+        return false;
+    }
+
+    @Override
+    public boolean wantsToQuitGame() {
+        return false;
+    }
+
+    @Override
+    public int chooseEventSolution(Game game, int nbChoices) {
+        return this.random.nextInt(nbChoices) + 1;
+    }
+
+    @Override
+    public int chooseEndYearOption(Game game, int nbChoicesDone) {
+        return this.random.nextInt(GameInputOptions.NB_YEAR_END_OPTIONS) + 1;
+    }
+
+    @Override
+    public int chooseFactionToBribe(Game game, int nbFactions) {
+        return this.random.nextInt(nbFactions) + 1;
+    }
+
+    @Override
+    public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+        return this.random.nextInt(Math.max(foodUnitPossibleToBuy, 0) + 1);
+    }
+
+    /**
+     * Continues until the maximum number of years is reached, then quits without saving
+     */
+    @Override
+    public int chooseContinueOrSaveAndOrQuit(Game game) {
+        if(game.getYear() >= this.maxYears) {
+            return GameInputOptions.END_YEAR_QUIT;
+        }
+        return GameInputOptions.END_YEAR_CONTINUE;
+    }
+
+    @Override
+    public void pressAnyKeyToContinue() {}
+}
@@ -0,0 +1,151 @@
+package game.players;
+
+import game.Game;
+import game.needs.GameInputOptions;
+import game.needs.GamePlayerInput;
+import output.Output;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+/**
+ * Player of a game session on a connection, in place of the console inputs : questions are written on the
+ * session output and answers are read from the session input, one per line
+ * Each question ends with a prompt line "[kind min-max] >" so that scripted clients know what is asked
+ * Screens are sent when an answer is awaited, the player never waits for a key to continue
+ */
+public class SessionPlayer implements Player {
+    public static final String PROMPT_START = "[";
+    public static final String PROMPT_END = "] >";
+    public static final String NAME = "pseudo";
+    public static final String GAME_MODE = "mode";
+    public static final String DIFFICULTY = "difficulte";
+    public static final String SCENARIO = "scenario";
+    public static final String USE_GAME_SAVE = "sauvegarde";
+    public static final String LAUNCH_GAME = "lancement";
+    public static final String EVENT_SOLUTION = "evenement";
+    public static final String END_YEAR_OPTION = "fin-annee";
+    public static final String FACTION_TO_BRIBE = "faction";
+    public static final String FOOD_UNITS = "nourriture";
+    public static final String CONTINUE_OR_QUIT = "continuer";
+    public static final String PLAY_AGAIN = "rejouer";
+    private static final Pattern playerNamePattern = Pattern.compile("[A-Za-z0-9_-]{2,32}");
+
+    private final BufferedReader input;
+    private final Output output;
+
+    /**
+     * @param input answers of the client
+     * @param output display of the client, flushed before each question (a BufferedOutput on the connection)
+     */
+    public SessionPlayer(BufferedReader input, Output output) {
+        this.input = input;
+        this.output = output;
+    }
+
+    @Override
+    public boolean wantsToUseGameSave() {
+        GamePlayerInput.displayUseGameSave(this.output);
+        return askChoice(USE_GAME_SAVE, GameInputOptions.YES, GameInputOptions.NO) == GameInputOptions.YES;
+    }
+
+    @Override
+    public boolean wantsToQuitGame() {
+        GamePlayerInput.displayScaredOrNotScared(this.output, "Continuer");
+        return askChoice(LAUNCH_GAME, 1, 2) == 2;
+    }
+
+    @Override
+    public int chooseEventSolution(Game game, int nbChoices) {
+        return askChoice(EVENT_SOLUTION, 1, nbChoices);
+    }
+
+    @Override
+    public int chooseEndYearOption(Game game, int nbChoicesDone) {
+        return askChoice(END_YEAR_OPTION, 1, GameInputOptions.NB_YEAR_END_OPTIONS);
+    }
+
+    @Override
+    public int chooseFactionToBribe(Game game, int nbFactions) {
+        return askChoice(FACTION_TO_BRIBE, 1, nbFactions);
+    }
+
+    @Override
+    public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+        GamePlayerInput.displayFoodUnitsToBuy(this.output, foodUnitPossibleToBuy);
+        return askChoice(FOOD_UNITS, 0, Math.max(foodUnitPossibleToBuy, 0));
+    }
+
+    @Override
+    public int chooseContinueOrSaveAndOrQuit(Game game) {
+        GamePlayerInput.displayContinueOrSaveAndOrQuit(this.output);
+        return askChoice(CONTINUE_OR_QUIT, GameInputOptions.END_YEAR_CONTINUE, GameInputOptions.END_YEAR_QUIT);
+    }
+
+    @Override
+    public void pressAnyKeyToContinue() {}
+
+    public boolean wantsToPlayAgain() {
+        GamePlayerInput.displayOptionOrQuit(this.output, "Rejouer");
+        return askChoice(PLAY_AGAIN, GameInputOptions.END_GAME_CHOICE_START_NEW_GAME, GameInputOptions.END_GAME_CHOICE_STOP_PLAYING) == GameInputOptions.END_GAME_CHOICE_START_NEW_GAME;
+    }
+
+    /**
+     * Asks a name until it is made of 2 to 32 letters, digits, '-' or '_' : it names the player game saves
+     * @return player name
+     * @throws SessionClosedException the connection is closed
+     */
+    public String askPlayerName() throws SessionClosedException {
+        this.output.printf("%n%nEntrez votre pseudo ou votre prénom : %n");
+        while(true) {
+            String playerName = askLine(NAME).trim();
+            if(playerNamePattern.matcher(playerName).matches()) {
+                return playerName;
+            }
+            this.output.println("Attention vous devez entrer des caractères alphanumériques !");
+        }
+    }
+
+    /**
+     * Asks a number until it is between min and max
+     * @param kind what is asked, shown in the prompt
+     * @return chosen number
+     * @throws SessionClosedException the connection is closed
+     */
+    public int askChoice(String kind, int min, int max) throws SessionClosedException {
+        while(true) {
+            try {
+                int choice = Integer.parseInt(askLine(String.format("%s %d-%d", kind, min, max)).trim());
+                if(choice >= min && choice <= max) {
+                    return choice;
+                }
+            } catch (NumberFormatException ignored) {}
+            this.output.println(GamePlayerInput.incorrectInputWarning);
+        }
+    }
+
+    private String askLine(String prompt) throws SessionClosedException {
+        this.output.println(PROMPT_START + prompt + PROMPT_END);
+        try {
+            this.output.flush();
+            String line = this.input.readLine();
+            if(line == null) {
+                throw new SessionClosedException();
+            }
+            return line;
+        } catch (IOException | UncheckedIOException ex) {
+            throw new SessionClosedException();
+        }
+    }
+
+    /**
+     * Thrown out of the game when the client leaves, the game of the session is then abandoned
+     */
+    public static class SessionClosedException extends RuntimeException {
+        private SessionClosedException() {
+            super("The session is closed.", null, false, false);
+        }
+    }
+}
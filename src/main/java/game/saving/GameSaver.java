@@ -46,4 +46,14 @@ public abstract class GameSaver {
     }
 
     public abstract void deleteFile(String path);
+
+    /**
+     * @return if a game save exists at this path
+     */
+    public abstract boolean hasGameSave(String path);
+
+    /**
+     * @return saver of the same kind for another game (forked games)
+     */
+    public abstract GameSaver newGameSaver(Game gameToSave);
 }
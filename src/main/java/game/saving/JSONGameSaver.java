@@ -85,4 +85,14 @@ public class JSONGameSaver extends GameSaver {
         File file = new File(path);
         file.delete();
     }
+
+    @Override
+    public boolean hasGameSave(String path) {
+        return new File(path).exists();
+    }
+
+    @Override
+    public GameSaver newGameSaver(Game gameToSave) {
+        return new JSONGameSaver(gameToSave);
+    }
 }
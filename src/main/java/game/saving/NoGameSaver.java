@@ -0,0 +1,29 @@
+package game.saving;
+
+import game.Game;
+
+/**
+ * Saver of games which must not touch the disk (replays...) : there is never a game save and saving does nothing
+ */
+public class NoGameSaver extends GameSaver {
+
+    public NoGameSaver(Game gameToSave) {
+        super(gameToSave);
+    }
+
+    @Override
+    public void saveGame() {}
+
+    @Override
+    public void deleteFile(String path) {}
+
+    @Override
+    public boolean hasGameSave(String path) {
+        return false;
+    }
+
+    @Override
+    public GameSaver newGameSaver(Game gameToSave) {
+        return new NoGameSaver(gameToSave);
+    }
+}
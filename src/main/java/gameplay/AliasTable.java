@@ -0,0 +1,78 @@
+package gameplay;
+
+import java.util.Random;
+
+/**
+ * Weighted sampling in constant time (Vose alias method) : each index has a column of height 1
+ * split between itself (probability) and one other index (alias)
+ */
+public class AliasTable {
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    /**
+     * @param weights positive weight of each index
+     * @throws IllegalArgumentException there is no weight, or a weight is not positive
+     */
+    public AliasTable(double[] weights) throws IllegalArgumentException {
+        int nbWeights = weights.length;
+        if(nbWeights == 0) {
+            throw new IllegalArgumentException("An alias table needs at least one weight!");
+        }
+        double totalWeight = 0;
+        for(double weight : weights) {
+            if(!(weight > 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be positive!");
+            }
+            totalWeight += weight;
+        }
+        this.probabilities = new double[nbWeights];
+        this.aliases = new int[nbWeights];
+        double[] scaledWeights = new double[nbWeights];
+        int[] small = new int[nbWeights];
+        int[] large = new int[nbWeights];
+        int nbSmall = 0;
+        int nbLarge = 0;
+        for(int index = 0; index < nbWeights; index += 1) {
+            scaledWeights[index] = weights[index] * nbWeights / totalWeight;
+            if(scaledWeights[index] < 1) {
+                small[nbSmall++] = index;
+            }
+            else {
+                large[nbLarge++] = index;
+            }
+        }
+        while(nbSmall > 0 && nbLarge > 0) {
+            int smallIndex = small[--nbSmall];
+            int largeIndex = large[--nbLarge];
+            this.probabilities[smallIndex] = scaledWeights[smallIndex];
+            this.aliases[smallIndex] = largeIndex;
+            scaledWeights[largeIndex] = scaledWeights[largeIndex] + scaledWeights[smallIndex] - 1;
+            if(scaledWeights[largeIndex] < 1) {
+                small[nbSmall++] = largeIndex;
+            }
+            else {
+                large[nbLarge++] = largeIndex;
+            }
+        }
+        while(nbLarge > 0) {
+            this.probabilities[large[--nbLarge]] = 1;
+        }
+        while(nbSmall > 0) {
+            this.probabilities[small[--nbSmall]] = 1;
+        }
+    }
+
+    public int size() {
+        return this.probabilities.length;
+    }
+
+    /**
+     * @param random random generator of the game
+     * @return index drawn with a probability proportional to its weight
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(this.probabilities.length);
+        return random.nextDouble() < this.probabilities[column] ? column : this.aliases[column];
+    }
+}
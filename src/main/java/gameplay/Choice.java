@@ -1,5 +1,7 @@
 package gameplay;
 
+import output.Output;
+
 import java.util.List;
 
 public class Choice {
@@ -13,6 +15,14 @@ public class Choice {
         this.description = description;
     }
 
+    public String getName() {
+        return this.name;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
     public void setEffects(Effect effects) {
         this.effects = effects;
     }
@@ -25,10 +35,13 @@ public class Choice {
         return this.effects;
     }
 
-    public void display() {
-        System.out.printf("%s : %s%n", this.name, this.description);
-        effects.displayFactionEffects();
-        effects.displayFactorEffects();
+    public void display(Output output, double difficultyCoefficient) {
+        if(!output.isEnabled()) {
+            return;
+        }
+        output.printf("%s : %s%n", this.name, this.description);
+        effects.displayFactionEffects(output, difficultyCoefficient);
+        effects.displayFactorEffects(output, difficultyCoefficient);
     }
 
     public boolean hasRelatedEvents() {
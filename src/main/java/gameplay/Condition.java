@@ -0,0 +1,72 @@
+package gameplay;
+
+import parser.ParsingKeys;
+import republic.factions.FactionTypes;
+
+/**
+ * Condition of a sandbox event compiled at parse time : a state variable of the game must be within a range
+ */
+public class Condition {
+    private final int variable;
+    private final double min;
+    private final double max;
+
+    /**
+     * @param variable state variable, see ConditionState
+     * @param min lowest value of the variable, included
+     * @param max highest value of the variable, included
+     * @throws IllegalArgumentException min is greater than max
+     */
+    public Condition(int variable, double min, double max) throws IllegalArgumentException {
+        if(min > max) {
+            throw new IllegalArgumentException("The minimum of a condition can't be greater than its maximum!");
+        }
+        this.variable = variable;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * @param factionTypes factions of the scenario
+     * @param variableKey "year", a factor key or, with a faction, a faction factor key
+     * @param factionName faction of the variable, null for a variable of the republic
+     * @param min lowest value of the variable, included
+     * @param max highest value of the variable, included
+     * @return condition on the variable
+     * @throws IllegalArgumentException the variable or the faction doesn't exist, or min is greater than max
+     */
+    public static Condition of(FactionTypes factionTypes, String variableKey, String factionName, double min, double max) throws IllegalArgumentException {
+        if(factionName != null) {
+            int factionId = factionTypes.getId(factionName);
+            FactionFactor factionFactor = FactionFactor.fromKey(variableKey);
+            if(factionId < 0 || factionFactor == null) {
+                throw new IllegalArgumentException("Unknown faction variable in condition : " + factionName + " " + variableKey);
+            }
+            return new Condition(ConditionState.getFactionVariable(factionId, factionFactor), min, max);
+        }
+        if(variableKey.equals(ParsingKeys.year)) {
+            return new Condition(ConditionState.YEAR, min, max);
+        }
+        Factor factor = Factor.fromKey(variableKey);
+        if(factor == null) {
+            throw new IllegalArgumentException("Unknown variable in condition : " + variableKey);
+        }
+        return new Condition(ConditionState.getVariable(factor), min, max);
+    }
+
+    public int getVariable() {
+        return this.variable;
+    }
+
+    public double getMin() {
+        return this.min;
+    }
+
+    public double getMax() {
+        return this.max;
+    }
+
+    public boolean isSatisfiedBy(double value) {
+        return value >= this.min && value <= this.max;
+    }
+}
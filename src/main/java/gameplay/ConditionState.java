@@ -0,0 +1,81 @@
+package gameplay;
+
+import republic.Republic;
+import republic.economy.Resources;
+import republic.factions.Population;
+
+/**
+ * State variables of a game event conditions can test, read from the republic before each event is drawn
+ * Variables are indexed : factors first (by ordinal), then the year, then the faction factors of each faction
+ */
+public class ConditionState {
+    public static final int YEAR = Factor.values().length;
+    private static final int NB_REPUBLIC_VARIABLES = YEAR + 1;
+
+    private final Republic republic;
+    private final double[] values;
+    private final int[] changedVariables;
+    private int nbChangedVariables;
+    private boolean isRead;
+
+    public ConditionState(Republic republic) {
+        this.republic = republic;
+        this.values = new double[getNbVariables(republic.getPopulation().getNbFactions())];
+        this.changedVariables = new int[this.values.length];
+    }
+
+    public static int getVariable(Factor factor) {
+        return factor.ordinal();
+    }
+
+    public static int getFactionVariable(int factionId, FactionFactor factionFactor) {
+        return NB_REPUBLIC_VARIABLES + factionId * FactionFactor.count() + factionFactor.ordinal();
+    }
+
+    public static int getNbVariables(int nbFactions) {
+        return NB_REPUBLIC_VARIABLES + nbFactions * FactionFactor.count();
+    }
+
+    public double getValue(int variable) {
+        return variable < this.values.length ? this.values[variable] : Double.NaN;
+    }
+
+    /**
+     * Reads every variable, all of them are changed on the first read
+     * @param year year displayed to the player, starting at 1
+     * @return number of changed variables
+     */
+    public int update(int year) {
+        this.nbChangedVariables = 0;
+        Resources resources = this.republic.getResources();
+        Population population = this.republic.getPopulation();
+        set(getVariable(Factor.INDUSTRY_RATE), resources.getIndustryRate());
+        set(getVariable(Factor.FARM_RATE), resources.getFarmRate());
+        set(getVariable(Factor.FOOD_UNITS), resources.getFoodUnits());
+        set(getVariable(Factor.MONEY), resources.getMoney());
+        set(getVariable(Factor.POPULATION), population.getTotalPopulation());
+        set(getVariable(Factor.SATISFACTION_RATE), population.getGlobalSatisfactionRate());
+        set(YEAR, year);
+        for(int factionId = 0; factionId < population.getNbFactions(); factionId += 1) {
+            set(getFactionVariable(factionId, FactionFactor.SATISFACTION_RATE), population.getSatisfactionRate(factionId));
+            set(getFactionVariable(factionId, FactionFactor.NB_SUPPORTERS), population.getNbSupporters(factionId));
+        }
+        this.isRead = true;
+        return this.nbChangedVariables;
+    }
+
+    /**
+     * @param index index among the variables changed by the last update
+     * @return changed variable
+     */
+    public int getChangedVariable(int index) {
+        return this.changedVariables[index];
+    }
+
+    private void set(int variable, double value) {
+        if(!this.isRead || this.values[variable] != value) {
+            this.values[variable] = value;
+            this.changedVariables[this.nbChangedVariables++] = variable;
+        }
+    }
+}
@@ -1,67 +1,205 @@
 package gameplay;
 
-import parser.ParsingKeys;
+import output.Output;
+import republic.factions.FactionTypes;
 
+import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
+/**
+ * Effect compiled into primitive vectors : faction deltas are kept as parallel arrays sorted by faction ID
+ * then faction factor, factor deltas are indexed by factor ordinals with a bit mask telling which ones are set,
+ * so applying an effect walks only the set deltas without hashing, boxing or comparing strings
+ */
 public class Effect {
-    private final Map<String, Map<String, Integer>> effectsByFaction;
-    private final Map<String, Integer> effectsByFactor;
-
-    public Effect(Map<String, Map<String, Integer>> effectsByFaction, Map<String, Integer> effectsByFactor) {
-        this.effectsByFaction = effectsByFaction;
-        this.effectsByFactor = effectsByFactor;
-    }
-
-    public void displayFactionEffects() {
-        if(this.effectsByFaction.size() != 0) {
-            for(Map.Entry<String, Map<String, Integer>> effectsByFactionSet : effectsByFaction.entrySet()) {
-                StringBuilder factionEffects = new StringBuilder("\t");
-                String factionName = effectsByFactionSet.getKey();
-                factionEffects.append(String.format("%s : %n\t\t", factionName));
-
-                Map<String, Integer> effectsOnFaction = effectsByFactionSet.getValue();
-                for(Map.Entry<String, Integer> effectByFactionSet : effectsOnFaction.entrySet()) {
-                    String factionFactorName = effectByFactionSet.getKey();
-                    int factionFactorEffect = effectByFactionSet.getValue();
-                    if(factionFactorName.equals(ParsingKeys.satisfactionRate)) {
-                        factionEffects.append(getEffectNameAndValue("Satisfaction", factionFactorEffect, "%"));
-                    }
-                    if(factionFactorName.equals(ParsingKeys.nbSupporters)) {
-                        factionEffects.append(getEffectNameAndValue("Partisans", factionFactorEffect, ""));
-                    }
+    private final FactionTypes factionTypes;
+    private final int[] factionIds;
+    private final FactionFactor[] factionFactors;
+    private final int[] factionDeltas;
+    private final int[] factorDeltas;
+    private int factorMask;
+
+    /**
+     * Effect on the default factions
+     * @param effectsByFaction effect values by faction factor key, by faction name
+     * @param effectsByFactor effect values by factor key
+     * @throws IllegalArgumentException a faction, a faction factor or a factor doesn't exist
+     */
+    public Effect(Map<String, Map<String, Integer>> effectsByFaction, Map<String, Integer> effectsByFactor) throws IllegalArgumentException {
+        this(FactionTypes.DEFAULT, effectsByFaction, effectsByFactor);
+    }
+
+    /**
+     * @param factionTypes factions of the scenario
+     * @param effectsByFaction effect values by faction factor key, by faction name
+     * @param effectsByFactor effect values by factor key
+     * @throws IllegalArgumentException a faction, a faction factor or a factor doesn't exist
+     */
+    public Effect(FactionTypes factionTypes, Map<String, Map<String, Integer>> effectsByFaction, Map<String, Integer> effectsByFactor) throws IllegalArgumentException {
+        this.factionTypes = factionTypes;
+        this.factorDeltas = new int[Factor.count()];
+        TreeMap<Integer, Integer> deltaBySlot = new TreeMap<>();
+        for(Map.Entry<String, Map<String, Integer>> effectsByFactionSet : effectsByFaction.entrySet()) {
+            int factionId = factionTypes.getId(effectsByFactionSet.getKey());
+            if(factionId < 0) {
+                throw new IllegalArgumentException("Unknown faction in effect : " + effectsByFactionSet.getKey());
+            }
+            for(Map.Entry<String, Integer> effectOnFaction : effectsByFactionSet.getValue().entrySet()) {
+                FactionFactor factionFactor = FactionFactor.fromKey(effectOnFaction.getKey());
+                if(factionFactor == null) {
+                    throw new IllegalArgumentException("Unknown faction factor in effect : " + effectOnFaction.getKey());
                 }
-                System.out.printf("%s%n", (deleteLastHyphen(factionEffects.toString())));
+                deltaBySlot.put(factionId * FactionFactor.count() + factionFactor.ordinal(), effectOnFaction.getValue());
+            }
+        }
+        this.factionIds = new int[deltaBySlot.size()];
+        this.factionFactors = new FactionFactor[deltaBySlot.size()];
+        this.factionDeltas = new int[deltaBySlot.size()];
+        int index = 0;
+        for(Map.Entry<Integer, Integer> slotDelta : deltaBySlot.entrySet()) {
+            this.factionIds[index] = slotDelta.getKey() / FactionFactor.count();
+            this.factionFactors[index] = FactionFactor.fromOrdinal(slotDelta.getKey() % FactionFactor.count());
+            this.factionDeltas[index] = slotDelta.getValue();
+            index += 1;
+        }
+        for(Map.Entry<String, Integer> effectsByFactorSet : effectsByFactor.entrySet()) {
+            Factor factor = Factor.fromKey(effectsByFactorSet.getKey());
+            if(factor == null) {
+                throw new IllegalArgumentException("Unknown factor in effect : " + effectsByFactorSet.getKey());
             }
+            this.factorDeltas[factor.ordinal()] = effectsByFactorSet.getValue();
+            this.factorMask |= 1 << factor.ordinal();
         }
     }
 
-    public void displayFactorEffects() {
-        if(this.effectsByFactor.size() != 0) {
-            StringBuilder factorEffects = new StringBuilder("\t");
-            for(Map.Entry<String, Integer> effectsByFactorSet : effectsByFactor.entrySet()) {
-                String factorName = effectsByFactorSet.getKey();
-                int factorEffect = effectsByFactorSet.getValue();
-                if(factorName.equals(ParsingKeys.industryRate)) {
-                    factorEffects.append(getEffectNameAndValue("Industrialisation", factorEffect, "%"));
-                }
-                if(factorName.equals(ParsingKeys.farmRate)) {
-                    factorEffects.append(getEffectNameAndValue("Agriculture", factorEffect, "%"));
-                }
-                if(factorName.equals(ParsingKeys.foodUnits)) {
-                    factorEffects.append(getEffectNameAndValue("Nourriture", factorEffect, " unité(s)"));
-                }
-                if(factorName.equals(ParsingKeys.money)) {
-                    factorEffects.append(getEffectNameAndValue("Argent", factorEffect, "$"));
-                }
-                if(factorName.equals(ParsingKeys.population)) {
-                    factorEffects.append(getEffectNameAndValue("Population", factorEffect, ""));
-                }
-                if(factorName.equals(ParsingKeys.satisfactionRate)) {
-                    factorEffects.append(getEffectNameAndValue("Satisfaction globale", factorEffect, "%"));
+    /**
+     * Effect already compiled into vectors, which are kept as is
+     */
+    Effect(FactionTypes factionTypes, int[] factionIds, FactionFactor[] factionFactors, int[] factionDeltas, int[] factorDeltas, int factorMask) {
+        this.factionTypes = factionTypes;
+        this.factionIds = factionIds;
+        this.factionFactors = factionFactors;
+        this.factionDeltas = factionDeltas;
+        this.factorDeltas = factorDeltas;
+        this.factorMask = factorMask;
+    }
+
+    /**
+     * Builds an effect straight from its vectors (compiled scenarios), without any map or string lookup
+     * @param factionTypes factions of the scenario
+     * @param factionIds faction ID of each faction delta
+     * @param factionFactors faction factor of each faction delta
+     * @param factionDeltas faction deltas, sorted by faction ID then faction factor, each slot set once
+     * @param factorDeltas factor deltas indexed by factor ordinal
+     * @param factorMask one bit by set factor delta, the bit index being the factor ordinal
+     * @return effect using the given arrays, which must not be modified afterwards
+     * @throws IllegalArgumentException vectors are inconsistent, a faction or a factor doesn't exist
+     */
+    public static Effect of(FactionTypes factionTypes, int[] factionIds, FactionFactor[] factionFactors, int[] factionDeltas, int[] factorDeltas, int factorMask) throws IllegalArgumentException {
+        if(factionIds.length != factionDeltas.length || factionFactors.length != factionDeltas.length || factorDeltas.length != Factor.count()) {
+            throw new IllegalArgumentException("Effect vectors don't have matching lengths");
+        }
+        int previousSlot = -1;
+        for(int index = 0; index < factionDeltas.length; index += 1) {
+            if(factionIds[index] < 0 || factionIds[index] >= factionTypes.count() || factionFactors[index] == null) {
+                throw new IllegalArgumentException("Unknown faction in effect : " + factionIds[index]);
+            }
+            int slot = factionIds[index] * FactionFactor.count() + factionFactors[index].ordinal();
+            if(slot <= previousSlot) {
+                throw new IllegalArgumentException("Faction deltas of effect are not sorted");
+            }
+            previousSlot = slot;
+        }
+        if((factorMask & -(1 << Factor.count())) != 0) {
+            throw new IllegalArgumentException("Unknown factor in effect mask : " + Integer.toBinaryString(factorMask));
+        }
+        for(int ordinal = 0; ordinal < factorDeltas.length; ordinal += 1) {
+            if((factorMask & 1 << ordinal) == 0 && factorDeltas[ordinal] != 0) {
+                throw new IllegalArgumentException("Factor delta of effect is not in its mask : " + Factor.fromOrdinal(ordinal).getKey());
+            }
+        }
+        return new Effect(factionTypes, factionIds, factionFactors, factionDeltas, factorDeltas, factorMask);
+    }
+
+    /**
+     * Effects are parsed with their normal difficulty values, each game scales them with its own difficulty
+     * @param value effect value in configuration file
+     * @param difficultyCoefficient coefficient of the game difficulty
+     * @return effect value for the game difficulty
+     */
+    public static int applyDifficultyCoefficient(int value, double difficultyCoefficient) {
+        return (int)Math.round(value * difficultyCoefficient);
+    }
+
+    public FactionTypes getFactionTypes() {
+        return this.factionTypes;
+    }
+
+    /**
+     * @return number of set faction deltas, sorted by faction ID then faction factor
+     */
+    public int getNbFactionDeltas() {
+        return this.factionDeltas.length;
+    }
+
+    public int getFactionId(int deltaIndex) {
+        return this.factionIds[deltaIndex];
+    }
+
+    public FactionFactor getFactionFactor(int deltaIndex) {
+        return this.factionFactors[deltaIndex];
+    }
+
+    public int getFactionDelta(int deltaIndex) {
+        return this.factionDeltas[deltaIndex];
+    }
+
+    /**
+     * @return one bit by set factor delta, the bit index being the factor ordinal
+     */
+    public int getFactorMask() {
+        return this.factorMask;
+    }
+
+    public int getFactorDelta(Factor factor) {
+        return this.factorDeltas[factor.ordinal()];
+    }
+
+    public void displayFactionEffects(Output output, double difficultyCoefficient) {
+        if(!output.isEnabled()) {
+            return;
+        }
+        int displayedFactionId = -1;
+        StringBuilder factionEffects = null;
+        for(int index = 0; index < this.factionDeltas.length; index += 1) {
+            int factionId = this.factionIds[index];
+            if(factionId != displayedFactionId) {
+                if(factionEffects != null) {
+                    output.printf("%s%n", deleteLastHyphen(factionEffects.toString()));
                 }
+                displayedFactionId = factionId;
+                factionEffects = new StringBuilder("\t");
+                factionEffects.append(String.format("%s : %n\t\t", this.factionTypes.getName(factionId)));
+            }
+            FactionFactor factionFactor = this.factionFactors[index];
+            int factionFactorEffect = applyDifficultyCoefficient(this.factionDeltas[index], difficultyCoefficient);
+            factionEffects.append(getEffectNameAndValue(factionFactor.getLabel(), factionFactorEffect, factionFactor.getUnit()));
+        }
+        if(factionEffects != null) {
+            output.printf("%s%n", deleteLastHyphen(factionEffects.toString()));
+        }
+    }
+
+    public void displayFactorEffects(Output output, double difficultyCoefficient) {
+        if(this.factorMask != 0 && output.isEnabled()) {
+            StringBuilder factorEffects = new StringBuilder("\t");
+            for(int factors = this.factorMask; factors != 0; factors &= factors - 1) {
+                Factor factor = Factor.fromOrdinal(Integer.numberOfTrailingZeros(factors));
+                int factorEffect = applyDifficultyCoefficient(this.factorDeltas[factor.ordinal()], difficultyCoefficient);
+                factorEffects.append(getEffectNameAndValue(factor.getLabel(), factorEffect, factor.getUnit()));
             }
-            System.out.println(deleteLastHyphen(factorEffects.toString()));
+            output.println(deleteLastHyphen(factorEffects.toString()));
         }
     }
 
@@ -80,13 +218,29 @@ public class Effect {
         return toShorten.substring(0, toShorten.length() - 2);
     }
 
+    /**
+     * Built on demand from the vectors (compiler, tests), the game only uses the vectors
+     * @return effect values by faction factor key, by faction name
+     */
     public Map<String, Map<String, Integer>> getEffectsByFaction() {
+        Map<String, Map<String, Integer>> effectsByFaction = new HashMap<>();
+        for(int index = 0; index < this.factionDeltas.length; index += 1) {
+            String factionName = this.factionTypes.getName(this.factionIds[index]);
+            effectsByFaction.computeIfAbsent(factionName, name -> new HashMap<>()).put(this.factionFactors[index].getKey(), this.factionDeltas[index]);
+        }
         return effectsByFaction;
     }
 
+    /**
+     * Built on demand from the vector (compiler, tests), the game only uses the vector
+     * @return effect values by factor key
+     */
     public Map<String, Integer> getEffectsByFactor() {
+        Map<String, Integer> effectsByFactor = new HashMap<>();
+        for(int factors = this.factorMask; factors != 0; factors &= factors - 1) {
+            Factor factor = Factor.fromOrdinal(Integer.numberOfTrailingZeros(factors));
+            effectsByFactor.put(factor.getKey(), this.factorDeltas[factor.ordinal()]);
+        }
         return effectsByFactor;
     }
-
-
 }
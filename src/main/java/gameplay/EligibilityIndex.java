@@ -0,0 +1,114 @@
+package gameplay;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conditions of the sandbox events indexed by the state variable they test
+ * When the state changes, only the conditions testing a changed variable are evaluated again,
+ * an event becoming eligible or not is added to or removed from the pool of its deck
+ * Conditions of played related events are dropped the next time their variable changes
+ */
+public class EligibilityIndex {
+    private final List<List<Dependency>> dependenciesByVariable = new ArrayList<>();
+    private ConditionState state;
+
+    /**
+     * Evaluates every registered condition against a state, then only the changed variables on each update
+     * @param state state of the watched game
+     * @param year year displayed to the player, starting at 1
+     */
+    public void watch(ConditionState state, int year) {
+        this.state = state;
+        update(year);
+    }
+
+    /**
+     * Reads the state and evaluates the conditions testing a changed variable
+     * @param year year displayed to the player, starting at 1
+     */
+    public void update(int year) {
+        if(this.state == null) {
+            return;
+        }
+        int nbChangedVariables = this.state.update(year);
+        for(int index = 0; index < nbChangedVariables; index += 1) {
+            int variable = this.state.getChangedVariable(index);
+            if(variable < this.dependenciesByVariable.size()) {
+                evaluate(this.dependenciesByVariable.get(variable), this.state.getValue(variable));
+            }
+        }
+    }
+
+    /**
+     * Indexes the conditions of a deck entry, the entry is eligible once all its conditions are satisfied
+     * Conditions are unsatisfied until a state is watched
+     * @param entry conditional event of a deck
+     */
+    void register(EventDeck.Entry entry) {
+        List<Condition> conditions = entry.getEvent().getConditions();
+        entry.nbUnsatisfiedConditions = 0;
+        for(Condition condition : conditions) {
+            Dependency dependency = new Dependency(entry, condition);
+            dependency.isSatisfied = this.state != null && condition.isSatisfiedBy(this.state.getValue(condition.getVariable()));
+            if(!dependency.isSatisfied) {
+                entry.nbUnsatisfiedConditions += 1;
+            }
+            getDependencies(condition.getVariable()).add(dependency);
+        }
+        if(entry.nbUnsatisfiedConditions == 0) {
+            entry.getDeck().addToPool(entry);
+        }
+    }
+
+    private List<Dependency> getDependencies(int variable) {
+        while(variable >= this.dependenciesByVariable.size()) {
+            this.dependenciesByVariable.add(new ArrayList<>());
+        }
+        return this.dependenciesByVariable.get(variable);
+    }
+
+    /**
+     * Evaluates the conditions on a variable, dependencies of removed entries are compacted on the way
+     */
+    private static void evaluate(List<Dependency> dependencies, double value) {
+        int nbKeptDependencies = 0;
+        for(int index = 0; index < dependencies.size(); index += 1) {
+            Dependency dependency = dependencies.get(index);
+            EventDeck.Entry entry = dependency.entry;
+            if(entry.isRemoved) {
+                continue;
+            }
+            dependencies.set(nbKeptDependencies++, dependency);
+            boolean isSatisfied = dependency.condition.isSatisfiedBy(value);
+            if(isSatisfied == dependency.isSatisfied) {
+                continue;
+            }
+            dependency.isSatisfied = isSatisfied;
+            if(isSatisfied) {
+                entry.nbUnsatisfiedConditions -= 1;
+                if(entry.nbUnsatisfiedConditions == 0) {
+                    entry.getDeck().addToPool(entry);
+                }
+            }
+            else {
+                if(entry.nbUnsatisfiedConditions == 0) {
+                    entry.getDeck().removeFromPool(entry);
+                }
+                entry.nbUnsatisfiedConditions += 1;
+            }
+        }
+        dependencies.subList(nbKeptDependencies, dependencies.size()).clear();
+    }
+
+    private static class Dependency {
+        private final EventDeck.Entry entry;
+        private final Condition condition;
+        private boolean isSatisfied;
+
+        private Dependency(EventDeck.Entry entry, Condition condition) {
+            this.entry = entry;
+            this.condition = condition;
+        }
+    }
+}
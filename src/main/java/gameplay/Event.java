@@ -1,5 +1,7 @@
 package gameplay;
 
+import output.Output;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -10,12 +12,39 @@ public class Event {
     private List<Choice> choices = new ArrayList<>();
     private Effect irreversibleEffects;
     private boolean isARelatedEvent = false;
+    private double weight = 1;
+    private List<Condition> conditions = new ArrayList<>();
+    private int id = -1;
 
     public Event(String name, String description) {
         this.name = name;
         this.description = description;
     }
 
+    public String getName() {
+        return this.name;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * @return rank of the event in its configuration file, related events included, the same at each parse of the file
+     *         (-1 for an event which was not parsed)
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public List<Choice> getChoices() {
+        return this.choices;
+    }
+
     public void setChoices(List<Choice> choices) {
         this.choices = choices;
     }
@@ -28,34 +57,70 @@ public class Event {
         return isARelatedEvent;
     }
 
+    /**
+     * @return weight of the event when sandbox events are drawn, 1 by default
+     */
+    public double getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * @param weight weight of the event when sandbox events are drawn
+     * @throws IllegalArgumentException weight is not positive
+     */
+    public void setWeight(double weight) throws IllegalArgumentException {
+        if(!(weight > 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("The weight of an event must be positive!");
+        }
+        this.weight = weight;
+    }
+
+    /**
+     * @return conditions to draw the event in sandbox mode, all of them must be satisfied
+     */
+    public List<Condition> getConditions() {
+        return this.conditions;
+    }
+
+    public void setConditions(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    public boolean hasConditions() {
+        return !this.conditions.isEmpty();
+    }
+
     public void setIrreversibleEffects(Effect irreversibleEffects) {
         this.irreversibleEffects = irreversibleEffects;
     }
 
-    public void display(int nbEvent) {
-        System.out.printf("%nÉvénement %d : %s%n", nbEvent, this.name);
+    public void display(int nbEvent, Output output, double difficultyCoefficient) {
+        if(!output.isEnabled()) {
+            return;
+        }
+        output.printf("%nÉvénement %d : %s%n", nbEvent, this.name);
         if(!this.description.equals("")) {
-            System.out.printf("Description : %s%n", this.description);
+            output.printf("Description : %s%n", this.description);
         }
         if(hasIrreversibleEffects()) {
-            System.out.printf("%nImpact(s) direct(s) :%n");
-            this.irreversibleEffects.displayFactionEffects();
-            this.irreversibleEffects.displayFactorEffects();
+            output.printf("%nImpact(s) direct(s) :%n");
+            this.irreversibleEffects.displayFactionEffects(output, difficultyCoefficient);
+            this.irreversibleEffects.displayFactorEffects(output, difficultyCoefficient);
         }
-        System.out.printf("%nChoix possible(s) :%n");
-        displayChoices();
-        System.out.println("Entrez votre choix :");
+        output.printf("%nChoix possible(s) :%n");
+        displayChoices(output, difficultyCoefficient);
+        output.println("Entrez votre choix :");
     }
 
     public boolean hasIrreversibleEffects() {
         return irreversibleEffects != null;
     }
 
-    public void displayChoices() {
+    public void displayChoices(Output output, double difficultyCoefficient) {
         int nbChoix = 1;
         for(Choice choice : choices) {
-            System.out.printf("%n%d. ", nbChoix);
-            choice.display();
+            output.printf("%n%d. ", nbChoix);
+            choice.display(output, difficultyCoefficient);
             nbChoix += 1;
         }
     }
@@ -0,0 +1,217 @@
+package gameplay;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Events of a sandbox season, drawn at random with a probability proportional to their weight
+ * Unconditional events of the scenario stay in the deck and are drawn from an alias table built once,
+ * the other events (conditional or related) are kept in a pool of eligible events where they are drawn by rejection,
+ * an eligibility index adds and removes conditional events to the pool when the game state changes
+ * and related events are swap-removed once played, so drawing, adding and removing an event don't depend
+ * on the number of events
+ * The order of the events is meaningless
+ */
+public class EventDeck extends AbstractList<Event> {
+    private final Event[] scenarioEvents;
+    private final double scenarioEventsWeight;
+    private AliasTable scenarioEventsTable;
+    private final EligibilityIndex eligibilityIndex;
+    private Entry[] entries = new Entry[8];
+    private int nbEntries;
+    private Entry[] pool = new Entry[8];
+    private int poolSize;
+    private double poolWeight;
+    private double maxPoolEventWeight;
+
+    /**
+     * Conditional events of this deck are never eligible, the deck having its own eligibility index
+     * @param events events of the season, related ones being played only once
+     */
+    public EventDeck(List<Event> events) {
+        this(events, new EligibilityIndex());
+    }
+
+    /**
+     * @param events events of the season, related ones being played only once
+     * @param eligibilityIndex index of the conditional events of the game
+     */
+    public EventDeck(List<Event> events, EligibilityIndex eligibilityIndex) {
+        this.eligibilityIndex = eligibilityIndex;
+        int nbScenarioEvents = 0;
+        Event[] scenarioEvents = new Event[events.size()];
+        double scenarioEventsWeight = 0;
+        for(Event event : events) {
+            if(event.isARelatedEvent() || event.hasConditions()) {
+                addEntry(event, event.isARelatedEvent());
+            }
+            else {
+                scenarioEvents[nbScenarioEvents++] = event;
+                scenarioEventsWeight += event.getWeight();
+            }
+        }
+        this.scenarioEvents = Arrays.copyOf(scenarioEvents, nbScenarioEvents);
+        this.scenarioEventsWeight = scenarioEventsWeight;
+        if(nbScenarioEvents > 0) {
+            double[] weights = new double[nbScenarioEvents];
+            for(int index = 0; index < nbScenarioEvents; index += 1) {
+                weights[index] = this.scenarioEvents[index].getWeight();
+            }
+            this.scenarioEventsTable = new AliasTable(weights);
+        }
+    }
+
+    /**
+     * @return if an event can be drawn whatever the state of the game
+     */
+    public boolean hasUnconditionalEvent() {
+        return this.scenarioEvents.length > 0;
+    }
+
+    /**
+     * @return number of events which can be drawn now
+     */
+    public int getNbEligibleEvents() {
+        return this.scenarioEvents.length + this.poolSize;
+    }
+
+    @Override
+    public int size() {
+        return this.scenarioEvents.length + this.nbEntries;
+    }
+
+    /**
+     * @param index unconditional events of the scenario first, then conditional and related events
+     * @return event at this index
+     */
+    @Override
+    public Event get(int index) {
+        if(index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if(index < this.scenarioEvents.length) {
+            return this.scenarioEvents[index];
+        }
+        return this.entries[index - this.scenarioEvents.length].event;
+    }
+
+    /**
+     * Adds a related event, it will be removed from the deck once drawn
+     * @param event related event
+     * @return always true
+     */
+    @Override
+    public boolean add(Event event) {
+        addEntry(event, true);
+        return true;
+    }
+
+    /**
+     * Draws an eligible event, a related one is removed from the deck
+     * @param random random generator of the game
+     * @return drawn event, null if no event is eligible
+     */
+    public Event draw(Random random) {
+        if(this.poolSize == 0) {
+            return this.scenarioEventsTable == null ? null : this.scenarioEvents[this.scenarioEventsTable.sample(random)];
+        }
+        if(this.scenarioEventsTable != null && random.nextDouble() * (this.scenarioEventsWeight + this.poolWeight) < this.scenarioEventsWeight) {
+            return this.scenarioEvents[this.scenarioEventsTable.sample(random)];
+        }
+        int index = random.nextInt(this.poolSize);
+        while(random.nextDouble() * this.maxPoolEventWeight >= this.pool[index].event.getWeight()) {
+            index = random.nextInt(this.poolSize);
+        }
+        Entry entry = this.pool[index];
+        if(entry.isPlayedOnce) {
+            removeEntry(entry);
+        }
+        return entry.event;
+    }
+
+    private void addEntry(Event event, boolean isPlayedOnce) {
+        Entry entry = new Entry(this, event, isPlayedOnce);
+        if(this.nbEntries == this.entries.length) {
+            this.entries = Arrays.copyOf(this.entries, this.nbEntries * 2);
+        }
+        entry.entryIndex = this.nbEntries;
+        this.entries[this.nbEntries++] = entry;
+        if(event.hasConditions()) {
+            this.eligibilityIndex.register(entry);
+        }
+        else {
+            addToPool(entry);
+        }
+        this.modCount += 1;
+    }
+
+    private void removeEntry(Entry entry) {
+        removeFromPool(entry);
+        this.nbEntries -= 1;
+        Entry lastEntry = this.entries[this.nbEntries];
+        this.entries[entry.entryIndex] = lastEntry;
+        lastEntry.entryIndex = entry.entryIndex;
+        this.entries[this.nbEntries] = null;
+        entry.isRemoved = true;
+        this.modCount += 1;
+    }
+
+    /**
+     * Makes an entry eligible
+     */
+    void addToPool(Entry entry) {
+        if(this.poolSize == this.pool.length) {
+            this.pool = Arrays.copyOf(this.pool, this.poolSize * 2);
+        }
+        entry.poolIndex = this.poolSize;
+        this.pool[this.poolSize++] = entry;
+        this.poolWeight += entry.event.getWeight();
+        this.maxPoolEventWeight = Math.max(this.maxPoolEventWeight, entry.event.getWeight());
+    }
+
+    /**
+     * Makes an entry ineligible, the rejection bound keeps the highest weight the pool had until it is empty
+     */
+    void removeFromPool(Entry entry) {
+        this.poolSize -= 1;
+        Entry lastEntry = this.pool[this.poolSize];
+        this.pool[entry.poolIndex] = lastEntry;
+        lastEntry.poolIndex = entry.poolIndex;
+        this.pool[this.poolSize] = null;
+        entry.poolIndex = -1;
+        this.poolWeight -= entry.event.getWeight();
+        if(this.poolSize == 0) {
+            this.poolWeight = 0;
+            this.maxPoolEventWeight = 0;
+        }
+    }
+
+    /**
+     * Conditional or related event of a deck
+     */
+    static class Entry {
+        private final EventDeck deck;
+        private final Event event;
+        private final boolean isPlayedOnce;
+        private int entryIndex;
+        private int poolIndex = -1;
+        int nbUnsatisfiedConditions;
+        boolean isRemoved;
+
+        private Entry(EventDeck deck, Event event, boolean isPlayedOnce) {
+            this.deck = deck;
+            this.event = event;
+            this.isPlayedOnce = isPlayedOnce;
+        }
+
+        EventDeck getDeck() {
+            return this.deck;
+        }
+
+        Event getEvent() {
+            return this.event;
+        }
+    }
+}
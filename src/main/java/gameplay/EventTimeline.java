@@ -0,0 +1,182 @@
+package gameplay;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Events of a season stored in chunks of at most CHUNK_CAPACITY events, so inserting an event (related events)
+ * shifts only the events of one chunk instead of all the events after it
+ * Events are mostly read year after year, the chunk of the last read event is remembered to find the next one at once
+ */
+public class EventTimeline extends AbstractList<Event> {
+    static final int CHUNK_CAPACITY = 64;
+
+    private Event[][] chunks = new Event[1][];
+    private int[] chunkSizes = new int[1];
+    private int nbChunks = 1;
+    private int size;
+    private int cachedChunk;
+    private int cachedChunkStart;
+
+    public EventTimeline() {
+        this.chunks[0] = new Event[CHUNK_CAPACITY];
+    }
+
+    /**
+     * Chunks are filled by half, to leave room for the events inserted later
+     * @param events events in their order in the season
+     */
+    public EventTimeline(Collection<Event> events) {
+        this();
+        int chunkFill = CHUNK_CAPACITY / 2;
+        for(Event event : events) {
+            if(this.chunkSizes[this.nbChunks - 1] == chunkFill) {
+                insertChunk(this.nbChunks);
+            }
+            this.chunks[this.nbChunks - 1][this.chunkSizes[this.nbChunks - 1]++] = event;
+            this.size += 1;
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Event get(int index) {
+        checkIndex(index, this.size);
+        int chunk = locate(index);
+        return this.chunks[chunk][index - this.cachedChunkStart];
+    }
+
+    @Override
+    public Event set(int index, Event event) {
+        checkIndex(index, this.size);
+        int chunk = locate(index);
+        Event previousEvent = this.chunks[chunk][index - this.cachedChunkStart];
+        this.chunks[chunk][index - this.cachedChunkStart] = event;
+        return previousEvent;
+    }
+
+    @Override
+    public void add(int index, Event event) {
+        checkIndex(index, this.size + 1);
+        int chunk = index == this.size ? locateEnd() : locate(index);
+        if(this.chunkSizes[chunk] == CHUNK_CAPACITY) {
+            splitChunk(chunk);
+            if(index - this.cachedChunkStart > this.chunkSizes[chunk]) {
+                this.cachedChunkStart += this.chunkSizes[chunk];
+                chunk += 1;
+                this.cachedChunk = chunk;
+            }
+        }
+        int indexInChunk = index - this.cachedChunkStart;
+        Event[] events = this.chunks[chunk];
+        System.arraycopy(events, indexInChunk, events, indexInChunk + 1, this.chunkSizes[chunk] - indexInChunk);
+        events[indexInChunk] = event;
+        this.chunkSizes[chunk] += 1;
+        this.size += 1;
+        this.modCount += 1;
+    }
+
+    @Override
+    public Event remove(int index) {
+        checkIndex(index, this.size);
+        int chunk = locate(index);
+        int indexInChunk = index - this.cachedChunkStart;
+        Event[] events = this.chunks[chunk];
+        Event removedEvent = events[indexInChunk];
+        System.arraycopy(events, indexInChunk + 1, events, indexInChunk, this.chunkSizes[chunk] - indexInChunk - 1);
+        this.chunkSizes[chunk] -= 1;
+        events[this.chunkSizes[chunk]] = null;
+        if(this.chunkSizes[chunk] == 0 && this.nbChunks > 1) {
+            removeChunk(chunk);
+        }
+        this.size -= 1;
+        this.modCount += 1;
+        return removedEvent;
+    }
+
+    @Override
+    public void clear() {
+        this.chunks = new Event[1][CHUNK_CAPACITY];
+        this.chunkSizes = new int[1];
+        this.nbChunks = 1;
+        this.size = 0;
+        this.cachedChunk = 0;
+        this.cachedChunkStart = 0;
+        this.modCount += 1;
+    }
+
+    private static void checkIndex(int index, int length) {
+        if(index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (length));
+        }
+    }
+
+    /**
+     * Finds the chunk holding an event, from the last found chunk when the event is after it
+     * @param index index of an event, lower than the size
+     * @return chunk of the event, its first index being then cachedChunkStart
+     */
+    private int locate(int index) {
+        int chunk = this.cachedChunk;
+        int chunkStart = this.cachedChunkStart;
+        if(index < chunkStart) {
+            chunk = 0;
+            chunkStart = 0;
+        }
+        while(index >= chunkStart + this.chunkSizes[chunk]) {
+            chunkStart += this.chunkSizes[chunk];
+            chunk += 1;
+        }
+        this.cachedChunk = chunk;
+        this.cachedChunkStart = chunkStart;
+        return chunk;
+    }
+
+    /**
+     * @return last chunk, its first index being then cachedChunkStart
+     */
+    private int locateEnd() {
+        int lastChunk = this.nbChunks - 1;
+        this.cachedChunk = lastChunk;
+        this.cachedChunkStart = this.size - this.chunkSizes[lastChunk];
+        return lastChunk;
+    }
+
+    /**
+     * Moves the second half of a full chunk into a new chunk right after it
+     */
+    private void splitChunk(int chunk) {
+        insertChunk(chunk + 1);
+        int nbMovedEvents = CHUNK_CAPACITY / 2;
+        System.arraycopy(this.chunks[chunk], CHUNK_CAPACITY - nbMovedEvents, this.chunks[chunk + 1], 0, nbMovedEvents);
+        Arrays.fill(this.chunks[chunk], CHUNK_CAPACITY - nbMovedEvents, CHUNK_CAPACITY, null);
+        this.chunkSizes[chunk] = CHUNK_CAPACITY - nbMovedEvents;
+        this.chunkSizes[chunk + 1] = nbMovedEvents;
+    }
+
+    private void insertChunk(int chunk) {
+        if(this.nbChunks == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, this.nbChunks * 2);
+            this.chunkSizes = Arrays.copyOf(this.chunkSizes, this.nbChunks * 2);
+        }
+        System.arraycopy(this.chunks, chunk, this.chunks, chunk + 1, this.nbChunks - chunk);
+        System.arraycopy(this.chunkSizes, chunk, this.chunkSizes, chunk + 1, this.nbChunks - chunk);
+        this.chunks[chunk] = new Event[CHUNK_CAPACITY];
+        this.chunkSizes[chunk] = 0;
+        this.nbChunks += 1;
+    }
+
+    private void removeChunk(int chunk) {
+        System.arraycopy(this.chunks, chunk + 1, this.chunks, chunk, this.nbChunks - chunk - 1);
+        System.arraycopy(this.chunkSizes, chunk + 1, this.chunkSizes, chunk, this.nbChunks - chunk - 1);
+        this.nbChunks -= 1;
+        this.chunks[this.nbChunks] = null;
+        this.cachedChunk = 0;
+        this.cachedChunkStart = 0;
+    }
+}
@@ -0,0 +1,59 @@
+package gameplay;
+
+import parser.ParsingKeys;
+
+/**
+ * Faction factors an effect can change, the ordinal is the index of the factor in the effect vector of a faction
+ */
+public enum FactionFactor {
+    SATISFACTION_RATE(ParsingKeys.satisfactionRate, "Satisfaction", "%"),
+    NB_SUPPORTERS(ParsingKeys.nbSupporters, "Partisans", "");
+
+    private static final FactionFactor[] factionFactors = values();
+
+    private final String key;
+    private final String label;
+    private final String unit;
+
+    FactionFactor(String key, String label, String unit) {
+        this.key = key;
+        this.label = label;
+        this.unit = unit;
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public String getUnit() {
+        return this.unit;
+    }
+
+    /**
+     * Same as values()[ordinal] without copying the values array
+     */
+    public static FactionFactor fromOrdinal(int ordinal) {
+        return factionFactors[ordinal];
+    }
+
+    public static int count() {
+        return factionFactors.length;
+    }
+
+    /**
+     * @param key key in configuration file
+     * @return faction factor of the key, null if it isn't one
+     */
+    public static FactionFactor fromKey(String key) {
+        for(FactionFactor factionFactor : factionFactors) {
+            if(factionFactor.key.equals(key)) {
+                return factionFactor;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package gameplay;
+
+import parser.ParsingKeys;
+
+/**
+ * Republic factors an effect can change, the ordinal is the index of the factor in effect vectors
+ */
+public enum Factor {
+    INDUSTRY_RATE(ParsingKeys.industryRate, "Industrialisation", "%"),
+    FARM_RATE(ParsingKeys.farmRate, "Agriculture", "%"),
+    FOOD_UNITS(ParsingKeys.foodUnits, "Nourriture", " unité(s)"),
+    MONEY(ParsingKeys.money, "Argent", "$"),
+    POPULATION(ParsingKeys.population, "Population", ""),
+    SATISFACTION_RATE(ParsingKeys.satisfactionRate, "Satisfaction globale", "%");
+
+    private static final Factor[] factors = values();
+
+    private final String key;
+    private final String label;
+    private final String unit;
+
+    Factor(String key, String label, String unit) {
+        this.key = key;
+        this.label = label;
+        this.unit = unit;
+    }
+
+    public String getKey() {
+        return this.key;
+    }
+
+    public String getLabel() {
+        return this.label;
+    }
+
+    public String getUnit() {
+        return this.unit;
+    }
+
+    /**
+     * Same as values()[ordinal] without copying the values array
+     */
+    public static Factor fromOrdinal(int ordinal) {
+        return factors[ordinal];
+    }
+
+    public static int count() {
+        return factors.length;
+    }
+
+    /**
+     * @param key key in configuration file
+     * @return factor of the key, null if it isn't one
+     */
+    public static Factor fromKey(String key) {
+        for(Factor factor : factors) {
+            if(factor.key.equals(key)) {
+                return factor;
+            }
+        }
+        return null;
+    }
+}
@@ -1,7 +1,13 @@
 package gameplay;
 
 import exceptions.MissingEventsException;
+import game.needs.GameRandom;
+import output.Output;
+import parser.ParsedScenario;
+import republic.Republic;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +20,17 @@ public abstract class GamePlay {
     protected int year = 0;
     protected Season firstSeason;
     protected Season currentSeason;
+    protected final GameRandom random;
 
     public GamePlay(String name, String story, Season firstSeason) {
+        this(name, story, firstSeason, new GameRandom());
+    }
+
+    /**
+     * @param random random generator of the game
+     */
+    public GamePlay(String name, String story, Season firstSeason, GameRandom random) {
+        this.random = random;
         this.name = name;
         this.story = story.replace(".", ".\n").replace(".\n ", ".\n");
         this.firstSeason = firstSeason;
@@ -39,6 +54,10 @@ public abstract class GamePlay {
         return this.year;
     }
 
+    public Season getFirstSeason() {
+        return this.firstSeason;
+    }
+
     public Season getCurrentSeason() {
         return this.currentSeason;
     }
@@ -61,6 +80,50 @@ public abstract class GamePlay {
         this.eventsBySeason.put(season, events);
     }
 
+    /**
+     * Copies events of a shared parsed scenario, related events are then placed in the copies only
+     * @param scenario parsed configuration file
+     */
+    public void addEventsFromScenario(ParsedScenario scenario) {
+        for(Season season : Season.values()) {
+            addEventsToSeason(season, new ArrayList<>(scenario.getEvents(season)));
+        }
+    }
+
+    /**
+     * Called once the republic of the game is created, for game plays depending on its state
+     * @param republic republic of the game
+     */
+    public void watchRepublic(Republic republic) {
+    }
+
+    /**
+     * @return events of each season indexed by season ordinal, in their order in the season, null for a season without events
+     */
+    public Event[][] copyEventsBySeason() {
+        Event[][] eventsBySeason = new Event[Season.values().length][];
+        for(Season season : Season.values()) {
+            List<Event> seasonEvents = this.eventsBySeason.get(season);
+            eventsBySeason[season.ordinal()] = seasonEvents == null ? null : seasonEvents.toArray(new Event[0]);
+        }
+        return eventsBySeason;
+    }
+
+    /**
+     * Puts the game play back at a saved position, the events are copied so the saved ones can be restored again
+     * @param eventsBySeason events of each season indexed by season ordinal, see copyEventsBySeason
+     */
+    public void restore(Season firstSeason, Season currentSeason, int year, Event currentEvent, Event[][] eventsBySeason) {
+        this.firstSeason = firstSeason;
+        this.currentSeason = currentSeason;
+        this.year = year;
+        this.currentEvent = currentEvent;
+        for(Season season : Season.values()) {
+            Event[] seasonEvents = eventsBySeason[season.ordinal()];
+            addEventsToSeason(season, seasonEvents == null ? null : Arrays.asList(seasonEvents));
+        }
+    }
+
     abstract public void setFirstSeason() throws MissingEventsException;
 
     abstract public boolean canPlayEvents();
@@ -89,7 +152,7 @@ public abstract class GamePlay {
         return false;
     }
 
-    abstract public void displayContext();
+    abstract public void displayContext(Output output);
 
     abstract public void nextEvent();
 
@@ -107,8 +170,8 @@ public abstract class GamePlay {
         return this.currentEvent == null;
     }
 
-    public void displayCurrentEvent(int nbEvent) {
-        this.currentEvent.display(nbEvent);
+    public void displayCurrentEvent(int nbEvent, Output output, double difficultyCoefficient) {
+        this.currentEvent.display(nbEvent, output, difficultyCoefficient);
     }
 
 }
@@ -1,22 +1,64 @@
 package gameplay;
 
+import game.needs.GameRandom;
+import output.Output;
+import republic.Republic;
+
 import java.util.List;
-import java.util.Random;
 
+/**
+ * Events of each season are kept in a deck, drawn at random with a probability proportional to their weight
+ * Conditional events are drawn only while the republic satisfies their conditions
+ */
 public class SandboxGamePlay extends GamePlay {
+    private EligibilityIndex eligibilityIndex = new EligibilityIndex();
+    private Republic republic;
 
     public SandboxGamePlay(String name, String story, Season currentSeason) {
         super(name, story, currentSeason);
     }
 
+    public SandboxGamePlay(String name, String story, Season currentSeason, GameRandom random) {
+        super(name, story, currentSeason, random);
+    }
+
+    @Override
+    public void addEventsToSeason(Season season, List<Event> events) {
+        super.addEventsToSeason(season, events == null ? null : new EventDeck(events, this.eligibilityIndex));
+    }
+
+    /**
+     * Conditional events become eligible according to the state of the republic
+     * @param republic republic of the game
+     */
+    @Override
+    public void watchRepublic(Republic republic) {
+        this.republic = republic;
+        this.eligibilityIndex.watch(new ConditionState(republic), this.year + 1);
+    }
+
     /**
-     * Test if there is at least one event in each season
+     * Decks are rebuilt with a new eligibility index, the conditions of the replaced decks being dropped with them
+     */
+    @Override
+    public void restore(Season firstSeason, Season currentSeason, int year, Event currentEvent, Event[][] eventsBySeason) {
+        this.eligibilityIndex = new EligibilityIndex();
+        super.restore(firstSeason, currentSeason, year, currentEvent, eventsBySeason);
+        if(this.republic != null) {
+            watchRepublic(this.republic);
+        }
+    }
+
+    /**
+     * Test if there is at least one unconditional event in each season
      * @return if scenario can be fully played
      */
     @Override
     public boolean canPlayEvents() {
-        if(doASeasonHasNotEvents(getNbEventsBySeason())) {
-            return false;
+        for(Season season : Season.values()) {
+            if(getDeck(season) == null || !getDeck(season).hasUnconditionalEvent()) {
+                return false;
+            }
         }
         if(this.firstSeason == null) {
             setFirstSeason();
@@ -30,55 +72,40 @@ public class SandboxGamePlay extends GamePlay {
     @Override
     public void setFirstSeason()  {
         // Generate random season
-        Season firstSeason = Season.getRandom();
+        Season firstSeason = Season.getRandom(this.random);
         this.firstSeason = firstSeason;
         this.currentSeason = firstSeason;
     }
 
     @Override
-    public void displayContext() {
-        System.out.printf("%n%s%n", getName());
-        System.out.printf("%s%n", getStory());
+    public void displayContext(Output output) {
+        output.printf("%n%s%n", getName());
+        output.printf("%s%n", getStory());
     }
 
     /**
-     * Set next random event according to the current season
+     * Set next random event according to the current season, a related event is played only once
+     * Conditions touching a variable changed since the last event are evaluated first
      */
     @Override
     public void nextEvent() {
-        Random randomGenerator = new Random();
-        List<Event> seasonEvents = this.eventsBySeason.get(this.currentSeason);
-        int indexRandomEvent = randomGenerator.nextInt(seasonEvents.size());
-        this.currentEvent = seasonEvents.get(indexRandomEvent);
-        if(this.currentEvent.isARelatedEvent()) {
-            seasonEvents.remove(indexRandomEvent);
-        }
+        this.eligibilityIndex.update(this.year + 1);
+        this.currentEvent = getDeck(this.currentSeason).draw(this.random);
     }
 
     /**
-     * Place a list of (related) events in the list of events
-     * Placing is fully random then when these events are played, they are deleted from event list
+     * Place a list of (related) events in the deck of a random season
+     * When these events are played, they are deleted from the deck
      * @param relatedEvents related events due to a player's choice
      */
     @Override
     public void placeRelatedEvents(List<Event> relatedEvents) {
         for(Event relatedEventToPlace : relatedEvents) {
-            relatedEventToPlace.setIsARelatedEvent();
-            Season seasonTarget = Season.getRandom();
-            int yearTarget = randomIndexInSeason(seasonTarget);
-            if(yearTarget >= this.eventsBySeason.get(seasonTarget).size()) {
-                this.eventsBySeason.get(seasonTarget).add(relatedEventToPlace);
-            }
-            else {
-                this.eventsBySeason.get(seasonTarget).add(yearTarget, relatedEventToPlace);
-            }
+            getDeck(Season.getRandom(this.random)).add(relatedEventToPlace);
         }
     }
 
-    public int randomIndexInSeason(Season seasonTarget) {
-        Random randomGenerator = new Random();
-        int min = 0;
-        int max = this.eventsBySeason.get(seasonTarget).size();
-        return randomGenerator.nextInt(max - min + 1 ) + min;
+    private EventDeck getDeck(Season season) {
+        return (EventDeck) this.eventsBySeason.get(season);
     }
 }
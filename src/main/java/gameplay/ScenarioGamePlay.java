@@ -1,24 +1,51 @@
 package gameplay;
 
 import exceptions.MissingEventsException;
+import game.needs.GameRandom;
+import output.Output;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
 
+/**
+ * Playability checks and related event placement work on the number of events by season,
+ * kept up to date as events are added, so they don't depend on the number of events of the scenario
+ */
 public class ScenarioGamePlay extends GamePlay {
+    private final int[] nbEventsBySeason = new int[Season.values().length];
+    private int nbEvents;
 
     public ScenarioGamePlay(String name, String story, Season currentSeason) {
         super(name, story, currentSeason);
     }
 
+    public ScenarioGamePlay(String name, String story, Season currentSeason, GameRandom random) {
+        super(name, story, currentSeason, random);
+    }
+
+    /**
+     * Events of a season are kept in a timeline, related events being inserted in it during the game
+     */
+    @Override
+    public void addEventsToSeason(Season season, List<Event> events) {
+        super.addEventsToSeason(season, events == null ? null : new EventTimeline(events));
+        int nbSeasonEvents = events == null ? 0 : events.size();
+        this.nbEvents += nbSeasonEvents - this.nbEventsBySeason[season.ordinal()];
+        this.nbEventsBySeason[season.ordinal()] = nbSeasonEvents;
+    }
+
+    private void addEventToSeason(Season season, int index, Event event) {
+        this.eventsBySeason.get(season).add(index, event);
+        this.nbEventsBySeason[season.ordinal()] += 1;
+        this.nbEvents += 1;
+    }
+
     /**
      * Test if all scenario events will be played
      * @return if scenario can be fully played
      */
     @Override
     public boolean canPlayEvents() {
-        if(doASeasonHasNotEvents(getNbEventsBySeason())) {
+        if(doASeasonHasNoEvent()) {
             return false;
         }
         if(this.firstSeason == null) {
@@ -47,7 +74,7 @@ public class ScenarioGamePlay extends GamePlay {
     @Override
     public void setFirstSeason() throws MissingEventsException {
         if(doAllSeasonsHaveEqualNbEvents()) {
-            Season randomSeason = Season.getRandom();
+            Season randomSeason = Season.getRandom(this.random);
             this.firstSeason = randomSeason;
             this.currentSeason = randomSeason;
         }
@@ -64,16 +91,24 @@ public class ScenarioGamePlay extends GamePlay {
     }
 
     public boolean doFirstSeasonHaveNoEvent() {
-        return this.eventsBySeason.get(this.firstSeason).size() == 0;
+        return this.nbEventsBySeason[this.firstSeason.ordinal()] == 0;
+    }
+
+    private boolean doASeasonHasNoEvent() {
+        for(int nbSeasonEvents : this.nbEventsBySeason) {
+            if(nbSeasonEvents == 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * @return if all seasons have an equal number of events
      */
     public boolean doAllSeasonsHaveEqualNbEvents() {
-        int nbEventsFirstSeason = this.eventsBySeason.get(Season.WINTER).size();
-        for(Season season : Season.values()) {
-            if(nbEventsFirstSeason != this.eventsBySeason.get(season).size()) {
+        for(int nbSeasonEvents : this.nbEventsBySeason) {
+            if(nbSeasonEvents != this.nbEventsBySeason[0]) {
                 return false;
             }
         }
@@ -87,16 +122,15 @@ public class ScenarioGamePlay extends GamePlay {
      * @return boolean meaning if all events will be played
      */
     public boolean willAllEventsBePlayed(Season firstSeasonSimulation) {
-        ScenarioSimulation scenarioSimulation = new ScenarioSimulation(getNbEventsBySeason());
+        ScenarioSimulation scenarioSimulation = new ScenarioSimulation(this.nbEventsBySeason);
         scenarioSimulation.launch(firstSeasonSimulation);
-        Map<Season, Integer> nbEventsBySeasonAfterSimulation = scenarioSimulation.getNbEventsBySeasonAfterSimulation();
-        return doASeasonHasNotEvents(nbEventsBySeasonAfterSimulation);
+        return scenarioSimulation.doASeasonHasNoEventLeft();
     }
 
     @Override
-    public void displayContext() {
-        System.out.printf("%nNom du scénario : %s%n", getName());
-        System.out.printf("Histoire : %s%n", getStory());
+    public void displayContext(Output output) {
+        output.printf("%nNom du scénario : %s%n", getName());
+        output.printf("Histoire : %s%n", getStory());
     }
 
     /**
@@ -121,15 +155,9 @@ public class ScenarioGamePlay extends GamePlay {
     @Override
     public void placeRelatedEvents(List<Event> relatedEvents) {
         for(Event relatedEventToPlace : relatedEvents) {
-            relatedEventToPlace.setIsARelatedEvent();
             Season seasonTarget = getSeasonWhereRelatedEventWillTakePlace();
             int yearTarget = getYearWhereRelatedEventWillTakePlace(this.year);
-            if(yearTarget >= this.eventsBySeason.get(seasonTarget).size()) {
-                this.eventsBySeason.get(seasonTarget).add(relatedEventToPlace);
-            }
-            else {
-                this.eventsBySeason.get(seasonTarget).add(yearTarget, relatedEventToPlace);
-            }
+            addEventToSeason(seasonTarget, Math.min(yearTarget, this.nbEventsBySeason[seasonTarget.ordinal()]), relatedEventToPlace);
         }
     }
 
@@ -139,7 +167,7 @@ public class ScenarioGamePlay extends GamePlay {
      *          played in the actual scenario
      */
     public Season getSeasonWhereRelatedEventWillTakePlace() {
-        ScenarioSimulation scenarioSimulation = new ScenarioSimulation(getNbEventsBySeason());
+        ScenarioSimulation scenarioSimulation = new ScenarioSimulation(this.nbEventsBySeason);
         scenarioSimulation.launch(this.firstSeason);
         return scenarioSimulation.getSeasonAfterLastSeason();
     }
@@ -152,11 +180,10 @@ public class ScenarioGamePlay extends GamePlay {
      */
     public int getYearWhereRelatedEventWillTakePlace(int yearMin) {
         int yearMax = getMaxYearPossible();
-        Random randomGenerator = new Random();
         if(isCurrentSeasonLastSeasonOfCurrentYear()) {
             yearMin += 1;
         }
-        return randomGenerator.nextInt(yearMax - yearMin + 1 ) + yearMin;
+        return this.random.nextInt(yearMax - yearMin + 1 ) + yearMin;
     }
 
     public boolean isCurrentSeasonLastSeasonOfCurrentYear() {
@@ -168,16 +195,11 @@ public class ScenarioGamePlay extends GamePlay {
      * @return max year possible
      */
     public int getMaxYearPossible() {
-        Map<Season, Integer> nbEventsBySeason = getNbEventsBySeason();
-        int nbTotalEvents = 0;
-        for(Integer nbEvents : nbEventsBySeason.values()) {
-            nbTotalEvents += nbEvents;
-        }
         if(doAllSeasonsHaveEqualNbEvents()) {
-            return (int)Math.ceil((double)nbTotalEvents / Season.values().length) + 1;
+            return (int)Math.ceil((double)this.nbEvents / Season.values().length) + 1;
         }
         else {
-            return (int)Math.ceil((double)nbTotalEvents / Season.values().length);
+            return (int)Math.ceil((double)this.nbEvents / Season.values().length);
         }
     }
 }
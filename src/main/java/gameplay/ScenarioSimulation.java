@@ -1,40 +1,79 @@
 package gameplay;
 
+import java.util.EnumMap;
 import java.util.Map;
 
+/**
+ * Simulates a player playing a scenario, one event by season until the next season has no event left
+ * Computed from the number of events by season only : the k-th simulated event (from 0) is in the k % 4 season
+ * after the first one, and a season which has n events runs out after its n-th visit,
+ * so the simulation stops before the event 4 * n + offset of the season whose value is the smallest
+ */
 public class ScenarioSimulation {
-    private final Map<Season, Integer> nbEventsBySeason;
+    private final int[] nbEventsBySeason = new int[Season.values().length];
+    private final int[] nbEventsBySeasonAfterSimulation = new int[Season.values().length];
+    private int nbSimulatedEvents;
     private Season seasonAfterLastSeason;
 
     public ScenarioSimulation(Map<Season, Integer> nbEventsBySeason) {
-        this.nbEventsBySeason = nbEventsBySeason;
+        for(Map.Entry<Season, Integer> seasonNbEvents : nbEventsBySeason.entrySet()) {
+            this.nbEventsBySeason[seasonNbEvents.getKey().ordinal()] = seasonNbEvents.getValue();
+        }
+    }
+
+    /**
+     * @param nbEventsBySeason number of events by season ordinal
+     */
+    public ScenarioSimulation(int[] nbEventsBySeason) {
+        System.arraycopy(nbEventsBySeason, 0, this.nbEventsBySeason, 0, this.nbEventsBySeason.length);
     }
 
     /**
      * Launch the scenario simulation
-     * Simulates scenario by decreasing the number of events by season in the map
-     * Simulates the fact that a player is playing this scenario
      * Sets the number of events by season after the simulation
      * Sets the next season after the last season played by the simulation
      * @param firstSeason launch simulation with this first season
      */
     public void launch(Season firstSeason) {
-        int currentSeasonNbEvents = nbEventsBySeason.get(firstSeason);
-        Season currentSimulatedSeason = firstSeason;
-
-        while(currentSeasonNbEvents != 0) {
-            Integer newNbEvents = nbEventsBySeason.get(currentSimulatedSeason) - 1;
-            nbEventsBySeason.put(currentSimulatedSeason, newNbEvents);
-            currentSimulatedSeason = Season.getNextSeason(currentSimulatedSeason);
-            currentSeasonNbEvents = nbEventsBySeason.get(currentSimulatedSeason);
+        int nbSeasons = this.nbEventsBySeason.length;
+        int nbSimulatedEvents = Integer.MAX_VALUE;
+        for(int offset = 0; offset < nbSeasons; offset += 1) {
+            int seasonOrdinal = (firstSeason.ordinal() + offset) % nbSeasons;
+            nbSimulatedEvents = Math.min(nbSimulatedEvents, nbSeasons * this.nbEventsBySeason[seasonOrdinal] + offset);
+        }
+        for(int offset = 0; offset < nbSeasons; offset += 1) {
+            int seasonOrdinal = (firstSeason.ordinal() + offset) % nbSeasons;
+            int nbVisits = nbSimulatedEvents > offset ? (nbSimulatedEvents - offset + nbSeasons - 1) / nbSeasons : 0;
+            this.nbEventsBySeasonAfterSimulation[seasonOrdinal] = this.nbEventsBySeason[seasonOrdinal] - nbVisits;
         }
-        this.seasonAfterLastSeason = currentSimulatedSeason;
+        this.nbSimulatedEvents = nbSimulatedEvents;
+        this.seasonAfterLastSeason = Season.values()[(firstSeason.ordinal() + nbSimulatedEvents) % nbSeasons];
     }
 
     public Map<Season, Integer> getNbEventsBySeasonAfterSimulation() {
+        Map<Season, Integer> nbEventsBySeason = new EnumMap<>(Season.class);
+        for(Season season : Season.values()) {
+            nbEventsBySeason.put(season, this.nbEventsBySeasonAfterSimulation[season.ordinal()]);
+        }
         return nbEventsBySeason;
     }
 
+    /**
+     * @return if a season has no event left after the simulation
+     */
+    public boolean doASeasonHasNoEventLeft() {
+        for(int nbEvents : this.nbEventsBySeasonAfterSimulation) {
+            if(nbEvents == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getNbSimulatedEvents() {
+        return this.nbSimulatedEvents;
+    }
+
     public Season getSeasonAfterLastSeason() {
         return seasonAfterLastSeason;
     }
@@ -1,5 +1,7 @@
 package gameplay;
 
+import java.util.Random;
+
 public enum Season {
     WINTER {
         @Override
@@ -31,8 +33,8 @@ public enum Season {
         return season.substring(0, 1).toUpperCase() + season.substring(1).toLowerCase();
      }
 
-    public static Season getRandom() {
-        return values()[(int) (Math.random() * values().length)];
+    public static Season getRandom(Random random) {
+        return values()[random.nextInt(values().length)];
     }
 
     public static Season getNextSeason(Season currentSeason) {
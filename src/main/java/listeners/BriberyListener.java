@@ -18,7 +18,7 @@ public class BriberyListener implements EventListener {
     @Override
     public void update(String eventName, Object faction) {
         Faction bribedFaction = (Faction)faction;
-        System.out.println("\"Message aux " + this.faction.getName() + ": El Presidente a versé un pot-de-vin aux " + bribedFaction.getName() + "\"");
+        this.faction.getOutput().println("\"Message aux " + this.faction.getName() + ": El Presidente a versé un pot-de-vin aux " + bribedFaction.getName() + "\"");
         this.faction.updateSatisfactionRate(bribedFaction.getBribePrice() / GameRules.BRIBE_FACTION_DECREASE_LOYALISTS_SATISFACTION);
     }
 }
\ No newline at end of file
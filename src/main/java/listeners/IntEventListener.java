@@ -0,0 +1,10 @@
+package listeners;
+
+import publisher.EventType;
+
+/**
+ * Listener of an event whose payload is an int, published without boxing
+ */
+public interface IntEventListener {
+    void update(EventType eventType, int value);
+}
@@ -0,0 +1,26 @@
+package listeners;
+
+import game.Game;
+import game.needs.GameRules;
+import republic.SatisfactionChange;
+
+public class SatisfactionChangedListener implements EventListener {
+    private final Game game;
+
+    public SatisfactionChangedListener(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Happens once all the faction satisfaction variations of an effect are applied
+     * Only during an event (event irreversible impacts or player choice impacts)
+     * @param eventName name of the event, 'satisfaction_changed' here
+     * @param change satisfaction variations of the effect
+     */
+    @Override
+    public void update(String eventName, Object change) {
+        SatisfactionChange satisfactionChange = (SatisfactionChange) change;
+        this.game.addScore(satisfactionChange.getTotalIncrease() * GameRules.SCORE_POINTS_PER_SATISFACTION_WON
+                + satisfactionChange.getTotalDecrease() * GameRules.SCORE_POINTS_PER_SATISFACTION_LOST);
+    }
+}
@@ -2,8 +2,9 @@ package listeners;
 
 import game.Game;
 import game.needs.GameRules;
+import publisher.EventType;
 
-public class SatisfactionDecreasedListener implements EventListener {
+public class SatisfactionDecreasedListener implements IntEventListener {
     private final Game game;
 
     public SatisfactionDecreasedListener(Game game) {
@@ -13,12 +14,12 @@ public class SatisfactionDecreasedListener implements EventListener {
     /**
      * Happens when a faction satisfaction rate decreases
      * Only during an event (event irreversible impacts or player choice impacts)
-     * @param eventName name of the event, 'satisfaction_decreased' here
+     * @param eventType SATISFACTION_DECREASED here
      * @param variation how much the faction satisfaction rate decreased by
      */
     @Override
-    public void update(String eventName, Object variation) {
-        int satisfactionVariation = Math.abs((int)variation);
+    public void update(EventType eventType, int variation) {
+        int satisfactionVariation = Math.abs(variation);
         this.game.addScore(satisfactionVariation * GameRules.SCORE_POINTS_PER_SATISFACTION_LOST);
     }
 }
\ No newline at end of file
@@ -2,8 +2,9 @@ package listeners;
 
 import game.Game;
 import game.needs.GameRules;
+import publisher.EventType;
 
-public class SatisfactionIncreasedListener implements EventListener {
+public class SatisfactionIncreasedListener implements IntEventListener {
     private final Game game;
 
     public SatisfactionIncreasedListener(Game game) {
@@ -13,12 +14,12 @@ public class SatisfactionIncreasedListener implements EventListener {
     /**
      * Happens when a faction satisfaction rate increases
      * Only during an event (event irreversible impacts or player choice impacts)
-     * @param eventName name of the event, 'satisfaction_increased' here
+     * @param eventType SATISFACTION_INCREASED here
      * @param variation how much the faction satisfaction rate increased by
      */
     @Override
-    public void update(String eventName, Object variation) {
-        int satisfactionVariation = Math.abs((int)variation);
+    public void update(EventType eventType, int variation) {
+        int satisfactionVariation = Math.abs(variation);
         this.game.addScore(satisfactionVariation * GameRules.SCORE_POINTS_PER_SATISFACTION_WON);
     }
 }
\ No newline at end of file
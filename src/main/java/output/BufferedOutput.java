@@ -0,0 +1,70 @@
+package output;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Formatter;
+
+/**
+ * Composes what is displayed in a reusable buffer, written at once on flush : a whole screen costs one write
+ * instead of one per line
+ * The buffer is also written when it grows beyond MAX_BUFFERED_CHARS, so a display never flushed stays bounded
+ */
+public class BufferedOutput implements Output {
+    public static final int MAX_BUFFERED_CHARS = 1 << 16;
+    private static final String lineSeparator = System.lineSeparator();
+
+    private final Appendable target;
+    private final StringBuilder buffer = new StringBuilder(4096);
+    private final Formatter formatter = new Formatter(this.buffer);
+
+    /**
+     * @param target where the buffer is written, then flushed if it is Flushable (PrintStream, Writer...)
+     */
+    public BufferedOutput(Appendable target) {
+        this.target = target;
+    }
+
+    @Override
+    public void printf(String format, Object... args) {
+        this.formatter.format(format, args);
+        flushIfFull();
+    }
+
+    @Override
+    public void println(String line) {
+        this.buffer.append(line).append(lineSeparator);
+        flushIfFull();
+    }
+
+    @Override
+    public void println() {
+        this.buffer.append(lineSeparator);
+        flushIfFull();
+    }
+
+    /**
+     * @throws UncheckedIOException the buffer can't be written, it is emptied anyway
+     */
+    @Override
+    public void flush() throws UncheckedIOException {
+        try {
+            if(this.buffer.length() > 0) {
+                this.target.append(this.buffer);
+            }
+            if(this.target instanceof Flushable) {
+                ((Flushable) this.target).flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.buffer.setLength(0);
+        }
+    }
+
+    private void flushIfFull() {
+        if(this.buffer.length() > MAX_BUFFERED_CHARS) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package output;
+
+/**
+ * Displays the game in the terminal
+ * Every console output writes in the same buffer, written when flushed : GamePlayerInput flushes it before
+ * waiting for the player, so each screen is written at once
+ */
+public class ConsoleOutput implements Output {
+    private static final BufferedOutput console = new BufferedOutput(System.out);
+
+    @Override
+    public void printf(String format, Object... args) {
+        synchronized(console) {
+            console.printf(format, args);
+        }
+    }
+
+    @Override
+    public void println(String line) {
+        synchronized(console) {
+            console.println(line);
+        }
+    }
+
+    @Override
+    public void println() {
+        synchronized(console) {
+            console.println();
+        }
+    }
+
+    @Override
+    public void flush() {
+        synchronized(console) {
+            console.flush();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package output;
+
+/**
+ * Destination of everything displayed during a game
+ */
+public interface Output {
+    void printf(String format, Object... args);
+    void println(String line);
+    void println();
+
+    /**
+     * Writes what is displayed but not written yet, e.g. a whole screen before the player is asked something
+     */
+    default void flush() {}
+
+    /**
+     * @return if what is displayed is written somewhere, displays can be skipped otherwise
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package output;
+
+/**
+ * Displays nothing, used when no one is watching the game (bots, tests, batch simulations)
+ * It is not enabled : displays are skipped instead of being formatted for nothing
+ */
+public class SilentOutput implements Output {
+
+    @Override
+    public void printf(String format, Object... args) {}
+
+    @Override
+    public void println(String line) {}
+
+    @Override
+    public void println() {}
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,433 @@
+package parser;
+
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import exceptions.MissingParsingObjectException;
+import game.needs.GameDifficulty;
+import game.needs.GameRules;
+import gameplay.*;
+import republic.factions.FactionTypes;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Loads scenarios compiled by ScenarioCompiler
+ * The file is read at once (or memory mapped when it is not a resource) then decoded sequentially
+ * Game saves are not compiled, they are read by a JSONParser
+ * Counts and lengths are checked against the remaining bytes before anything is allocated, a corrupt file is
+ * either not recognized as a compiled scenario (header) or fails with a MissingParsingObjectException (events)
+ */
+public class BinaryParser extends Parser {
+    private static final int STRING_SIZE = 4;
+    private static final int FACTION_TYPE_SIZE = 13;
+    private static final int START_PARAMETERS_SIZE = 28;
+    private static final int START_FACTION_SIZE = 12;
+    private static final int EVENT_SIZE = 20;
+    private static final int FACTION_DELTA_SIZE = 9;
+
+    private ByteBuffer data;
+    private boolean isCompiledScenario;
+    private String[] strings;
+    private int nameIndex;
+    private int storyIndex;
+    private Season firstSeason;
+    private FactionTypes compiledFactionTypes;
+    private final Map<String, StartParameters> startParametersByDifficulty = new HashMap<>();
+    private final Map<Season, Integer> nbEventsBySeason = new EnumMap<>(Season.class);
+    private final Map<Season, Integer> offsetBySeason = new EnumMap<>(Season.class);
+    private int eventsStart;
+    private int eventsLength;
+
+    @Override
+    public void openFile(String filePath) throws NullPointerException {
+        try {
+            this.data = readFile(filePath);
+            readHeader();
+        } catch (IOException e) {
+            throw new NullPointerException("Cannot find resource file " + filePath);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            this.isCompiledScenario = false;
+        }
+    }
+
+    /**
+     * Decodes only the header of a compiled scenario, for the scenario catalog
+     * @param filePath compiled scenario path in resources
+     * @param stream compiled scenario content
+     * @return header of the compiled scenario, null if it is not one
+     * @throws IOException compiled scenario cannot be read
+     */
+    public static ScenarioHeader readScenarioHeader(String filePath, InputStream stream) throws IOException {
+        BinaryParser parser = new BinaryParser();
+        parser.data = ByteBuffer.wrap(stream.readAllBytes());
+        try {
+            parser.readHeader();
+            if(!parser.isCompiledScenario) {
+                return null;
+            }
+            return new ScenarioHeader(filePath, parser.parseName(), parser.firstSeason, parser.startParametersByDifficulty.keySet(), parser.nbEventsBySeason);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ByteBuffer readFile(String filePath) throws IOException {
+        try (InputStream stream = this.getClass().getClassLoader().getResourceAsStream(filePath)) {
+            if(stream != null) {
+                return ByteBuffer.wrap(stream.readAllBytes());
+            }
+        }
+        Path path = Paths.get(filePath);
+        if(!Files.isRegularFile(path)) {
+            throw new IOException("Cannot find resource file " + filePath);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Reads everything except events : string table, scenario, factions, start parameters and event index
+     * @throws BufferUnderflowException the file is truncated
+     * @throws IndexOutOfBoundsException a string index or an ordinal is out of range
+     * @throws IllegalArgumentException a count is incorrect or a faction is declared twice
+     */
+    private void readHeader() throws BufferUnderflowException, IndexOutOfBoundsException, IllegalArgumentException {
+        this.startParametersByDifficulty.clear();
+        this.isCompiledScenario = this.data.getInt() == ScenarioCompiler.MAGIC && this.data.getShort() == ScenarioCompiler.VERSION;
+        if(!this.isCompiledScenario) {
+            return;
+        }
+        this.strings = new String[checkCount(this.data, this.data.getInt(), STRING_SIZE)];
+        for(int indexString = 0; indexString < this.strings.length; indexString += 1) {
+            byte[] bytes = new byte[checkCount(this.data, this.data.getInt(), 1)];
+            this.data.get(bytes);
+            this.strings[indexString] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        this.nameIndex = this.data.getInt();
+        this.storyIndex = this.data.getInt();
+        byte firstSeasonOrdinal = this.data.get();
+        this.firstSeason = firstSeasonOrdinal == ScenarioCompiler.NO_ELEMENT ? null : Season.values()[firstSeasonOrdinal];
+        this.compiledFactionTypes = readFactionTypes();
+        this.factionTypes = this.compiledFactionTypes;
+
+        int nbDifficulties = checkCount(this.data, this.data.getInt(), START_PARAMETERS_SIZE);
+        for(int indexDifficulty = 0; indexDifficulty < nbDifficulties; indexDifficulty += 1) {
+            String difficultyName = readString();
+            this.startParametersByDifficulty.put(difficultyName, readStartParameters());
+        }
+        for(Season season : Season.values()) {
+            this.nbEventsBySeason.put(season, this.data.getInt());
+            this.offsetBySeason.put(season, this.data.getInt());
+        }
+        this.eventsLength = this.data.getInt();
+        this.eventsStart = this.data.position();
+    }
+
+    private FactionTypes readFactionTypes() {
+        FactionTypes factionTypes = new FactionTypes();
+        int nbFactions = checkCount(this.data, this.data.getInt(), FACTION_TYPE_SIZE);
+        for(int indexFaction = 0; indexFaction < nbFactions; indexFaction += 1) {
+            String name = readString();
+            String label = readString();
+            boolean bribable = this.data.get() != 0;
+            factionTypes.add(name, label, bribable, this.data.getInt());
+        }
+        return factionTypes;
+    }
+
+    private StartParameters readStartParameters() {
+        int farmRate = this.data.getInt();
+        int industryRate = this.data.getInt();
+        double money = this.data.getDouble();
+        int foodUnits = this.data.getInt();
+        Map<String, Integer> satisfactionRateByFaction = new LinkedHashMap<>();
+        Map<String, Integer> nbSupportersByFaction = new LinkedHashMap<>();
+        int nbFactions = checkCount(this.data, this.data.getInt(), START_FACTION_SIZE);
+        for(int indexFaction = 0; indexFaction < nbFactions; indexFaction += 1) {
+            String factionName = readString();
+            satisfactionRateByFaction.put(factionName, this.data.getInt());
+            nbSupportersByFaction.put(factionName, this.data.getInt());
+        }
+        return new StartParameters(this.compiledFactionTypes, farmRate, industryRate, money, foodUnits, satisfactionRateByFaction, nbSupportersByFaction);
+    }
+
+    private String readString() {
+        return this.strings[this.data.getInt()];
+    }
+
+    /**
+     * @param data buffer positioned on the elements
+     * @param count number of elements read from the buffer
+     * @param minElementSize minimum size of an element in bytes
+     * @return the number of elements, once checked
+     * @throws IllegalArgumentException the number is negative or the remaining bytes cannot hold the elements
+     */
+    private static int checkCount(ByteBuffer data, int count, int minElementSize) throws IllegalArgumentException {
+        if(count < 0 || (long) count * minElementSize > data.remaining()) {
+            throw new IllegalArgumentException("Incorrect number of elements in compiled scenario : " + count);
+        }
+        return count;
+    }
+
+    @Override
+    public boolean canParseFile() {
+        return this.isCompiledScenario && hasAllSeasons(this.offsetBySeason);
+    }
+
+    @Override
+    protected boolean hasAllSeasons(Object gamePlay) {
+        Map<?, ?> offsetBySeason = (Map<?, ?>) gamePlay;
+        for(Season season : Season.values()) {
+            Integer offset = (Integer) offsetBySeason.get(season);
+            if(offset == null || offset < 0 || offset >= this.eventsLength) {
+                return false;
+            }
+        }
+        return this.eventsStart + this.eventsLength <= this.data.limit();
+    }
+
+    @Override
+    public boolean doesChosenDifficultyHasSavedGame(File file, GameDifficulty gameDifficulty) {
+        return false;
+    }
+
+    @Override
+    public int getSavedYear() {
+        return 0;
+    }
+
+    @Override
+    public String getSavedCurrentSeason() {
+        return "";
+    }
+
+    @Override
+    public int getSavedEventCount() {
+        return 0;
+    }
+
+    @Override
+    public double getSavedScore() {
+        return 0;
+    }
+
+    @Override
+    protected FactionTypes parseFactionTypes() {
+        return this.compiledFactionTypes;
+    }
+
+    @Override
+    protected String parseName() {
+        return this.strings[this.nameIndex];
+    }
+
+    @Override
+    protected String parseStory() {
+        return this.strings[this.storyIndex];
+    }
+
+    @Override
+    protected Set<String> getStartParametersDifficulties() {
+        return this.startParametersByDifficulty.keySet();
+    }
+
+    @Override
+    public StartParameters parseStartParameters(String difficultyName) throws MissingParsingKeysException {
+        StartParameters startParameters = this.startParametersByDifficulty.get(difficultyName);
+        if(startParameters == null || !canParsePopulation(startParameters, this.factionTypes)) {
+            throw new MissingParsingKeysException("Missing faction values in compiled scenario");
+        }
+        if(!canParseRepublicResources(startParameters)) {
+            throw new MissingParsingKeysException("Incorrect republic resources values in compiled scenario");
+        }
+        return startParameters;
+    }
+
+    @Override
+    protected boolean canParsePopulation(Object gameStartParams, FactionTypes factionTypes) {
+        return areFactionsInfoInJson(factionTypes.getNames(), gameStartParams);
+    }
+
+    @Override
+    protected boolean areFactionsInfoInJson(List<String> factionNames, Object factions) {
+        StartParameters startParameters = (StartParameters) factions;
+        for(String factionName : factionNames) {
+            if(!isFactionInfoInJson(Map.entry(factionName, startParameters))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param faction entry of a faction name and the start parameters it should be in
+     * @return if satisfaction rate and number of supporters of the faction are set
+     */
+    @Override
+    protected boolean isFactionInfoInJson(Object faction) {
+        Map.Entry<?, ?> factionEntry = (Map.Entry<?, ?>) faction;
+        StartParameters startParameters = (StartParameters) factionEntry.getValue();
+        return startParameters.getSatisfactionRateByFaction().containsKey(factionEntry.getKey())
+                && startParameters.getNbSupportersByFaction().containsKey(factionEntry.getKey());
+    }
+
+    @Override
+    public boolean canParseRepublicResources(Object gameStartParams) {
+        try {
+            ((StartParameters) gameStartParams).createResources();
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public Map<Season, List<Event>> parseEventsBySeason() throws MissingEventsException, MissingParsingObjectException {
+        if(this.eventsLength == 0) {
+            throw new MissingEventsException("Missing events.");
+        }
+        Map<Season, List<Event>> eventsBySeason = new EnumMap<>(Season.class);
+        try {
+            for(Season season : Season.values()) {
+                this.data.position(this.eventsStart + this.offsetBySeason.get(season));
+                List<Event> seasonEvents = parseSeason(this.data);
+                if(seasonEvents == null || seasonEvents.size() != this.nbEventsBySeason.get(season)) {
+                    throw new MissingParsingObjectException("Compiled scenario event index doesn't match its events");
+                }
+                eventsBySeason.put(season, seasonEvents);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new MissingParsingObjectException("Truncated compiled scenario");
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingObjectException("Corrupt compiled scenario : " + ex.getMessage());
+        }
+        return eventsBySeason;
+    }
+
+    @Override
+    protected Season getFirstSeason() {
+        return this.firstSeason;
+    }
+
+    /**
+     * @param seasonToParse buffer positioned on a list of events
+     * @return events of the list, null if the list is not set (choice without related events)
+     */
+    @Override
+    protected List<Event> parseSeason(Object seasonToParse) throws MissingParsingObjectException {
+        ByteBuffer season = (ByteBuffer) seasonToParse;
+        int nbEvents = season.getInt();
+        if(nbEvents == ScenarioCompiler.NO_ELEMENT) {
+            return null;
+        }
+        try {
+            checkCount(season, nbEvents, EVENT_SIZE);
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingObjectException(ex.getMessage());
+        }
+        List<Event> seasonEvents = new ArrayList<>(nbEvents);
+        for(int eventCount = 0; eventCount < nbEvents; eventCount += 1) {
+            seasonEvents.add(parseEvent(season));
+        }
+        return seasonEvents;
+    }
+
+    @Override
+    protected Event parseEvent(Object eventToParse) throws MissingParsingObjectException {
+        ByteBuffer event = (ByteBuffer) eventToParse;
+        Event currentEvent = new Event(readString(), readString());
+        try {
+            currentEvent.setWeight(event.getDouble());
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingObjectException("Incorrect weight of event " + currentEvent.getName() + " : " + ex.getMessage());
+        }
+        int nbConditions = event.getShort();
+        if(nbConditions > 0) {
+            List<Condition> conditions = new ArrayList<>(nbConditions);
+            try {
+                for(int conditionCount = 0; conditionCount < nbConditions; conditionCount += 1) {
+                    conditions.add(new Condition(event.getInt(), event.getDouble(), event.getDouble()));
+                }
+            } catch (IllegalArgumentException ex) {
+                throw new MissingParsingObjectException("Incorrect condition of event " + currentEvent.getName() + " : " + ex.getMessage());
+            }
+            currentEvent.setConditions(conditions);
+        }
+        if(hasIrreversibleEffects(event)) {
+            currentEvent.setIrreversibleEffects(parseEffects(event));
+        }
+        currentEvent.setChoices(parseChoices(event));
+        return currentEvent;
+    }
+
+    @Override
+    protected boolean hasIrreversibleEffects(Object event) {
+        return ((ByteBuffer) event).get() != 0;
+    }
+
+    @Override
+    protected List<Choice> parseChoices(Object choicesToParse) throws MissingParsingObjectException {
+        ByteBuffer choices = (ByteBuffer) choicesToParse;
+        int nbChoices = choices.get();
+        if(nbChoices < GameRules.MIN_CHOICE_PER_EVENT || nbChoices > GameRules.MAX_CHOICE_PER_EVENT) {
+            throw new MissingParsingObjectException("There isn't enough choice, or too many choices");
+        }
+        List<Choice> eventChoices = new ArrayList<>(nbChoices);
+        for(int indexChoice = 0; indexChoice < nbChoices; indexChoice += 1) {
+            Choice currentChoice = new Choice(readString(), readString());
+            currentChoice.setEffects(parseEffects(choices));
+
+            List<Event> relatedEvents = parseSeason(choices);
+            if(relatedEvents != null) {
+                for(Event relatedEvent : relatedEvents) {
+                    relatedEvent.setIsARelatedEvent();
+                }
+                currentChoice.setRelatedEvent(relatedEvents);
+            }
+            eventChoices.add(currentChoice);
+        }
+        return eventChoices;
+    }
+
+    /**
+     * Effects are decoded straight into the vectors of Effect, without any map or string lookup
+     * @param effectsToParse buffer positioned on an effect
+     * @return decoded effect
+     * @throws MissingParsingObjectException the effect is incorrect
+     */
+    @Override
+    protected Effect parseEffects(Object effectsToParse) throws MissingParsingObjectException {
+        ByteBuffer effects = (ByteBuffer) effectsToParse;
+        try {
+            int nbFactionDeltas = checkCount(effects, effects.getShort(), FACTION_DELTA_SIZE);
+            int[] factionIds = new int[nbFactionDeltas];
+            FactionFactor[] factionFactors = new FactionFactor[nbFactionDeltas];
+            int[] factionDeltas = new int[nbFactionDeltas];
+            for(int deltaIndex = 0; deltaIndex < nbFactionDeltas; deltaIndex += 1) {
+                factionIds[deltaIndex] = effects.getInt();
+                factionFactors[deltaIndex] = FactionFactor.fromOrdinal(effects.get());
+                factionDeltas[deltaIndex] = effects.getInt();
+            }
+            int factorMask = effects.getInt();
+            int[] factorDeltas = new int[Factor.count()];
+            for(int factors = factorMask & ((1 << Factor.count()) - 1); factors != 0; factors &= factors - 1) {
+                factorDeltas[Integer.numberOfTrailingZeros(factors)] = effects.getInt();
+            }
+            return Effect.of(this.factionTypes, factionIds, factionFactors, factionDeltas, factorDeltas, factorMask);
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingObjectException("Incorrect effect in compiled scenario : " + ex.getMessage());
+        }
+    }
+}
@@ -4,12 +4,11 @@ import exceptions.MissingEventsException;
 import exceptions.MissingParsingKeysException;
 import exceptions.MissingParsingObjectException;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONTokener;
 import game.needs.GameRules;
-import republic.economy.Resources;
-import republic.factions.Faction;
-import republic.factions.Population;
+import republic.factions.FactionTypes;
 import game.needs.GameDifficulty;
 import gameplay.*;
 
@@ -22,9 +21,7 @@ public class JSONParser extends Parser {
 
     @Override
     public void openFile(String filePath) throws NullPointerException {
-        ClassLoader classLoader = this.getClass().getClassLoader();
-        InputStream stream = classLoader.getResourceAsStream(filePath);
-        try (Reader reader = new InputStreamReader(Objects.requireNonNull(stream), StandardCharsets.UTF_8)) {
+        try (Reader reader = new InputStreamReader(openStream(filePath), StandardCharsets.UTF_8)) {
             JSONTokener token = new JSONTokener(reader);
             this.gameData = new JSONObject(token);
         } catch (IOException e){
@@ -32,6 +29,20 @@ public class JSONParser extends Parser {
         }
     }
 
+    /**
+     * Configuration files are resources, a file path is also accepted (generated scenarios, benchmarks)
+     * @param filePath configuration file path in resources or on disk
+     * @return configuration file content
+     * @throws IOException file is neither a resource nor a readable file
+     */
+    private InputStream openStream(String filePath) throws IOException {
+        InputStream stream = this.getClass().getClassLoader().getResourceAsStream(filePath);
+        if(stream != null) {
+            return stream;
+        }
+        return new BufferedInputStream(new FileInputStream(filePath));
+    }
+
     @Override
     public boolean canParseFile() {
         if(this.gameData.has(ParsingKeys.name)) {
@@ -58,22 +69,55 @@ public class JSONParser extends Parser {
         return true;
     }
 
+    /**
+     * Factions are declared in an optional "factions" array, each one with its name and optionally its label,
+     * if it can be bribed and its bribe price per supporter
+     */
     @Override
-    public boolean isGameStartParameterDifficultyInJson() {
-        this.difficultyCoefficient = this.gameParametersChosen.getGameDifficulty().getDifficultyCoefficient();
-        GameDifficulty chosenGameDifficulty = this.gameParametersChosen.getGameDifficulty();
-        if(this.gameData.getJSONObject(ParsingKeys.gameStartParameters).has(chosenGameDifficulty.name())) {
-            this.gameStartParameterDifficulty = chosenGameDifficulty.name();
-            return true;
-        }
-        else if(this.gameData.getJSONObject(ParsingKeys.gameStartParameters).has(GameDifficulty.NORMAL.name())) {
-            System.out.printf("%nLa difficulté \"%s\" n'existe pas dans ce scénario, c'est-à-dire que les ressources de base (population, agriculture, argent...) sont de difficulté %s.", chosenGameDifficulty.toString(), GameDifficulty.NORMAL.toString());
-            System.out.printf("%nCependant, la difficulté des évènements est appliqué selon votre choix, c'est-à-dire que si un évènement en mode normal diminue la population de 10%%,%nalors avec la difficulté que vous avez choisi, la population diminuera de %d%%.%n", (int)(10 * chosenGameDifficulty.getDifficultyCoefficient()));
-            this.gameStartParameterDifficulty = GameDifficulty.NORMAL.name();
-            return true;
-        }
-        System.out.printf("%nLes difficultés %s et %s n'existent pas dans ce scénario.%n", chosenGameDifficulty.toString(), GameDifficulty.NORMAL.toString());
-        return false;
+    protected FactionTypes parseFactionTypes() throws MissingParsingKeysException {
+        if(!this.gameData.has(ParsingKeys.factions)) {
+            return FactionTypes.DEFAULT;
+        }
+        JSONArray factions = this.gameData.getJSONArray(ParsingKeys.factions);
+        FactionTypes factionTypes = new FactionTypes();
+        try {
+            for(int indexFaction = 0; indexFaction < factions.length(); indexFaction += 1) {
+                JSONObject faction = factions.getJSONObject(indexFaction);
+                String name = faction.getString(ParsingKeys.name);
+                String label = faction.optString(ParsingKeys.label, name);
+                boolean bribable = faction.optBoolean(ParsingKeys.bribable, true);
+                int bribePricePerSupporter = faction.optInt(ParsingKeys.bribePricePerSupporter, GameRules.BRIBE_PRICE_PER_SUPPORTER);
+                factionTypes.add(name, label, bribable, bribePricePerSupporter);
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingKeysException("Incorrect factions : " + ex.getMessage());
+        }
+        if(factionTypes.count() == 0) {
+            throw new MissingParsingKeysException("Incorrect factions : no faction declared");
+        }
+        return factionTypes;
+    }
+
+    @Override
+    protected String parseName() {
+        return this.gameData.getString(ParsingKeys.name);
+    }
+
+    @Override
+    protected String parseStory() {
+        return this.gameData.getString(ParsingKeys.story);
+    }
+
+    @Override
+    protected Set<String> getStartParametersDifficulties() {
+        Set<String> difficulties = new HashSet<>();
+        JSONObject gameStartParameters = this.gameData.getJSONObject(ParsingKeys.gameStartParameters);
+        for(GameDifficulty gameDifficulty : GameDifficulty.values()) {
+            if(gameStartParameters.has(gameDifficulty.name())) {
+                difficulties.add(gameDifficulty.name());
+            }
+        }
+        return difficulties;
     }
 
     @Override
@@ -121,37 +165,61 @@ public class JSONParser extends Parser {
         return 0;
     }
 
+    /**
+     * Parses resources and factions of a difficulty in "gameStartParameters"
+     * Works on a configuration file as well as on a game save
+     * @param difficultyName difficulty to parse
+     * @return start parameters of the difficulty
+     * @throws MissingParsingKeysException JSON keys are missing or resources values are incorrect
+     */
     @Override
-    public Population parsePopulation() throws MissingParsingKeysException {
-        Population population = new Population();
-        JSONObject gameStartParameters = this.gameData.getJSONObject(ParsingKeys.gameStartParameters).getJSONObject(this.gameStartParameterDifficulty);
-        if(canParsePopulation(gameStartParameters, population)) {
-            JSONObject factions = gameStartParameters.getJSONObject(ParsingKeys.factions);
-            for(Map.Entry<String, Faction> factionsSet : population.getFactionByName().entrySet()) {
-                String factionName = factionsSet.getKey();
-                int satisfactionRate = factions.getJSONObject(factionName.toUpperCase()).getInt(ParsingKeys.satisfactionRate);
-                int nbSupporters = factions.getJSONObject(factionName.toUpperCase()).getInt(ParsingKeys.nbSupporters);
-                Faction currentFaction = population.createAndGetFaction(factionName, nbSupporters, satisfactionRate);
-                factionsSet.setValue(currentFaction);
-            }
-            population.factionsSubscribeToBribeEventExceptLoyalists();
-            return population;
+    public StartParameters parseStartParameters(String difficultyName) throws MissingParsingKeysException {
+        try {
+            return parseStartParameters(this.gameData.getJSONObject(ParsingKeys.gameStartParameters).getJSONObject(difficultyName));
+        } catch (JSONException ex) {
+            throw new MissingParsingKeysException("Incorrect start parameters : " + ex.getMessage());
         }
-        throw new MissingParsingKeysException("Missing JSON key to set faction values");
+    }
+
+    private StartParameters parseStartParameters(JSONObject gameStartParameters) throws MissingParsingKeysException {
+        if(!canParsePopulation(gameStartParameters, this.factionTypes)) {
+            throw new MissingParsingKeysException("Missing JSON key to set faction values");
+        }
+        if(!canParseRepublicResources(gameStartParameters)) {
+            throw new MissingParsingKeysException("Missing JSON key(s) to set republic resources values (agriculture, industry...)");
+        }
+        JSONObject factions = gameStartParameters.getJSONObject(ParsingKeys.factions);
+        Map<String, Integer> satisfactionRateByFaction = new LinkedHashMap<>();
+        Map<String, Integer> nbSupportersByFaction = new LinkedHashMap<>();
+        for(String factionName : this.factionTypes.getNames()) {
+            satisfactionRateByFaction.put(factionName, factions.getJSONObject(factionName.toUpperCase()).getInt(ParsingKeys.satisfactionRate));
+            nbSupportersByFaction.put(factionName, factions.getJSONObject(factionName.toUpperCase()).getInt(ParsingKeys.nbSupporters));
+        }
+        int farmRate = gameStartParameters.getInt(ParsingKeys.farmRate);
+        int foodUnits = gameStartParameters.getInt(ParsingKeys.foodUnits);
+        double money = gameStartParameters.getDouble(ParsingKeys.money);
+        int industryRate = gameStartParameters.getInt(ParsingKeys.industryRate);
+        StartParameters startParameters = new StartParameters(this.factionTypes, farmRate, industryRate, money, foodUnits, satisfactionRateByFaction, nbSupportersByFaction);
+        try {
+            startParameters.createResources();
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingKeysException("Incorrect republic resources values : " + ex.getMessage());
+        }
+        return startParameters;
     }
 
     @Override
-    protected boolean canParsePopulation(Object gameStartParams, Population population) {
+    protected boolean canParsePopulation(Object gameStartParams, FactionTypes factionTypes) {
         JSONObject gameStartParameters = (JSONObject) gameStartParams;
         if(gameStartParameters.has(ParsingKeys.factions)) {
             JSONObject factions = gameStartParameters.getJSONObject(ParsingKeys.factions);
-            return areFactionsInfoInJson(population.getFactionByName().keySet(), factions);
+            return areFactionsInfoInJson(factionTypes.getNames(), factions);
         }
         return false;
     }
 
     @Override
-    protected boolean areFactionsInfoInJson(Set<String> factionNames, Object factionsInfo) {
+    protected boolean areFactionsInfoInJson(List<String> factionNames, Object factionsInfo) {
         JSONObject factions = (JSONObject) factionsInfo;
         for(String factionName : factionNames) {
             String upperFactionName = factionName.toUpperCase();
@@ -175,23 +243,6 @@ public class JSONParser extends Parser {
         return false;
     }
 
-    @Override
-    public Resources parseResources() throws MissingParsingKeysException {
-        JSONObject gameStartParameters = this.gameData.getJSONObject(ParsingKeys.gameStartParameters).getJSONObject(this.gameStartParameterDifficulty);
-        if(canParseRepublicResources(gameStartParameters)) {
-            int farmRate = gameStartParameters.getInt(ParsingKeys.farmRate);
-            int foodUnits = gameStartParameters.getInt(ParsingKeys.foodUnits);
-            double money = gameStartParameters.getDouble(ParsingKeys.money);
-            int industryRate = gameStartParameters.getInt(ParsingKeys.industryRate);
-            try {
-                return new Resources(foodUnits, money, farmRate, industryRate);
-            } catch (Exception ex) {
-                ex.printStackTrace();
-            }
-        }
-        throw new MissingParsingKeysException("Missing JSON key(s) to set republic resources values (agriculture, industry...)");
-    }
-
     @Override
     public boolean canParseRepublicResources(Object gameStartParams) {
         JSONObject gameStartParameters = (JSONObject) gameStartParams;
@@ -206,34 +257,18 @@ public class JSONParser extends Parser {
     }
 
     @Override
-    public GamePlay parseGamePlay() throws MissingEventsException, MissingParsingObjectException, ClassNotFoundException {
+    public Map<Season, List<Event>> parseEventsBySeason() throws MissingEventsException, MissingParsingObjectException {
         JSONObject gamePlayToParse = this.gameData.getJSONObject(ParsingKeys.gameplay);
 
         if(gamePlayToParse.length() == 0) {
             throw new MissingEventsException("Missing events.");
         }
-        else {
-            String name = gameData.getString(ParsingKeys.name);
-            String story = gameData.getString(ParsingKeys.story);
-            GamePlay gamePlay = getGamePlay(name, story);
-            if(gamePlay == null) { throw new ClassNotFoundException("This game mode doesn't exist"); }
-            for(Season season : Season.values()) {
-                JSONArray seasonToParse = gamePlayToParse.getJSONArray(season.name());
-                gamePlay.addEventsToSeason(season, parseSeason(seasonToParse));
-            }
-            return gamePlay;
-        }
-    }
-
-    @Override
-    protected GamePlay getGamePlay(String name, String story) {
-        if(this.gameParametersChosen.isGameModeScenario()) {
-            return new ScenarioGamePlay(name, story, getFirstSeason());
-        }
-        else if(this.gameParametersChosen.isGameModeSandbox()) {
-            return new SandboxGamePlay(name, story, getFirstSeason());
+        Map<Season, List<Event>> eventsBySeason = new EnumMap<>(Season.class);
+        for(Season season : Season.values()) {
+            JSONArray seasonToParse = gamePlayToParse.getJSONArray(season.name());
+            eventsBySeason.put(season, parseSeason(seasonToParse));
         }
-        return null;
+        return eventsBySeason;
     }
 
     @Override
@@ -266,6 +301,16 @@ public class JSONParser extends Parser {
             description = event.getString(ParsingKeys.description);
         }
         Event currentEvent = new Event(name, description);
+        if(event.has(ParsingKeys.weight)) {
+            try {
+                currentEvent.setWeight(event.getDouble(ParsingKeys.weight));
+            } catch (IllegalArgumentException ex) {
+                throw new MissingParsingObjectException("Incorrect weight of event " + name + " : " + ex.getMessage());
+            }
+        }
+        if(event.has(ParsingKeys.conditions)) {
+            currentEvent.setConditions(parseConditions(event.getJSONArray(ParsingKeys.conditions), name));
+        }
         if(hasIrreversibleEffects(event)) {
             currentEvent.setIrreversibleEffects(parseEffects(event.getJSONObject(ParsingKeys.irreversible)));
         }
@@ -276,6 +321,32 @@ public class JSONParser extends Parser {
         return currentEvent;
     }
 
+    /**
+     * A condition is a variable ("year", a factor or a faction factor with the faction name) and its bounds, both optional
+     * @param conditions conditions of an event
+     * @param eventName name of the event, for error messages
+     * @return conditions compiled on the variables of the game state
+     * @throws MissingParsingObjectException a condition is incorrect
+     */
+    private List<Condition> parseConditions(JSONArray conditions, String eventName) throws MissingParsingObjectException {
+        List<Condition> eventConditions = new ArrayList<>(conditions.length());
+        for(int indexCondition = 0; indexCondition < conditions.length(); indexCondition += 1) {
+            JSONObject condition = conditions.getJSONObject(indexCondition);
+            if(!condition.has(ParsingKeys.variable)) {
+                throw new MissingParsingObjectException("A condition of event " + eventName + " has no variable");
+            }
+            String factionName = condition.has(ParsingKeys.faction) ? condition.getString(ParsingKeys.faction) : null;
+            double min = condition.has(ParsingKeys.min) ? condition.getDouble(ParsingKeys.min) : Double.NEGATIVE_INFINITY;
+            double max = condition.has(ParsingKeys.max) ? condition.getDouble(ParsingKeys.max) : Double.POSITIVE_INFINITY;
+            try {
+                eventConditions.add(Condition.of(this.factionTypes, condition.getString(ParsingKeys.variable), factionName, min, max));
+            } catch (IllegalArgumentException ex) {
+                throw new MissingParsingObjectException("Incorrect condition of event " + eventName + " : " + ex.getMessage());
+            }
+        }
+        return eventConditions;
+    }
+
     @Override
     protected boolean hasIrreversibleEffects(Object event) {
         return ((JSONObject)event).has(ParsingKeys.irreversible);
@@ -297,7 +368,11 @@ public class JSONParser extends Parser {
             currentChoice.setEffects(parseEffects(choice.getJSONObject(ParsingKeys.effects)));
 
             if(choice.has(ParsingKeys.relatedEvents)) {
-                currentChoice.setRelatedEvent(parseSeason(choice.getJSONArray(ParsingKeys.relatedEvents)));
+                List<Event> relatedEvents = parseSeason(choice.getJSONArray(ParsingKeys.relatedEvents));
+                for(Event relatedEvent : relatedEvents) {
+                    relatedEvent.setIsARelatedEvent();
+                }
+                currentChoice.setRelatedEvent(relatedEvents);
             }
             eventChoices.add(currentChoice);
         }
@@ -306,17 +381,20 @@ public class JSONParser extends Parser {
     }
 
     @Override
-    protected Effect parseEffects(Object effectsToParse) {
+    protected Effect parseEffects(Object effectsToParse) throws MissingParsingObjectException {
         JSONObject effects = (JSONObject) effectsToParse;
         Map<String, Map<String, Integer>> factionEffects = new HashMap<>();
         if(effects.has(ParsingKeys.factions)) {
             factionEffects = parseFactionEffects(effects.getJSONArray(ParsingKeys.factions));
         }
         Map<String, Integer> factorEffects = parseFactorEffects(effects);
-        return new Effect(factionEffects, factorEffects);
+        try {
+            return new Effect(this.factionTypes, factionEffects, factorEffects);
+        } catch (IllegalArgumentException ex) {
+            throw new MissingParsingObjectException("Incorrect effect : " + ex.getMessage());
+        }
     }
 
-    @Override
     protected Map<String, Map<String, Integer>> parseFactionEffects(Object factionEffectsToParse) {
         JSONArray factionEffects = (JSONArray) factionEffectsToParse;
         Map<String, Map<String, Integer>> effectsByFaction = new HashMap<>();
@@ -325,11 +403,11 @@ public class JSONParser extends Parser {
 
             Map<String, Integer> effectOnFaction = new HashMap<>();
             if(faction.has(ParsingKeys.satisfactionRate)) {
-                int satisfactionRateEffect = (int)Math.round(faction.getInt(ParsingKeys.satisfactionRate) * this.difficultyCoefficient);
+                int satisfactionRateEffect = faction.getInt(ParsingKeys.satisfactionRate);
                 effectOnFaction.put(ParsingKeys.satisfactionRate, satisfactionRateEffect);
             }
             if(faction.has(ParsingKeys.nbSupporters)) {
-                int satisfactionRateEffect = (int)Math.round(faction.getInt(ParsingKeys.nbSupporters) * this.difficultyCoefficient);
+                int satisfactionRateEffect = faction.getInt(ParsingKeys.nbSupporters);
                 effectOnFaction.put(ParsingKeys.nbSupporters, satisfactionRateEffect);
             }
             String factionName = faction.getString(ParsingKeys.name);
@@ -338,32 +416,31 @@ public class JSONParser extends Parser {
         return effectsByFaction;
     }
 
-    @Override
     protected Map<String, Integer> parseFactorEffects(Object effectsToParse) {
         JSONObject effects = (JSONObject) effectsToParse;
         Map<String, Integer> effectByFactor = new HashMap<>();
         if(effects.has(ParsingKeys.industryRate)) {
-            int industryEffect = (int)Math.round(effects.getInt(ParsingKeys.industryRate) * this.difficultyCoefficient);
+            int industryEffect = effects.getInt(ParsingKeys.industryRate);
             effectByFactor.put(ParsingKeys.industryRate, industryEffect);
         }
         if(effects.has(ParsingKeys.farmRate)) {
-            int agricultureEffect = (int)Math.round(effects.getInt(ParsingKeys.farmRate) * this.difficultyCoefficient);
+            int agricultureEffect = effects.getInt(ParsingKeys.farmRate);
             effectByFactor.put(ParsingKeys.farmRate, agricultureEffect);
         }
         if(effects.has(ParsingKeys.foodUnits)) {
-            int foodUnitsEffect = (int)Math.round(effects.getInt(ParsingKeys.foodUnits) * this.difficultyCoefficient);
+            int foodUnitsEffect = effects.getInt(ParsingKeys.foodUnits);
             effectByFactor.put(ParsingKeys.foodUnits, foodUnitsEffect);
         }
         if(effects.has(ParsingKeys.money)) {
-            int moneyEffect = (int)Math.round(effects.getInt(ParsingKeys.money) * this.difficultyCoefficient);
+            int moneyEffect = effects.getInt(ParsingKeys.money);
             effectByFactor.put(ParsingKeys.money, moneyEffect);
         }
         if(effects.has(ParsingKeys.population)) {
-            int populationEffect = (int)Math.round(effects.getInt(ParsingKeys.population) * this.difficultyCoefficient);
+            int populationEffect = effects.getInt(ParsingKeys.population);
             effectByFactor.put(ParsingKeys.population, populationEffect);
         }
         if(effects.has(ParsingKeys.satisfactionRate)) {
-            int satisfactionRateEffect = (int)Math.round(effects.getInt(ParsingKeys.satisfactionRate) * this.difficultyCoefficient);
+            int satisfactionRateEffect = effects.getInt(ParsingKeys.satisfactionRate);
             effectByFactor.put(ParsingKeys.satisfactionRate, satisfactionRateEffect);
         }
         return effectByFactor;
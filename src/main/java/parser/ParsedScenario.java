@@ -0,0 +1,105 @@
+package parser;
+
+import game.needs.GameDifficulty;
+import gameplay.Event;
+import gameplay.Season;
+import republic.factions.FactionTypes;
+
+import java.util.*;
+
+/**
+ * Configuration file parsed once and shared by every game played on it
+ * Events hold raw effect values, the difficulty coefficient is applied by the republic of each game
+ * Nothing in here is modified by a game : each game copies the event lists it needs to change
+ */
+public class ParsedScenario {
+    private final String name;
+    private final String story;
+    private final Season firstSeason;
+    private final FactionTypes factionTypes;
+    private final Map<Season, List<Event>> eventsBySeason = new EnumMap<>(Season.class);
+    private final Map<String, StartParameters> startParametersByDifficulty;
+    private final Map<String, String> startParametersErrorByDifficulty;
+
+    /**
+     * @param startParametersByDifficulty start parameters of the difficulties which can be played
+     * @param startParametersErrorByDifficulty why the start parameters of the other declared difficulties are incorrect
+     */
+    public ParsedScenario(String name, String story, Season firstSeason, FactionTypes factionTypes, Map<Season, List<Event>> eventsBySeason, Map<String, StartParameters> startParametersByDifficulty, Map<String, String> startParametersErrorByDifficulty) {
+        this.name = name;
+        this.story = story;
+        this.firstSeason = firstSeason;
+        this.factionTypes = factionTypes;
+        for(Map.Entry<Season, List<Event>> seasonEvents : eventsBySeason.entrySet()) {
+            this.eventsBySeason.put(seasonEvents.getKey(), Collections.unmodifiableList(new ArrayList<>(seasonEvents.getValue())));
+        }
+        this.startParametersByDifficulty = Collections.unmodifiableMap(new HashMap<>(startParametersByDifficulty));
+        this.startParametersErrorByDifficulty = Collections.unmodifiableMap(new HashMap<>(startParametersErrorByDifficulty));
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getStory() {
+        return this.story;
+    }
+
+    /**
+     * @return first season set in the configuration file, null if it is not
+     */
+    public Season getFirstSeason() {
+        return this.firstSeason;
+    }
+
+    public FactionTypes getFactionTypes() {
+        return this.factionTypes;
+    }
+
+    public List<Event> getEvents(Season season) {
+        return this.eventsBySeason.get(season);
+    }
+
+    /**
+     * Chosen difficulty start parameters or, if it isn't declared in this scenario, normal ones
+     * A declared difficulty is chosen even if its start parameters are incorrect (getStartParametersError)
+     * @param gameDifficulty chosen difficulty
+     * @return name of the difficulty of the start parameters to use, null if none is declared
+     */
+    public String getStartParametersDifficulty(GameDifficulty gameDifficulty) {
+        if(isDeclared(gameDifficulty.name())) {
+            return gameDifficulty.name();
+        }
+        if(isDeclared(GameDifficulty.NORMAL.name())) {
+            return GameDifficulty.NORMAL.name();
+        }
+        return null;
+    }
+
+    private boolean isDeclared(String difficultyName) {
+        return this.startParametersByDifficulty.containsKey(difficultyName) || this.startParametersErrorByDifficulty.containsKey(difficultyName);
+    }
+
+    /**
+     * @return difficulties which can be played
+     */
+    public Set<String> getStartParametersDifficulties() {
+        return this.startParametersByDifficulty.keySet();
+    }
+
+    /**
+     * @param difficultyName name of a difficulty
+     * @return start parameters of the difficulty, null if they are incorrect or not declared
+     */
+    public StartParameters getStartParameters(String difficultyName) {
+        return this.startParametersByDifficulty.get(difficultyName);
+    }
+
+    /**
+     * @param difficultyName name of a difficulty
+     * @return why the start parameters of the difficulty are incorrect, null if they are not
+     */
+    public String getStartParametersError(String difficultyName) {
+        return this.startParametersErrorByDifficulty.get(difficultyName);
+    }
+}
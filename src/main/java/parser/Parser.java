@@ -5,50 +5,104 @@ import exceptions.MissingParsingKeysException;
 import exceptions.MissingParsingObjectException;
 import game.needs.GameDifficulty;
 import gameplay.*;
-import game.needs.GameParameters;
-import republic.economy.Resources;
-import republic.factions.Population;
+import republic.factions.FactionTypes;
 
 import java.io.File;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public abstract class Parser {
-
-    protected String gameStartParameterDifficulty;
-    protected double difficultyCoefficient;
-    protected GameParameters gameParametersChosen;
-
-    public void setGameParametersChosen(GameParameters gameParametersChosen) {
-        this.gameParametersChosen = gameParametersChosen;
-    }
-
-    public void setGameStartParameterDifficulty(String gameStartParameterDifficulty) {
-        this.gameStartParameterDifficulty = gameStartParameterDifficulty;
-    }
+    protected FactionTypes factionTypes = FactionTypes.DEFAULT;
 
     public abstract void openFile(String filePath) throws NullPointerException;
     public abstract boolean canParseFile();
     protected abstract boolean hasAllSeasons(Object gamePlay);
-    public abstract boolean isGameStartParameterDifficultyInJson();
     public abstract boolean doesChosenDifficultyHasSavedGame(File file, GameDifficulty gameDifficulty);
 
+    /**
+     * Game saves don't declare their factions, they are parsed with the factions of their scenario
+     * @param factionTypes factions of the scenario
+     */
+    public void setFactionTypes(FactionTypes factionTypes) {
+        this.factionTypes = factionTypes;
+    }
+
     public abstract int getSavedYear();
     public abstract String getSavedCurrentSeason();
     public abstract int getSavedEventCount();
     public abstract double getSavedScore();
 
-    public abstract Population parsePopulation() throws MissingParsingKeysException;
-    protected abstract boolean canParsePopulation(Object gameStartParams, Population population);
-    protected abstract boolean areFactionsInfoInJson(Set<String> factionNames, Object factions);
-    protected abstract boolean isFactionInfoInJson(Object faction);
+    /**
+     * Parses the whole opened configuration file, independently of game mode and difficulty
+     * Incorrect start parameters only make their own difficulty unavailable, the other difficulties can still be played
+     * @return parsed configuration file to share between games
+     * @throws MissingParsingKeysException Keys are missing in configuration file
+     * @throws MissingEventsException Events are missing in configuration file
+     * @throws MissingParsingObjectException Objects (choices...) are missing in configuration file
+     */
+    public ParsedScenario parseScenario() throws MissingParsingKeysException, MissingEventsException, MissingParsingObjectException {
+        if(!canParseFile()) {
+            throw new MissingParsingKeysException("Cannot load game. Something is missing in the configuration file.");
+        }
+        this.factionTypes = parseFactionTypes();
+        Map<String, StartParameters> startParametersByDifficulty = new HashMap<>();
+        Map<String, String> startParametersErrorByDifficulty = new HashMap<>();
+        for(String difficultyName : getStartParametersDifficulties()) {
+            try {
+                startParametersByDifficulty.put(difficultyName, parseStartParameters(difficultyName));
+            } catch (MissingParsingKeysException ex) {
+                startParametersErrorByDifficulty.put(difficultyName, ex.getMessage());
+            }
+        }
+        Map<Season, List<Event>> eventsBySeason = parseEventsBySeason();
+        int nbEvents = 0;
+        for(Season season : Season.values()) {
+            nbEvents = setEventIds(eventsBySeason.get(season), nbEvents);
+        }
+        return new ParsedScenario(parseName(), parseStory(), getFirstSeason(), this.factionTypes, eventsBySeason, startParametersByDifficulty, startParametersErrorByDifficulty);
+    }
+
+    /**
+     * Numbers events in the order of the configuration file, each one followed by the related events of its choices
+     * @param events events to number, may be null
+     * @param firstId ID of the first event
+     * @return ID following the last numbered event
+     */
+    private static int setEventIds(List<Event> events, int firstId) {
+        int nextId = firstId;
+        if(events == null) {
+            return nextId;
+        }
+        for(Event event : events) {
+            event.setId(nextId);
+            nextId += 1;
+            for(Choice choice : event.getChoices()) {
+                if(choice.hasRelatedEvents()) {
+                    nextId = setEventIds(choice.getRelatedEvents(), nextId);
+                }
+            }
+        }
+        return nextId;
+    }
 
-    public abstract Resources parseResources() throws MissingParsingKeysException;
+    /**
+     * @return factions declared by the configuration file, default factions if it doesn't declare any
+     * @throws MissingParsingKeysException declared factions are incorrect
+     */
+    protected abstract FactionTypes parseFactionTypes() throws MissingParsingKeysException;
+    protected abstract String parseName();
+    protected abstract String parseStory();
+    protected abstract Set<String> getStartParametersDifficulties();
+
+    public abstract StartParameters parseStartParameters(String difficultyName) throws MissingParsingKeysException;
+    protected abstract boolean canParsePopulation(Object gameStartParams, FactionTypes factionTypes);
+    protected abstract boolean areFactionsInfoInJson(List<String> factionNames, Object factions);
+    protected abstract boolean isFactionInfoInJson(Object faction);
     public abstract boolean canParseRepublicResources(Object gameStartParams);
 
-    public abstract GamePlay parseGamePlay() throws MissingEventsException, ClassNotFoundException, MissingParsingObjectException;
-    protected abstract GamePlay getGamePlay(String name, String story);
+    public abstract Map<Season, List<Event>> parseEventsBySeason() throws MissingEventsException, MissingParsingObjectException;
     protected abstract Season getFirstSeason();
 
     protected abstract List<Event> parseSeason(Object seasonToParse) throws MissingParsingObjectException;
@@ -56,9 +110,6 @@ public abstract class Parser {
     protected abstract boolean hasIrreversibleEffects(Object event);
 
     protected abstract List<Choice> parseChoices(Object choicesToParse) throws MissingParsingObjectException;
-    protected abstract Effect parseEffects(Object effectsToParse);
-
-    protected abstract Map<String, Map<String, Integer>> parseFactionEffects(Object factionEffectsToParse);
-    protected abstract Map<String, Integer> parseFactorEffects(Object effectsToParse);
+    protected abstract Effect parseEffects(Object effectsToParse) throws MissingParsingObjectException;
 
 }
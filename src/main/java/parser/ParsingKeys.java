@@ -16,6 +16,9 @@ public class ParsingKeys {
     public static final String factions = "factions";
     public static final String satisfactionRate = "satisfactionRate";
     public static final String nbSupporters = "nbSupporters";
+    public static final String label = "label";
+    public static final String bribable = "bribable";
+    public static final String bribePricePerSupporter = "bribePricePerSupporter";
     public static final String gameplay = "gameplay";
     public static final String description = "description";
     public static final String irreversible = "irreversible";
@@ -23,4 +26,10 @@ public class ParsingKeys {
     public static final String choices = "choices";
     public static final String effects = "effects";
     public static final String relatedEvents = "relatedEvents";
+    public static final String weight = "weight";
+    public static final String conditions = "conditions";
+    public static final String variable = "variable";
+    public static final String faction = "faction";
+    public static final String min = "min";
+    public static final String max = "max";
 }
@@ -0,0 +1,74 @@
+package parser;
+
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import exceptions.MissingParsingObjectException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of parsed configuration files, each file is parsed once whatever the number of games
+ * (sessions, threads, simulations) played on it
+ * Parsed files are cached until their file is modified
+ */
+public class ScenarioCache {
+    private static final Map<String, CacheEntry> entryByFilePath = new ConcurrentHashMap<>();
+
+    private static class CacheEntry {
+        private final long lastModified;
+        private final ParsedScenario scenario;
+
+        private CacheEntry(long lastModified, ParsedScenario scenario) {
+            this.lastModified = lastModified;
+            this.scenario = scenario;
+        }
+    }
+
+    /**
+     * @param filePath configuration file path, in resources or on disk
+     * @param parser parser used if the file has not been parsed yet or has been modified since
+     * @return parsed configuration file
+     * @throws MissingParsingKeysException Keys are missing in configuration file
+     * @throws MissingEventsException Events are missing in configuration file
+     * @throws MissingParsingObjectException Objects (choices...) are missing in configuration file
+     */
+    public static ParsedScenario getScenario(String filePath, Parser parser) throws MissingParsingKeysException, MissingEventsException, MissingParsingObjectException {
+        long lastModified = getLastModified(filePath);
+        CacheEntry entry = entryByFilePath.get(filePath);
+        if(entry != null && entry.lastModified == lastModified) {
+            return entry.scenario;
+        }
+        parser.openFile(filePath);
+        CacheEntry parsedEntry = new CacheEntry(lastModified, parser.parseScenario());
+        entry = entryByFilePath.merge(filePath, parsedEntry, (cachedEntry, newEntry) -> cachedEntry.lastModified == newEntry.lastModified ? cachedEntry : newEntry);
+        return entry.scenario;
+    }
+
+    /**
+     * Files are looked up like the parsers do, in resources first then on disk
+     * @return last modification time of the file, 0 if it cannot be known
+     */
+    private static long getLastModified(String filePath) {
+        URL url = ScenarioCache.class.getClassLoader().getResource(filePath);
+        if(url == null) {
+            return new File(filePath).lastModified();
+        }
+        try {
+            if("file".equals(url.getProtocol())) {
+                return new File(url.toURI()).lastModified();
+            }
+            return url.openConnection().getLastModified();
+        } catch (IOException | URISyntaxException ex) {
+            return 0;
+        }
+    }
+
+    public static void clear() {
+        entryByFilePath.clear();
+    }
+}
@@ -0,0 +1,265 @@
+package parser;
+
+import gameplay.Season;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.*;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Headers of the configuration files, read by a streaming scan which stops as soon as every header field is found
+ * Story and events are skipped character by character without building any JSON object
+ * Headers are cached until their file is modified
+ */
+public class ScenarioCatalog {
+    private static final Map<String, CatalogEntry> entryByFilePath = new ConcurrentHashMap<>();
+
+    private static class CatalogEntry {
+        private final long lastModified;
+        private final ScenarioHeader header;
+
+        private CatalogEntry(long lastModified, ScenarioHeader header) {
+            this.lastModified = lastModified;
+            this.header = header;
+        }
+    }
+
+    /**
+     * @param filePaths configuration file paths in resources
+     * @return headers of the files which can be played, in the same order
+     */
+    public static List<ScenarioHeader> getPlayableHeaders(List<String> filePaths) {
+        List<ScenarioHeader> headers = new ArrayList<>();
+        for(String filePath : filePaths) {
+            ScenarioHeader header = getHeader(filePath);
+            if(header != null && header.isPlayable()) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * @param filePath configuration file path in resources
+     * @return header of the file, null if it cannot be read
+     */
+    public static ScenarioHeader getHeader(String filePath) {
+        URL url = ScenarioCatalog.class.getClassLoader().getResource(filePath);
+        if(url == null) {
+            return null;
+        }
+        try {
+            URLConnection connection = url.openConnection();
+            long lastModified = connection.getLastModified();
+            CatalogEntry entry = entryByFilePath.get(filePath);
+            if(entry != null && entry.lastModified == lastModified) {
+                return entry.header;
+            }
+            ScenarioHeader header;
+            try (InputStream stream = connection.getInputStream()) {
+                header = readHeader(filePath, stream);
+            }
+            entryByFilePath.put(filePath, new CatalogEntry(lastModified, header));
+            return header;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    public static void clear() {
+        entryByFilePath.clear();
+    }
+
+    /**
+     * @param filePath configuration file path in resources
+     * @param stream configuration file content
+     * @return header of the file, null if it has none
+     * @throws IOException file cannot be read
+     */
+    static ScenarioHeader readHeader(String filePath, InputStream stream) throws IOException {
+        if(filePath.toLowerCase().endsWith(ScenarioCompiler.FILE_EXTENSION)) {
+            return BinaryParser.readScenarioHeader(filePath, stream);
+        }
+        try (Reader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return scanJson(filePath, new JSONTokener(reader));
+        } catch (JSONException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads name, first season, start parameters difficulties and number of events by season of a JSON configuration file
+     * @return header of the file, null if it has no name
+     */
+    private static ScenarioHeader scanJson(String filePath, JSONTokener tokener) throws JSONException {
+        if(tokener.nextClean() != '{') {
+            return null;
+        }
+        String name = null;
+        String firstSeasonName = null;
+        Set<String> difficulties = null;
+        Map<Season, Integer> nbEventsBySeason = null;
+
+        char next = tokener.nextClean();
+        while(next != '}' && next != 0) {
+            if(next == ',') {
+                next = tokener.nextClean();
+                continue;
+            }
+            String key = tokener.nextString(next);
+            tokener.nextClean();
+            switch(key) {
+                case ParsingKeys.name:
+                    name = readString(tokener);
+                    break;
+                case ParsingKeys.firstSeason:
+                    firstSeasonName = readString(tokener);
+                    break;
+                case ParsingKeys.gameStartParameters:
+                    difficulties = readKeys(tokener);
+                    break;
+                case ParsingKeys.gameplay:
+                    nbEventsBySeason = readNbEventsBySeason(tokener);
+                    break;
+                default:
+                    skipValue(tokener);
+            }
+            if(name != null && firstSeasonName != null && difficulties != null && nbEventsBySeason != null) {
+                break;
+            }
+            next = tokener.nextClean();
+        }
+        if(name == null) {
+            return null;
+        }
+        return new ScenarioHeader(filePath, name, toSeason(firstSeasonName),
+                difficulties == null ? Collections.emptySet() : difficulties,
+                nbEventsBySeason == null ? Collections.emptyMap() : nbEventsBySeason);
+    }
+
+    private static Season toSeason(String seasonName) {
+        for(Season season : Season.values()) {
+            if(season.name().equalsIgnoreCase(seasonName)) {
+                return season;
+            }
+        }
+        return null;
+    }
+
+    private static String readString(JSONTokener tokener) throws JSONException {
+        char quote = tokener.nextClean();
+        if(quote == '"' || quote == '\'') {
+            return tokener.nextString(quote);
+        }
+        tokener.back();
+        skipValue(tokener);
+        return null;
+    }
+
+    /**
+     * @return keys of an object, values being skipped
+     */
+    private static Set<String> readKeys(JSONTokener tokener) throws JSONException {
+        Set<String> keys = new HashSet<>();
+        if(tokener.nextClean() != '{') {
+            tokener.back();
+            skipValue(tokener);
+            return keys;
+        }
+        char next = tokener.nextClean();
+        while(next != '}' && next != 0) {
+            if(next != ',') {
+                keys.add(tokener.nextString(next));
+                tokener.nextClean();
+                skipValue(tokener);
+            }
+            next = tokener.nextClean();
+        }
+        return keys;
+    }
+
+    private static Map<Season, Integer> readNbEventsBySeason(JSONTokener tokener) throws JSONException {
+        Map<Season, Integer> nbEventsBySeason = new EnumMap<>(Season.class);
+        if(tokener.nextClean() != '{') {
+            tokener.back();
+            skipValue(tokener);
+            return nbEventsBySeason;
+        }
+        char next = tokener.nextClean();
+        while(next != '}' && next != 0) {
+            if(next != ',') {
+                Season season = toSeason(tokener.nextString(next));
+                tokener.nextClean();
+                int nbEvents = countArrayElements(tokener);
+                if(season != null && nbEvents >= 0) {
+                    nbEventsBySeason.put(season, nbEvents);
+                }
+            }
+            next = tokener.nextClean();
+        }
+        return nbEventsBySeason;
+    }
+
+    /**
+     * @return number of elements of an array, -1 if the value is not an array
+     */
+    private static int countArrayElements(JSONTokener tokener) throws JSONException {
+        if(tokener.nextClean() != '[') {
+            tokener.back();
+            skipValue(tokener);
+            return -1;
+        }
+        if(tokener.nextClean() == ']') {
+            return 0;
+        }
+        tokener.back();
+        int nbElements = 0;
+        char next;
+        do {
+            skipValue(tokener);
+            nbElements += 1;
+            next = tokener.nextClean();
+        } while(next == ',');
+        return nbElements;
+    }
+
+    /**
+     * Skips a value (string, object, array or literal) without building it
+     */
+    private static void skipValue(JSONTokener tokener) throws JSONException {
+        char next = tokener.nextClean();
+        if(next == '"' || next == '\'') {
+            tokener.nextString(next);
+        }
+        else if(next == '{' || next == '[') {
+            int depth = 1;
+            while(depth > 0) {
+                next = tokener.next();
+                if(next == 0) {
+                    throw tokener.syntaxError("Unterminated object or array");
+                }
+                if(next == '"' || next == '\'') {
+                    tokener.nextString(next);
+                }
+                else if(next == '{' || next == '[') {
+                    depth += 1;
+                }
+                else if(next == '}' || next == ']') {
+                    depth -= 1;
+                }
+            }
+        }
+        else {
+            while(next != 0 && ",}]".indexOf(next) < 0 && !Character.isWhitespace(next)) {
+                next = tokener.next();
+            }
+            tokener.back();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package parser;
+
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import exceptions.MissingParsingObjectException;
+import gameplay.*;
+import republic.factions.FactionTypes;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Compiles a configuration file into the binary scenario format read by BinaryParser
+ *
+ * Layout (big endian) :
+ *  - header : magic, version
+ *  - string table : number of strings, then length and UTF-8 bytes of each string
+ *  - scenario : name and story indexes, first season ordinal (-1 if not set)
+ *  - factions : number of factions, then name and label indexes, if it can be bribed and bribe price per supporter of each
+ *  - start parameters : number of difficulties, then resources and factions (name index, satisfaction, supporters) of each
+ *  - event index : number of events and byte offset in the event section of each season
+ *  - event section : events of each season, every string being an index in the string table
+ *
+ * An event is written as its name and description indexes, its weight, its conditions (variable, min, max),
+ * its irreversible effect if any then its choices
+ * An effect is written as its primitive vectors : number of faction deltas then faction ID, faction factor ordinal
+ * and delta of each (sorted by faction ID then faction factor), then the factor mask and the delta of each set factor
+ *
+ * Usage : ScenarioCompiler configurationFile outputFile
+ * e.g. ScenarioCompiler scenarios/attackOnTitans_remastered.json attackOnTitans_remastered.elp
+ */
+public class ScenarioCompiler {
+    public static final String FILE_EXTENSION = ".elp";
+    public static final int MAGIC = 0x454C5053;
+    public static final short VERSION = 5;
+    public static final int NO_ELEMENT = -1;
+
+    private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+
+    /**
+     * Parses then compiles a configuration file
+     * @param filePath configuration file path
+     * @param outputPath compiled file path
+     * @throws IOException compiled file cannot be written
+     * @throws MissingParsingKeysException Keys are missing in configuration file
+     * @throws MissingEventsException Events are missing in configuration file
+     * @throws MissingParsingObjectException Objects (choices...) are missing in configuration file
+     */
+    public static void compile(String filePath, Path outputPath) throws IOException, MissingParsingKeysException, MissingEventsException, MissingParsingObjectException {
+        Parser parser = new JSONParser();
+        parser.openFile(filePath);
+        ParsedScenario scenario = parser.parseScenario();
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(outputPath))) {
+            new ScenarioCompiler().write(scenario, outputStream);
+        }
+    }
+
+    /**
+     * Writes a parsed scenario in binary format
+     * @param scenario parsed configuration file
+     * @param outputStream where the binary scenario is written, it is not closed
+     * @throws IOException binary scenario cannot be written
+     */
+    public void write(ParsedScenario scenario, OutputStream outputStream) throws IOException {
+        this.stringIndexes.clear();
+        int nameIndex = intern(scenario.getName());
+        int storyIndex = intern(scenario.getStory());
+
+        ByteArrayOutputStream factionTypesBytes = new ByteArrayOutputStream();
+        writeFactionTypes(scenario.getFactionTypes(), new DataOutputStream(factionTypesBytes));
+
+        ByteArrayOutputStream startParametersBytes = new ByteArrayOutputStream();
+        writeStartParameters(scenario, new DataOutputStream(startParametersBytes));
+
+        ByteArrayOutputStream eventsBytes = new ByteArrayOutputStream();
+        DataOutputStream events = new DataOutputStream(eventsBytes);
+        Map<Season, Integer> offsetBySeason = new EnumMap<>(Season.class);
+        for(Season season : Season.values()) {
+            offsetBySeason.put(season, events.size());
+            writeEvents(scenario.getEvents(season), events);
+        }
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        writeStringTable(output);
+        output.writeInt(nameIndex);
+        output.writeInt(storyIndex);
+        output.writeByte(scenario.getFirstSeason() == null ? NO_ELEMENT : scenario.getFirstSeason().ordinal());
+        factionTypesBytes.writeTo(output);
+        startParametersBytes.writeTo(output);
+        for(Season season : Season.values()) {
+            output.writeInt(scenario.getEvents(season).size());
+            output.writeInt(offsetBySeason.get(season));
+        }
+        output.writeInt(eventsBytes.size());
+        eventsBytes.writeTo(output);
+        output.flush();
+    }
+
+    private int intern(String string) {
+        Integer index = this.stringIndexes.get(string);
+        if(index == null) {
+            index = this.stringIndexes.size();
+            this.stringIndexes.put(string, index);
+        }
+        return index;
+    }
+
+    private void writeStringTable(DataOutputStream output) throws IOException {
+        output.writeInt(this.stringIndexes.size());
+        for(String string : this.stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private void writeFactionTypes(FactionTypes factionTypes, DataOutputStream output) throws IOException {
+        output.writeInt(factionTypes.count());
+        for(int factionId = 0; factionId < factionTypes.count(); factionId += 1) {
+            output.writeInt(intern(factionTypes.getName(factionId)));
+            output.writeInt(intern(factionTypes.getLabel(factionId)));
+            output.writeBoolean(factionTypes.isBribable(factionId));
+            output.writeInt(factionTypes.getBribePricePerSupporter(factionId));
+        }
+    }
+
+    private void writeStartParameters(ParsedScenario scenario, DataOutputStream output) throws IOException {
+        Set<String> difficulties = scenario.getStartParametersDifficulties();
+        output.writeInt(difficulties.size());
+        for(String difficultyName : difficulties) {
+            StartParameters startParameters = scenario.getStartParameters(difficultyName);
+            output.writeInt(intern(difficultyName));
+            output.writeInt(startParameters.getFarmRate());
+            output.writeInt(startParameters.getIndustryRate());
+            output.writeDouble(startParameters.getMoney());
+            output.writeInt(startParameters.getFoodUnits());
+            Map<String, Integer> satisfactionRateByFaction = startParameters.getSatisfactionRateByFaction();
+            output.writeInt(satisfactionRateByFaction.size());
+            for(Map.Entry<String, Integer> factionSatisfaction : satisfactionRateByFaction.entrySet()) {
+                String factionName = factionSatisfaction.getKey();
+                output.writeInt(intern(factionName));
+                output.writeInt(factionSatisfaction.getValue());
+                output.writeInt(startParameters.getNbSupportersByFaction().get(factionName));
+            }
+        }
+    }
+
+    private void writeEvents(List<Event> events, DataOutputStream output) throws IOException {
+        if(events == null) {
+            output.writeInt(NO_ELEMENT);
+            return;
+        }
+        output.writeInt(events.size());
+        for(Event event : events) {
+            writeEvent(event, output);
+        }
+    }
+
+    private void writeEvent(Event event, DataOutputStream output) throws IOException {
+        output.writeInt(intern(event.getName()));
+        output.writeInt(intern(event.getDescription()));
+        output.writeDouble(event.getWeight());
+        output.writeShort(event.getConditions().size());
+        for(Condition condition : event.getConditions()) {
+            output.writeInt(condition.getVariable());
+            output.writeDouble(condition.getMin());
+            output.writeDouble(condition.getMax());
+        }
+        output.writeBoolean(event.hasIrreversibleEffects());
+        if(event.hasIrreversibleEffects()) {
+            writeEffect(event.getIrreversibleEffects(), output);
+        }
+        output.writeByte(event.getNbChoices());
+        for(Choice choice : event.getChoices()) {
+            output.writeInt(intern(choice.getName()));
+            output.writeInt(intern(choice.getDescription()));
+            writeEffect(choice.getEffects(), output);
+            writeEvents(choice.getRelatedEvents(), output);
+        }
+    }
+
+    private void writeEffect(Effect effect, DataOutputStream output) throws IOException {
+        output.writeShort(effect.getNbFactionDeltas());
+        for(int deltaIndex = 0; deltaIndex < effect.getNbFactionDeltas(); deltaIndex += 1) {
+            output.writeInt(effect.getFactionId(deltaIndex));
+            output.writeByte(effect.getFactionFactor(deltaIndex).ordinal());
+            output.writeInt(effect.getFactionDelta(deltaIndex));
+        }
+        output.writeInt(effect.getFactorMask());
+        for(int factors = effect.getFactorMask(); factors != 0; factors &= factors - 1) {
+            output.writeInt(effect.getFactorDelta(Factor.fromOrdinal(Integer.numberOfTrailingZeros(factors))));
+        }
+    }
+
+    public static void main(String[] args) {
+        if(args.length != 2) {
+            System.out.println("Usage : ScenarioCompiler fichierDeConfiguration fichierCompilé");
+            return;
+        }
+        try {
+            compile(args[0], Paths.get(args[1]));
+            System.out.printf("%s compilé dans %s%n", args[0], args[1]);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package parser;
+
+import gameplay.Season;
+
+import java.util.*;
+
+/**
+ * What the scenario menu needs to know about a configuration file, without its story and events
+ */
+public class ScenarioHeader {
+    private final String filePath;
+    private final String name;
+    private final Season firstSeason;
+    private final Set<String> difficulties;
+    private final Map<Season, Integer> nbEventsBySeason;
+
+    /**
+     * @param filePath configuration file path in resources
+     * @param firstSeason null if it is not set in the configuration file
+     * @param nbEventsBySeason number of events of each season found in the configuration file
+     */
+    public ScenarioHeader(String filePath, String name, Season firstSeason, Set<String> difficulties, Map<Season, Integer> nbEventsBySeason) {
+        this.filePath = filePath;
+        this.name = name;
+        this.firstSeason = firstSeason;
+        this.difficulties = Collections.unmodifiableSet(new HashSet<>(difficulties));
+        Map<Season, Integer> nbEvents = new EnumMap<>(Season.class);
+        nbEvents.putAll(nbEventsBySeason);
+        this.nbEventsBySeason = Collections.unmodifiableMap(nbEvents);
+    }
+
+    public String getFilePath() {
+        return this.filePath;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Season getFirstSeason() {
+        return this.firstSeason;
+    }
+
+    public Set<String> getDifficulties() {
+        return this.difficulties;
+    }
+
+    public Map<Season, Integer> getNbEventsBySeason() {
+        return this.nbEventsBySeason;
+    }
+
+    public int getNbEvents() {
+        int nbEvents = 0;
+        for(int nbSeasonEvents : this.nbEventsBySeason.values()) {
+            nbEvents += nbSeasonEvents;
+        }
+        return nbEvents;
+    }
+
+    /**
+     * @return if the file has start parameters and events for every season, old configuration files don't
+     */
+    public boolean isPlayable() {
+        return !this.difficulties.isEmpty() && this.nbEventsBySeason.size() == Season.values().length;
+    }
+}
@@ -0,0 +1,140 @@
+package parser;
+
+import gameplay.Season;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Scenario headers generated at build time (process-classes phase) so the scenario menu reads one resource
+ * instead of scanning the resources directory or the JAR entries
+ *
+ * Usage : ScenarioManifest classesDirectory
+ */
+public class ScenarioManifest {
+    public static final String MANIFEST_PATH = "scenarios.manifest.json";
+    public static final String SCENARIOS_DIRECTORY = "scenarios/";
+    private static final String scenariosKey = "scenarios";
+    private static final String pathKey = "path";
+    private static final String difficultiesKey = "difficulties";
+    private static final String nbEventsBySeasonKey = "nbEventsBySeason";
+
+    private static volatile List<ScenarioHeader> headers;
+
+    /**
+     * Loaded once, the manifest cannot change while the game runs
+     * @return headers of every scenario file, null if there is no manifest (build without the generation step)
+     */
+    public static List<ScenarioHeader> getHeaders() {
+        if(headers == null) {
+            InputStream stream = ScenarioManifest.class.getClassLoader().getResourceAsStream(MANIFEST_PATH);
+            if(stream == null) {
+                return null;
+            }
+            try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+                headers = fromJson(new JSONObject(new JSONTokener(reader)));
+            } catch (Exception ex) {
+                ex.printStackTrace();
+                return null;
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * @return headers of the playable scenarios, null if there is no manifest
+     */
+    public static List<ScenarioHeader> getPlayableHeaders() {
+        List<ScenarioHeader> allHeaders = getHeaders();
+        if(allHeaders == null) {
+            return null;
+        }
+        List<ScenarioHeader> playableHeaders = new ArrayList<>();
+        for(ScenarioHeader header : allHeaders) {
+            if(header.isPlayable()) {
+                playableHeaders.add(header);
+            }
+        }
+        return playableHeaders;
+    }
+
+    /**
+     * Writes the manifest of the scenarios directory of the compiled classes
+     * @param classesDirectory directory where resources are copied by the build
+     * @throws IOException a scenario file cannot be read or the manifest cannot be written
+     */
+    public static void generate(File classesDirectory) throws IOException {
+        File[] scenarioFiles = new File(classesDirectory, SCENARIOS_DIRECTORY).listFiles(File::isFile);
+        List<ScenarioHeader> scenarioHeaders = new ArrayList<>();
+        if(scenarioFiles != null) {
+            Arrays.sort(scenarioFiles);
+            for(File scenarioFile : scenarioFiles) {
+                try (InputStream stream = new FileInputStream(scenarioFile)) {
+                    ScenarioHeader header = ScenarioCatalog.readHeader(SCENARIOS_DIRECTORY + scenarioFile.getName(), stream);
+                    if(header != null) {
+                        scenarioHeaders.add(header);
+                    }
+                }
+            }
+        }
+        File manifest = new File(classesDirectory, MANIFEST_PATH);
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifest), StandardCharsets.UTF_8)) {
+            writer.write(toJson(scenarioHeaders).toString(2));
+        }
+    }
+
+    private static JSONObject toJson(List<ScenarioHeader> scenarioHeaders) {
+        JSONArray scenarios = new JSONArray();
+        for(ScenarioHeader header : scenarioHeaders) {
+            JSONObject scenario = new JSONObject();
+            scenario.put(pathKey, header.getFilePath());
+            scenario.put(ParsingKeys.name, header.getName());
+            if(header.getFirstSeason() != null) {
+                scenario.put(ParsingKeys.firstSeason, header.getFirstSeason().name());
+            }
+            scenario.put(difficultiesKey, new JSONArray(new TreeSet<>(header.getDifficulties())));
+            JSONObject nbEventsBySeason = new JSONObject();
+            for(Map.Entry<Season, Integer> nbSeasonEvents : header.getNbEventsBySeason().entrySet()) {
+                nbEventsBySeason.put(nbSeasonEvents.getKey().name(), nbSeasonEvents.getValue());
+            }
+            scenario.put(nbEventsBySeasonKey, nbEventsBySeason);
+            scenarios.put(scenario);
+        }
+        return new JSONObject().put(scenariosKey, scenarios);
+    }
+
+    private static List<ScenarioHeader> fromJson(JSONObject manifest) {
+        List<ScenarioHeader> scenarioHeaders = new ArrayList<>();
+        JSONArray scenarios = manifest.getJSONArray(scenariosKey);
+        for(int indexScenario = 0; indexScenario < scenarios.length(); indexScenario += 1) {
+            JSONObject scenario = scenarios.getJSONObject(indexScenario);
+            Season firstSeason = null;
+            if(scenario.has(ParsingKeys.firstSeason)) {
+                firstSeason = Season.valueOf(scenario.getString(ParsingKeys.firstSeason));
+            }
+            Set<String> difficulties = new HashSet<>();
+            for(Object difficulty : scenario.getJSONArray(difficultiesKey)) {
+                difficulties.add(difficulty.toString());
+            }
+            Map<Season, Integer> nbEventsBySeason = new EnumMap<>(Season.class);
+            JSONObject nbEvents = scenario.getJSONObject(nbEventsBySeasonKey);
+            for(String seasonName : nbEvents.keySet()) {
+                nbEventsBySeason.put(Season.valueOf(seasonName), nbEvents.getInt(seasonName));
+            }
+            scenarioHeaders.add(new ScenarioHeader(scenario.getString(pathKey), scenario.getString(ParsingKeys.name), firstSeason, difficulties, nbEventsBySeason));
+        }
+        return scenarioHeaders;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if(args.length != 1) {
+            System.out.println("Usage : ScenarioManifest dossierDesClassesCompilées");
+            return;
+        }
+        generate(new File(args[0]));
+    }
+}
@@ -0,0 +1,84 @@
+package parser;
+
+import game.needs.GameRandom;
+import republic.economy.Resources;
+import republic.factions.FactionTypes;
+import republic.factions.Population;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable game start parameters of one difficulty (resources and factions)
+ * Every game creates its own republic from them
+ */
+public class StartParameters {
+    private final FactionTypes factionTypes;
+    private final int farmRate;
+    private final int industryRate;
+    private final double money;
+    private final int foodUnits;
+    private final Map<String, Integer> satisfactionRateByFaction;
+    private final Map<String, Integer> nbSupportersByFaction;
+
+    public StartParameters(FactionTypes factionTypes, int farmRate, int industryRate, double money, int foodUnits, Map<String, Integer> satisfactionRateByFaction, Map<String, Integer> nbSupportersByFaction) {
+        this.factionTypes = factionTypes;
+        this.farmRate = farmRate;
+        this.industryRate = industryRate;
+        this.money = money;
+        this.foodUnits = foodUnits;
+        this.satisfactionRateByFaction = Collections.unmodifiableMap(new LinkedHashMap<>(satisfactionRateByFaction));
+        this.nbSupportersByFaction = Collections.unmodifiableMap(new LinkedHashMap<>(nbSupportersByFaction));
+    }
+
+    public FactionTypes getFactionTypes() {
+        return this.factionTypes;
+    }
+
+    public int getFarmRate() {
+        return this.farmRate;
+    }
+
+    public int getIndustryRate() {
+        return this.industryRate;
+    }
+
+    public double getMoney() {
+        return this.money;
+    }
+
+    public int getFoodUnits() {
+        return this.foodUnits;
+    }
+
+    public Map<String, Integer> getSatisfactionRateByFaction() {
+        return this.satisfactionRateByFaction;
+    }
+
+    public Map<String, Integer> getNbSupportersByFaction() {
+        return this.nbSupportersByFaction;
+    }
+
+    public Population createPopulation() {
+        return createPopulation(new GameRandom());
+    }
+
+    /**
+     * @param random random generator of the game
+     * @return population of a new game
+     */
+    public Population createPopulation(GameRandom random) {
+        Population population = new Population(this.factionTypes, random);
+        for(int factionId = 0; factionId < this.factionTypes.count(); factionId += 1) {
+            String factionName = this.factionTypes.getName(factionId);
+            population.setFaction(factionId, this.nbSupportersByFaction.get(factionName), this.satisfactionRateByFaction.get(factionName));
+        }
+        population.factionsSubscribeToBribeEventExceptLoyalists();
+        return population;
+    }
+
+    public Resources createResources() throws IllegalArgumentException {
+        return new Resources(this.foodUnits, this.money, this.farmRate, this.industryRate);
+    }
+}
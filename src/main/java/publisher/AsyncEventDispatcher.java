@@ -0,0 +1,227 @@
+package publisher;
+
+import listeners.EventListener;
+import listeners.IntEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Listener which hands events over to a slow listener (logs, analytics, spectators) running on its own thread,
+ * so the game thread only copies the event into a preallocated ring buffer
+ * The ring buffer has a single producer : events of a dispatcher must all be published by the same thread
+ * Object payloads are handed over as is, a record reused by the publisher (SatisfactionChange) may have changed
+ * when the listener gets it
+ * Score listeners must stay synchronous, they are not meant to be wrapped in a dispatcher
+ * The dispatcher subscribes itself to events (subscribeTo), each object event through a listener knowing its
+ * event type, so publishing never looks an event up by name
+ */
+public class AsyncEventDispatcher implements IntEventListener, AutoCloseable {
+    private static final long IDLE_PARK_NANOS = 100_000;
+    private static final long FULL_PARK_NANOS = 1_000;
+
+    private final EventListener listener;
+    private final IntEventListener intListener;
+    private final OverflowPolicy overflowPolicy;
+    private final int mask;
+    private final EventType[] eventTypes;
+    private final Object[] payloads;
+    private final int[] values;
+    private final boolean[] areIntPayloads;
+    private final EventListener[] objectListeners = new EventListener[EventType.values().length];
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong nbDroppedEvents = new AtomicLong();
+    private volatile boolean closed;
+    private final Thread consumer;
+
+    /**
+     * @param listener listener of events with an object payload
+     * @param capacity number of events the ring buffer holds, rounded up to a power of two
+     * @param overflowPolicy what to do with an event published while the ring buffer is full
+     * @throws IllegalArgumentException capacity is not positive
+     */
+    public static AsyncEventDispatcher newDispatcher(EventListener listener, int capacity, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+        return new AsyncEventDispatcher(listener, null, capacity, overflowPolicy);
+    }
+
+    /**
+     * @param intListener listener of events with an int payload
+     * @param capacity number of events the ring buffer holds, rounded up to a power of two
+     * @param overflowPolicy what to do with an event published while the ring buffer is full
+     * @throws IllegalArgumentException capacity is not positive
+     */
+    public static AsyncEventDispatcher newIntDispatcher(IntEventListener intListener, int capacity, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+        return new AsyncEventDispatcher(null, intListener, capacity, overflowPolicy);
+    }
+
+    private AsyncEventDispatcher(EventListener listener, IntEventListener intListener, int capacity, OverflowPolicy overflowPolicy) throws IllegalArgumentException {
+        if(capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The ring buffer capacity must be between 1 and 2^30!");
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.listener = listener;
+        this.intListener = intListener;
+        this.overflowPolicy = overflowPolicy;
+        this.mask = size - 1;
+        this.eventTypes = new EventType[size];
+        this.payloads = new Object[size];
+        this.values = new int[size];
+        this.areIntPayloads = new boolean[size];
+        this.consumer = new Thread(this::consume, "event-dispatcher");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Subscribes this dispatcher to an event, as an int listener if it wraps one
+     * @param events event manager publishing the event
+     * @param eventType event to hand over to the wrapped listener
+     */
+    public void subscribeTo(EventManager events, EventType eventType) {
+        if(this.intListener != null) {
+            events.subscribeInt(eventType, this);
+        }
+        else {
+            events.subscribe(eventType, getObjectListener(eventType));
+        }
+    }
+
+    /**
+     * @param events event manager the dispatcher subscribed to
+     * @param eventType event not to hand over anymore
+     */
+    public void unsubscribeFrom(EventManager events, EventType eventType) {
+        if(this.intListener != null) {
+            events.unsubscribeInt(eventType, this);
+        }
+        else {
+            events.unsubscribe(eventType, getObjectListener(eventType));
+        }
+    }
+
+    /**
+     * @return listener publishing the object events of a type in the ring buffer, the same at each call
+     */
+    private synchronized EventListener getObjectListener(EventType eventType) {
+        EventListener objectListener = this.objectListeners[eventType.ordinal()];
+        if(objectListener == null) {
+            objectListener = (eventName, object) -> publish(eventType, object);
+            this.objectListeners[eventType.ordinal()] = objectListener;
+        }
+        return objectListener;
+    }
+
+    private void publish(EventType eventType, Object object) {
+        long slot = claimSlot();
+        if(slot >= 0) {
+            int index = (int) slot & this.mask;
+            this.eventTypes[index] = eventType;
+            this.payloads[index] = object;
+            this.areIntPayloads[index] = false;
+            this.tail.lazySet(slot + 1);
+        }
+    }
+
+    @Override
+    public void update(EventType eventType, int value) {
+        long slot = claimSlot();
+        if(slot >= 0) {
+            int index = (int) slot & this.mask;
+            this.eventTypes[index] = eventType;
+            this.values[index] = value;
+            this.areIntPayloads[index] = true;
+            this.tail.lazySet(slot + 1);
+        }
+    }
+
+    /**
+     * @return position of the free slot to write the event in, -1 if the event is dropped
+     */
+    private long claimSlot() {
+        long slot = this.tail.get();
+        while(slot - this.head.get() > this.mask) {
+            if(this.closed || this.overflowPolicy == OverflowPolicy.DROP) {
+                this.nbDroppedEvents.incrementAndGet();
+                return -1;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if(this.closed) {
+            this.nbDroppedEvents.incrementAndGet();
+            return -1;
+        }
+        return slot;
+    }
+
+    /**
+     * Delivers events in publication order until the dispatcher is closed and the ring buffer is empty
+     */
+    private void consume() {
+        while(true) {
+            long slot = this.head.get();
+            if(slot == this.tail.get()) {
+                if(this.closed) {
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            int index = (int) slot & this.mask;
+            EventType eventType = this.eventTypes[index];
+            Object payload = this.payloads[index];
+            int value = this.values[index];
+            boolean isIntPayload = this.areIntPayloads[index];
+            this.payloads[index] = null;
+            this.head.lazySet(slot + 1);
+            try {
+                deliver(eventType, payload, value, isIntPayload);
+            } catch (RuntimeException ex) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private void deliver(EventType eventType, Object payload, int value, boolean isIntPayload) {
+        if(isIntPayload) {
+            if(this.intListener != null) {
+                this.intListener.update(eventType, value);
+            }
+            else if(this.listener != null) {
+                this.listener.update(eventType.getName(), value);
+            }
+        }
+        else if(this.listener != null) {
+            this.listener.update(eventType.getName(), payload);
+        }
+    }
+
+    /**
+     * Waits until every event published so far is delivered
+     */
+    public void flush() {
+        long published = this.tail.get();
+        while(this.head.get() < published && this.consumer.isAlive()) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+    }
+
+    public long getNbDroppedEvents() {
+        return this.nbDroppedEvents.get();
+    }
+
+    /**
+     * Events published after closing are dropped, those already published are still delivered
+     * If the closing thread is interrupted, it stops waiting for them and keeps its interrupt status
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.consumer);
+        try {
+            this.consumer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,34 +1,137 @@
 package publisher;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import listeners.EventListener;
+import listeners.IntEventListener;
 
+/**
+ * Listeners are kept in arrays indexed by event ordinal, replaced by copies on every (un)subscription,
+ * so notifying looks up no map, allocates nothing and takes no lock, even while another thread subscribes
+ * Int listeners have their own (un)subscription methods, so that lambdas need no parameter types
+ */
 public class EventManager {
-    Map<String, List<EventListener>> listeners = new HashMap<>();
+    private static final EventListener[] NO_LISTENER = new EventListener[0];
+    private static final IntEventListener[] NO_INT_LISTENER = new IntEventListener[0];
 
-    public EventManager(String... operations) {
-        for (String operation : operations) {
-            this.listeners.put(operation, new ArrayList<>());
+    private volatile EventListener[][] listeners = new EventListener[EventType.values().length][];
+    private volatile IntEventListener[][] intListeners = new IntEventListener[EventType.values().length][];
+
+    public EventManager(EventType... eventTypes) {
+        for(EventType eventType : eventTypes) {
+            this.listeners[eventType.ordinal()] = NO_LISTENER;
+            this.intListeners[eventType.ordinal()] = NO_INT_LISTENER;
+        }
+    }
+
+    /**
+     * @param operations names of the events
+     * @throws IllegalArgumentException an event doesn't exist
+     */
+    public EventManager(String... operations) throws IllegalArgumentException {
+        this(toEventTypes(operations));
+    }
+
+    private static EventType[] toEventTypes(String... eventNames) throws IllegalArgumentException {
+        EventType[] eventTypes = new EventType[eventNames.length];
+        for(int index = 0; index < eventNames.length; index += 1) {
+            eventTypes[index] = getEventType(eventNames[index]);
+        }
+        return eventTypes;
+    }
+
+    private static EventType getEventType(String eventName) throws IllegalArgumentException {
+        EventType eventType = EventType.fromName(eventName);
+        if(eventType == null) {
+            throw new IllegalArgumentException("Unknown event : " + eventName);
+        }
+        return eventType;
+    }
+
+    /**
+     * @param users listeners of the event, null if this manager doesn't publish it
+     * @throws IllegalArgumentException this manager doesn't publish the event
+     */
+    private static <T> T[] checkManaged(T[] users, EventType eventType) throws IllegalArgumentException {
+        if(users == null) {
+            throw new IllegalArgumentException("Event not managed : " + eventType.getName());
         }
+        return users;
     }
 
     public void subscribe(String eventName, EventListener listener) {
-        List<EventListener> users = listeners.get(eventName);
-        users.add(listener);
+        subscribe(getEventType(eventName), listener);
+    }
+
+    public synchronized void subscribe(EventType eventType, EventListener listener) {
+        this.listeners = add(this.listeners, eventType, listener);
+    }
+
+    public synchronized void subscribeInt(EventType eventType, IntEventListener listener) {
+        this.intListeners = add(this.intListeners, eventType, listener);
     }
 
     public void unsubscribe(String eventName, EventListener listener) {
-        List<EventListener> users = listeners.get(eventName);
-        users.remove(listener);
+        unsubscribe(getEventType(eventName), listener);
+    }
+
+    public synchronized void unsubscribe(EventType eventType, EventListener listener) {
+        this.listeners = remove(this.listeners, eventType, listener);
+    }
+
+    public synchronized void unsubscribeInt(EventType eventType, IntEventListener listener) {
+        this.intListeners = remove(this.intListeners, eventType, listener);
+    }
+
+    /**
+     * @return copy of the listeners by event, with the listener added to those of the event
+     */
+    private static <T> T[][] add(T[][] listenersByEvent, EventType eventType, T listener) {
+        T[] users = checkManaged(listenersByEvent[eventType.ordinal()], eventType);
+        T[] newUsers = Arrays.copyOf(users, users.length + 1);
+        newUsers[users.length] = listener;
+        T[][] newListenersByEvent = listenersByEvent.clone();
+        newListenersByEvent[eventType.ordinal()] = newUsers;
+        return newListenersByEvent;
+    }
+
+    /**
+     * @return copy of the listeners by event, with the listener removed from those of the event
+     */
+    private static <T> T[][] remove(T[][] listenersByEvent, EventType eventType, T listener) {
+        T[] users = checkManaged(listenersByEvent[eventType.ordinal()], eventType);
+        for(int index = 0; index < users.length; index += 1) {
+            if(users[index].equals(listener)) {
+                T[] newUsers = Arrays.copyOf(users, users.length - 1);
+                System.arraycopy(users, index + 1, newUsers, index, users.length - index - 1);
+                T[][] newListenersByEvent = listenersByEvent.clone();
+                newListenersByEvent[eventType.ordinal()] = newUsers;
+                return newListenersByEvent;
+            }
+        }
+        return listenersByEvent;
     }
 
     public void notify(String eventName, Object object) {
-        List<EventListener> users = listeners.get(eventName);
-        for(EventListener listener : users) {
-            listener.update(eventName, object);
+        notify(getEventType(eventName), object);
+    }
+
+    public void notify(EventType eventType, Object object) {
+        for(EventListener listener : checkManaged(this.listeners[eventType.ordinal()], eventType)) {
+            listener.update(eventType.getName(), object);
+        }
+    }
+
+    /**
+     * Int listeners get the value as is, object listeners of the event (if any) get it boxed
+     * @param eventType published event
+     * @param value payload of the event
+     */
+    public void notify(EventType eventType, int value) {
+        for(IntEventListener listener : checkManaged(this.intListeners[eventType.ordinal()], eventType)) {
+            listener.update(eventType, value);
+        }
+        if(this.listeners[eventType.ordinal()].length > 0) {
+            notify(eventType, (Object) value);
         }
     }
-}
\ No newline at end of file
+}
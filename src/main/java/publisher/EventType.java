@@ -0,0 +1,38 @@
+package publisher;
+
+/**
+ * Events published by the game, their ordinal indexes the listeners of an event manager
+ */
+public enum EventType {
+    BRIBED("bribed"),
+    SATISFACTION_INCREASED("satisfaction_increased"),
+    SATISFACTION_DECREASED("satisfaction_decreased"),
+    SATISFACTION_CHANGED("satisfaction_changed");
+
+    private static final EventType[] values = values();
+    private final String name;
+
+    EventType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return name given to listeners
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @param name event name
+     * @return event of this name, null if it doesn't exist
+     */
+    public static EventType fromName(String name) {
+        for(EventType eventType : values) {
+            if(eventType.name.equals(name)) {
+                return eventType;
+            }
+        }
+        return null;
+    }
+}
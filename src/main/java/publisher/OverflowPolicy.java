@@ -0,0 +1,15 @@
+package publisher;
+
+/**
+ * What an asynchronous dispatcher does with an event published while its ring buffer is full
+ */
+public enum OverflowPolicy {
+    /**
+     * The publishing thread waits until the consumer frees a slot
+     */
+    BLOCK,
+    /**
+     * The event is dropped and counted, the publishing thread never waits
+     */
+    DROP
+}
@@ -1,26 +1,45 @@
 package republic;
 
-import game.needs.GameInputOptions;
 import game.needs.GameRules;
-import game.needs.GamePlayerInput;
-import parser.ParsingKeys;
+import output.ConsoleOutput;
+import output.Output;
 import publisher.EventManager;
+import publisher.EventType;
 import republic.economy.Resources;
 import republic.factions.Faction;
 import republic.factions.Population;
 import gameplay.Effect;
 import gameplay.Event;
-
-import java.util.Map;
+import gameplay.Factor;
 
 public class Republic {
     private final Population population;
     private final Resources resources;
     public EventManager events;
+    private Output output = new ConsoleOutput();
+    private final double difficultyCoefficient;
+    private boolean batchedEffects;
+    private SatisfactionChange satisfactionChange;
 
     public Republic(Population population, Resources resources) {
+        this(population, resources, 1);
+    }
+
+    /**
+     * @param difficultyCoefficient coefficient applied to every event effect
+     */
+    public Republic(Population population, Resources resources, double difficultyCoefficient) {
         this.population = population;
         this.resources = resources;
+        this.difficultyCoefficient = difficultyCoefficient;
+    }
+
+    /**
+     * In batch mode, satisfaction variations of an effect are published at once, after the whole effect is applied
+     * @param batchedEffects if one satisfaction change is published by effect instead of one by faction
+     */
+    public void setBatchedEffects(boolean batchedEffects) {
+        this.batchedEffects = batchedEffects;
     }
 
     public boolean isSet() {
@@ -35,6 +54,11 @@ public class Republic {
         return resources;
     }
 
+    public void setOutput(Output output) {
+        this.output = output;
+        this.population.setOutput(output);
+    }
+
     public boolean isGlobalSatisfactionRateOkay(double gameDifficultyCoefficient) {
         if(isThereAnyPopulation()) {
             return getPopulation().getGlobalSatisfactionRate() >= GameRules.MINIMUM_GLOBAL_SATISFACTION_RATE * gameDifficultyCoefficient;
@@ -62,35 +86,79 @@ public class Republic {
         factorEffects(effect);
     }
 
+    /**
+     * Applies the set faction deltas of an effect, scaled by the game difficulty
+     * @param effect effect of an event or a choice
+     */
     public void factionEffects(Effect effect) {
-        Map<String, Map<String, Integer>> effectsByFaction = effect.getEffectsByFaction();
-        // Each faction
-        for(Map.Entry<String, Map<String, Integer>> factionEffectsSet: effectsByFaction.entrySet()) {
-            String factionName = factionEffectsSet.getKey();
-            Map<String, Integer> effectsOnFaction = factionEffectsSet.getValue();
-            // Each effect on the faction
-            for(Map.Entry<String, Integer> factionEffects : effectsOnFaction.entrySet()) {
-                String factorName = factionEffects.getKey();
-                int factorEffect = factionEffects.getValue();
-                if(factorName.equals(ParsingKeys.nbSupporters)) {
-                    this.population.updateNbSupportersByFaction(factorEffect, factionName);
-                }
-                if(factorName.equals(ParsingKeys.satisfactionRate)) {
+        if(this.batchedEffects) {
+            batchedFactionEffects(effect);
+            return;
+        }
+        for(int index = 0; index < effect.getNbFactionDeltas(); index += 1) {
+            int factionId = effect.getFactionId(index);
+            int factorEffect = Effect.applyDifficultyCoefficient(effect.getFactionDelta(index), this.difficultyCoefficient);
+            switch(effect.getFactionFactor(index)) {
+                case NB_SUPPORTERS:
+                    this.population.updateNbSupportersBy(factionId, factorEffect);
+                    break;
+                case SATISFACTION_RATE:
+                    int satisfactionRate = this.population.getSatisfactionRate(factionId);
                     if(factorEffect > 0) {
-                         events.notify("satisfaction_increased", getRealSatisfactionVariation(factorEffect, factionName));
+                        events.notify(EventType.SATISFACTION_INCREASED, getRealSatisfactionVariation(factorEffect, satisfactionRate));
                     }
                     if(factorEffect < 0) {
-                         events.notify("satisfaction_decreased", getRealSatisfactionVariation(factorEffect, factionName));
+                        events.notify(EventType.SATISFACTION_DECREASED, getRealSatisfactionVariation(factorEffect, satisfactionRate));
                     }
-                    this.population.updateSatisfactionRateByFaction(factorEffect, factionName);
-                }
+                    this.population.updateSatisfactionRate(factionId, factorEffect);
+                    break;
             }
         }
     }
 
+    /**
+     * Applies the set faction deltas of an effect then publishes the satisfaction variations really applied at once
+     * @param effect effect of an event or a choice
+     */
+    private void batchedFactionEffects(Effect effect) {
+        if(this.satisfactionChange == null) {
+            this.satisfactionChange = new SatisfactionChange(this.population.getNbFactions());
+        }
+        this.satisfactionChange.clear();
+        for(int index = 0; index < effect.getNbFactionDeltas(); index += 1) {
+            int factionId = effect.getFactionId(index);
+            int factorEffect = Effect.applyDifficultyCoefficient(effect.getFactionDelta(index), this.difficultyCoefficient);
+            switch(effect.getFactionFactor(index)) {
+                case NB_SUPPORTERS:
+                    this.population.updateNbSupportersBy(factionId, factorEffect);
+                    break;
+                case SATISFACTION_RATE:
+                    if(factorEffect != 0) {
+                        this.satisfactionChange.add(factionId, getRealSatisfactionVariation(factorEffect, this.population.getSatisfactionRate(factionId)));
+                    }
+                    this.population.updateSatisfactionRate(factionId, factorEffect);
+                    break;
+            }
+        }
+        if(!this.satisfactionChange.isEmpty()) {
+            events.notify(EventType.SATISFACTION_CHANGED, this.satisfactionChange);
+        }
+    }
+
     public int getRealSatisfactionVariation(int percentagePoints, String factionName) {
-        Faction targetFaction = this.population.getFactionByName().get(factionName);
-        int targetFactionSatisfactionRate = targetFaction.getSatisfactionRate();
+        return getRealSatisfactionVariation(percentagePoints, this.population.getFactionByName().get(factionName));
+    }
+
+    public int getRealSatisfactionVariation(int percentagePoints, Faction targetFaction) {
+        return getRealSatisfactionVariation(percentagePoints, targetFaction.getSatisfactionRate());
+    }
+
+    /**
+     * @param percentagePoints satisfaction variation of the effect
+     * @param targetFactionSatisfactionRate satisfaction rate of the target faction, kept between 0 and 100
+     * @return satisfaction variation really applied to the faction
+     */
+    private int getRealSatisfactionVariation(int percentagePoints, int targetFactionSatisfactionRate) {
         if(percentagePoints >= 0) {
             if(percentagePoints > 100 - targetFactionSatisfactionRate) {
                 return 100 - targetFactionSatisfactionRate;
@@ -104,57 +172,46 @@ public class Republic {
         return percentagePoints;
     }
 
+    /**
+     * Applies the set factor deltas of an effect, scaled by the game difficulty
+     * @param effect effect of an event or a choice
+     */
     public void factorEffects(Effect effect) {
-        Map<String, Integer> effectsByFactor = effect.getEffectsByFactor();
-        // Each factor
-        for(Map.Entry<String,Integer> factorEffectsSet : effectsByFactor.entrySet()) {
-            String factorName = factorEffectsSet.getKey();
-            int factorEffect = factorEffectsSet.getValue();
-            if(factorName.equals(ParsingKeys.industryRate)) {
-                this.resources.updateIndustryRate(factorEffect);
-            }
-            if(factorName.equals(ParsingKeys.farmRate)) {
-                this.resources.updateFarmRate(factorEffect);
-            }
-            if(factorName.equals(ParsingKeys.foodUnits)) {
-                this.resources.addFood(factorEffect);
-            }
-            if(factorName.equals(ParsingKeys.money)) {
-                this.resources.earnMoney(factorEffect);
-            }
-            if(factorName.equals(ParsingKeys.population)) {
-                this.population.updateNbSupportersOnAllFactions(factorEffect);
-            }
-            if(factorName.equals(ParsingKeys.satisfactionRate)) {
-                this.population.updateNbSupportersOnAllFactions(factorEffect);
+        for(int factors = effect.getFactorMask(); factors != 0; factors &= factors - 1) {
+            Factor factor = Factor.fromOrdinal(Integer.numberOfTrailingZeros(factors));
+            int factorEffect = Effect.applyDifficultyCoefficient(effect.getFactorDelta(factor), this.difficultyCoefficient);
+            switch(factor) {
+                case INDUSTRY_RATE:
+                    this.resources.updateIndustryRate(factorEffect);
+                    break;
+                case FARM_RATE:
+                    this.resources.updateFarmRate(factorEffect);
+                    break;
+                case FOOD_UNITS:
+                    this.resources.addFood(factorEffect);
+                    break;
+                case MONEY:
+                    this.resources.earnMoney(factorEffect);
+                    break;
+                case POPULATION:
+                case SATISFACTION_RATE:
+                    this.population.updateNbSupportersOnAllFactions(factorEffect);
+                    break;
             }
         }
     }
 
 
-    public void playerEndYearChoiceImpacts(int choice, int nbChoicesDone) {
-        if(choice == GameInputOptions.YEAR_END_DO_NOTHING_CHOICE) {
-            if(nbChoicesDone == 0) {
-                System.out.printf("%nVous avez décidé de ne rien faire en cette fin d'année.%n");
-                System.out.printf("%nVotre République doit se porter à merveille !%n");
-            }
-            else if(nbChoicesDone == 1){
-                System.out.printf("%nNous espérons que ce choix n'aura pas été vain.%n");
-            }
-            else {
-                System.out.printf("%nNous espérons que ces choix n'auront pas été vains.%n");
-            }
+    public void displayDoNothingChoice(int nbChoicesDone) {
+        if(nbChoicesDone == 0) {
+            this.output.printf("%nVous avez décidé de ne rien faire en cette fin d'année.%n");
+            this.output.printf("%nVotre République doit se porter à merveille !%n");
         }
-        if(choice == GameInputOptions.YEAR_END_BRIBE_CHOICE) {
-            this.population.displayAvailableFactions();
-            int indexFactionToBribe = GamePlayerInput.chooseFactionToBribe(this.population.getNbFactions());
-            String factionToBribe = this.population.getFactionNameByIndex(indexFactionToBribe);
-            bribeIfPossible(factionToBribe);
+        else if(nbChoicesDone == 1){
+            this.output.printf("%nNous espérons que ce choix n'aura pas été vain.%n");
         }
-        if(choice == GameInputOptions.YEAR_END_BUY_FOOD_CHOICE) {
-            int foodUnitPossibleToBuy = this.resources.buyingFoodUnitsPossible();
-            int foodUnitsToBuy = GamePlayerInput.chooseFoodUnitsToBuy(foodUnitPossibleToBuy);
-            buyFoodIfPossible(foodUnitsToBuy);
+        else {
+            this.output.printf("%nNous espérons que ces choix n'auront pas été vains.%n");
         }
     }
 
@@ -167,12 +224,12 @@ public class Republic {
                 return true;
             }
             else {
-                System.out.printf("%nVous n'avez pas assez d'argent pour verser un pot-de-vin aux %s.%n", factionToBribe.getName());
+                this.output.printf("%nVous n'avez pas assez d'argent pour verser un pot-de-vin aux %s.%n", factionToBribe.getName());
                 return false;
             }
         }
         else {
-            System.out.printf("%nIl n'est pas possible de verser un pot de vin à cette faction.%n");
+            this.output.printf("%nIl n'est pas possible de verser un pot de vin à cette faction.%n");
             return false;
         }
     }
@@ -181,11 +238,11 @@ public class Republic {
         int foodPrice = this.resources.getFoodPrice(foodUnits);
         if(haveEnoughMoney(foodPrice)) {
             this.resources.buyFood(foodUnits);
-            System.out.printf("%nVous avez acheté %d unité(s) de nourriture au prix de %d$.%n", foodUnits, foodPrice);
+            this.output.printf("%nVous avez acheté %d unité(s) de nourriture au prix de %d$.%n", foodUnits, foodPrice);
             return true;
         }
         else {
-            System.out.println("Vous n'avez pas assez d'argent pour acheter autant de nourriture !");
+            this.output.println("Vous n'avez pas assez d'argent pour acheter autant de nourriture !");
             return false;
         }
     }
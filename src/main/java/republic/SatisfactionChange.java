@@ -0,0 +1,63 @@
+package republic;
+
+import java.util.Arrays;
+
+/**
+ * Satisfaction variations really applied to the factions by one effect, published once the whole effect is applied
+ * The same record is reused by every effect of a republic, listeners must not keep it
+ */
+public class SatisfactionChange {
+    private final int[] variationByFaction;
+    private int totalIncrease;
+    private int totalDecrease;
+
+    SatisfactionChange(int nbFactions) {
+        this.variationByFaction = new int[nbFactions];
+    }
+
+    void clear() {
+        Arrays.fill(this.variationByFaction, 0);
+        this.totalIncrease = 0;
+        this.totalDecrease = 0;
+    }
+
+    void add(int factionId, int variation) {
+        this.variationByFaction[factionId] += variation;
+        if(variation > 0) {
+            this.totalIncrease += variation;
+        }
+        else {
+            this.totalDecrease -= variation;
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.totalIncrease == 0 && this.totalDecrease == 0;
+    }
+
+    /**
+     * @param factionId faction ID in the population
+     * @return satisfaction variation of the faction, in percentage points
+     */
+    public int getVariation(int factionId) {
+        return this.variationByFaction[factionId];
+    }
+
+    public int getNbFactions() {
+        return this.variationByFaction.length;
+    }
+
+    /**
+     * @return sum of the satisfaction increases, in percentage points
+     */
+    public int getTotalIncrease() {
+        return this.totalIncrease;
+    }
+
+    /**
+     * @return sum of the satisfaction decreases, in positive percentage points
+     */
+    public int getTotalDecrease() {
+        return this.totalDecrease;
+    }
+}
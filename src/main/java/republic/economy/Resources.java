@@ -1,6 +1,7 @@
 package republic.economy;
 
 import game.needs.GameRules;
+import output.Output;
 
 public class Resources {
     Industry industry;
@@ -28,6 +29,16 @@ public class Resources {
         return newRate + otherOneRate <= 100 && newRate + otherOneRate >= 0;
     }
 
+    /**
+     * Sets all the values at once, for a restored game state
+     */
+    public void setValues(int foodUnits, double money, int farmRate, int industryRate) {
+        this.farm.foodUnits = foodUnits;
+        this.farm.rate = farmRate;
+        this.industry.money = money;
+        this.industry.rate = industryRate;
+    }
+
     public Industry getIndustry() {
         return this.industry;
     }
@@ -142,7 +153,10 @@ public class Resources {
         addFood(foodUnits);
     }
 
-    public void displaySummary() {
-        System.out.printf("%nRessources : %n%s%s", this.industry.toString(), this.farm.toString());
+    public void displaySummary(Output output) {
+        if(!output.isEnabled()) {
+            return;
+        }
+        output.printf("%nRessources : %n%s%s", this.industry.toString(), this.farm.toString());
     }
 }
@@ -4,8 +4,4 @@ public class Capitalists extends Faction {
     public Capitalists(int nbSupporters, int satisfactionRate) {
         super(nbSupporters, satisfactionRate);
     }
-
-    public String getName() {
-        return "Capitalistes";
-    }
 }
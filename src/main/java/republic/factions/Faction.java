@@ -1,99 +1,116 @@
 package republic.factions;
 
 import game.needs.GameRules;
+import output.ConsoleOutput;
+import output.Output;
 import publisher.EventManager;
-
-public abstract class Faction {
-    private int nbSupporters;
-    private int satisfactionRate;
+import publisher.EventType;
+
+/**
+ * View on one faction of a population, the population stores the values of all its factions in parallel arrays
+ * indexed by faction ID
+ * A default faction created on its own lives in a population of its own, until a population adopts it
+ */
+public class Faction {
     public EventManager events;
+    protected Output output = new ConsoleOutput();
+    private Population population;
+    private int id;
+
+    /**
+     * @param population population storing the faction values
+     * @param id ID of the faction in the population
+     */
+    Faction(Population population, int id) {
+        this.population = population;
+        this.id = id;
+        setEvents();
+    }
 
     protected Faction(int nbSupporters, int satisfactionRate) throws IllegalArgumentException {
-        if(nbSupporters < 0) {
-            throw new IllegalArgumentException("Number of supporters can't be a negative value!");
-        }
-        if(satisfactionRate < 0 || satisfactionRate > 100) {
-            throw new IllegalArgumentException("The satisfaction rate must be between 0 and 100!");
-        }
-        this.nbSupporters = nbSupporters;
-        this.satisfactionRate = satisfactionRate;
-        if(this.getClass() != Loyalists.class) {
-            this.events = new EventManager("bribed");
+        Population ownPopulation = new Population(FactionTypes.ofDefault(this.getClass().getSimpleName()));
+        ownPopulation.setFaction(0, this, nbSupporters, satisfactionRate);
+        setEvents();
+    }
+
+    /**
+     * Only factions which can be bribed publish bribes
+     */
+    private void setEvents() {
+        if(this.population.getFactionTypes().isBribable(this.id)) {
+            this.events = new EventManager(EventType.BRIBED);
         }
         else {
             this.events = null;
         }
     }
 
-    abstract public String getName();
+    /**
+     * Binds this view to a faction of a population
+     */
+    void setPopulation(Population population, int id) {
+        this.population = population;
+        this.id = id;
+    }
 
-    public int getNbSupporters() {
-        return this.nbSupporters;
+    public int getId() {
+        return this.id;
     }
 
-    public int getSatisfactionRate() {
-        return this.satisfactionRate;
+    public String getName() {
+        return this.population.getFactionTypes().getLabel(this.id);
     }
 
-    private void setNbSupporters(int nbSupporters) {
-        if(nbSupporters >= 0) {
-            this.nbSupporters = nbSupporters;
-        }
-        else {
-            this.nbSupporters = 0;
-        }
+    public Output getOutput() {
+        return this.output;
     }
 
-    private void setSatisfactionRate(int newRate) {
-        if(this.satisfactionRate == 0) {
-            if(newRate > 0) {
-                System.out.printf("Les %s sont contre votre République (insatisfaits), il n'est plus possible de changer leur taux de satisfaction.%n", getName());
-            }
-        }
-        else {
-            if(newRate <= 0) {
-                this.satisfactionRate = 0;
-            }
-            else if(newRate >= 100) {
-                this.satisfactionRate = 100;
-            }
-            else {
-                this.satisfactionRate = newRate;
-            }
-        }
+    public void setOutput(Output output) {
+        this.output = output;
     }
 
-    protected void addSupporters(int nbSupporters) {
-        setNbSupporters(this.nbSupporters + nbSupporters);
+    public int getNbSupporters() {
+        return this.population.getNbSupporters(this.id);
+    }
+
+    public int getSatisfactionRate() {
+        return this.population.getSatisfactionRate(this.id);
     }
 
     public void updateNbSupportersBy(int percentage) {
-        int newNbSupporters = (int)(this.nbSupporters * (1 + (double)percentage/100));
-        setNbSupporters(newNbSupporters);
+        this.population.updateNbSupportersBy(this.id, percentage);
     }
 
     public void updateSatisfactionRate(int percentagePoint) {
-        setSatisfactionRate(this.satisfactionRate + percentagePoint);
+        this.population.updateSatisfactionRate(this.id, percentagePoint);
     }
 
     public void eliminateASupporter() {
-        setNbSupporters(getNbSupporters() - 1);
+        this.population.eliminateSupporters(this.id, 1);
+    }
+
+    /**
+     * @param nbSupportersToEliminate the faction can't have less than 0 supporter
+     */
+    public void eliminateSupporters(int nbSupportersToEliminate) {
+        this.population.eliminateSupporters(this.id, nbSupportersToEliminate);
     }
 
     public boolean canBeBribed() {
-        if(this.satisfactionRate > 0) {
-            return !this.getClass().getSimpleName().equals(Loyalists.class.getSimpleName());
-        }
-        return false;
+        return this.population.canBeBribed(this.id);
     }
 
     public int getBribePrice() {
-        return getNbSupporters() * GameRules.BRIBE_PRICE_PER_SUPPORTER;
+        return this.population.getBribePrice(this.id);
     }
 
     public void bribe() {
+        if(!this.population.getFactionTypes().isBribable(this.id)) {
+            this.output.printf("Vous ne pouvez pas verser un pot de vin aux %s!%n", getName());
+            return;
+        }
         updateSatisfactionRate(GameRules.BRIBE_INCREASE_SATISFACTION_RATE);
-        events.notify("bribed", this);
+        events.notify(EventType.BRIBED, this);
     }
 
     @Override
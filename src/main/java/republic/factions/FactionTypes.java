@@ -0,0 +1,106 @@
+package republic.factions;
+
+import game.needs.GameRules;
+
+import java.util.*;
+
+/**
+ * Factions of a scenario, indexed by faction ID : name used in configuration files, displayed label,
+ * if they can be bribed and their bribe price per supporter
+ * Scenarios which don't declare their factions use the default ones, which are frozen and can't be added to
+ */
+public class FactionTypes {
+    public static final FactionTypes DEFAULT = new FactionTypes()
+            .add(Capitalists.class.getSimpleName(), "Capitalistes", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Communists.class.getSimpleName(), "Communistes", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Ecologists.class.getSimpleName(), "Écologistes", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Liberals.class.getSimpleName(), "Libéraux", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Loyalists.class.getSimpleName(), "Loyalistes", false, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Militarists.class.getSimpleName(), "Militaristes", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Nationalists.class.getSimpleName(), "Nationalistes", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .add(Religious.class.getSimpleName(), "Religieux", true, GameRules.BRIBE_PRICE_PER_SUPPORTER)
+            .freeze();
+
+    private final List<String> names = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+    private boolean[] bribables = new boolean[0];
+    private int[] bribePricesPerSupporter = new int[0];
+    private final Map<String, Integer> idByUpperName = new HashMap<>();
+    private boolean frozen;
+
+    /**
+     * @param name name of the faction in configuration files, case insensitive
+     * @param label name of the faction displayed to the player
+     * @param bribable if the faction can be bribed, factions which can't be bribed dislike bribes to the others
+     * @param bribePricePerSupporter price of a bribe for each supporter of the faction
+     * @return these faction types
+     * @throws IllegalArgumentException the faction is already declared
+     * @throws IllegalStateException these faction types are frozen
+     */
+    public FactionTypes add(String name, String label, boolean bribable, int bribePricePerSupporter) throws IllegalArgumentException, IllegalStateException {
+        if(this.frozen) {
+            throw new IllegalStateException("Frozen faction types can't be added to : " + name);
+        }
+        int id = this.names.size();
+        if(this.idByUpperName.putIfAbsent(name.toUpperCase(), id) != null) {
+            throw new IllegalArgumentException("Faction declared twice : " + name);
+        }
+        this.names.add(name);
+        this.labels.add(label);
+        this.bribables = Arrays.copyOf(this.bribables, id + 1);
+        this.bribables[id] = bribable;
+        this.bribePricesPerSupporter = Arrays.copyOf(this.bribePricesPerSupporter, id + 1);
+        this.bribePricesPerSupporter[id] = bribePricePerSupporter;
+        return this;
+    }
+
+    /**
+     * @return these faction types, which can't be added to anymore
+     */
+    private FactionTypes freeze() {
+        this.frozen = true;
+        return this;
+    }
+
+    /**
+     * @param name name of a default faction
+     * @return faction types holding only this default faction, for a faction living outside any population
+     */
+    static FactionTypes ofDefault(String name) {
+        int id = DEFAULT.getId(name);
+        return new FactionTypes().add(DEFAULT.getName(id), DEFAULT.getLabel(id), DEFAULT.isBribable(id), DEFAULT.getBribePricePerSupporter(id));
+    }
+
+    public int count() {
+        return this.names.size();
+    }
+
+    /**
+     * @param name faction name, case insensitive
+     * @return ID of the faction, -1 if it doesn't exist
+     */
+    public int getId(String name) {
+        Integer id = this.idByUpperName.get(name.toUpperCase());
+        return id == null ? -1 : id;
+    }
+
+    public List<String> getNames() {
+        return Collections.unmodifiableList(this.names);
+    }
+
+    public String getName(int id) {
+        return this.names.get(id);
+    }
+
+    public String getLabel(int id) {
+        return this.labels.get(id);
+    }
+
+    public boolean isBribable(int id) {
+        return this.bribables[id];
+    }
+
+    public int getBribePricePerSupporter(int id) {
+        return this.bribePricesPerSupporter[id];
+    }
+}
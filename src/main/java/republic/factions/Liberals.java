@@ -4,8 +4,4 @@ public class Liberals extends Faction {
     public Liberals(int nbSupporters, int satisfactionRate) {
         super(nbSupporters, satisfactionRate);
     }
-
-    public String getName() {
-        return "Libéraux";
-    }
 }
@@ -1,28 +1,122 @@
 package republic.factions;
 
+import game.needs.BinomialDistribution;
+import game.needs.GameRandom;
 import game.needs.GameRules;
 import listeners.BriberyListener;
+import output.Output;
+import publisher.EventType;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Factions of the republic stored as parallel primitive arrays indexed by faction ID (struct of arrays),
+ * factions being declared by the scenario
+ * Faction objects are views on these arrays, for the code working on one faction at a time
+ */
 public class Population {
+    private final FactionTypes factionTypes;
+    private final int[] nbSupporters;
+    private final int[] satisfactionRates;
+    private final Faction[] factions;
     private final LinkedHashMap<String, Faction> factionByName = new LinkedHashMap<>();
+    private final int[] drawnSupportersByFaction;
+    private final GameRandom random;
+    private int totalPopulation;
+    private long totalWeightedSatisfaction;
     private final FactionFactory factionFactory = new FactionFactory();
 
     public Population() {
-        setFactionNamesInFactionByName();
+        this(FactionTypes.DEFAULT);
     }
 
-    private void setFactionNamesInFactionByName() {
-        this.factionByName.put(Capitalists.class.getSimpleName(), null);
-        this.factionByName.put(Communists.class.getSimpleName(), null);
-        this.factionByName.put(Ecologists.class.getSimpleName(), null);
-        this.factionByName.put(Liberals.class.getSimpleName(), null);
-        this.factionByName.put(Loyalists.class.getSimpleName(), null);
-        this.factionByName.put(Militarists.class.getSimpleName(), null);
-        this.factionByName.put(Nationalists.class.getSimpleName(), null);
-        this.factionByName.put(Religious.class.getSimpleName(), null);
+    /**
+     * @param random random generator of the game, for famine and population growth
+     */
+    public Population(GameRandom random) {
+        this(FactionTypes.DEFAULT, random);
+    }
+
+    public Population(FactionTypes factionTypes) {
+        this(factionTypes, new GameRandom());
+    }
+
+    /**
+     * Every faction starts without supporters, until its start parameters are set
+     * @param factionTypes factions of the scenario
+     * @param random random generator of the game, for famine and population growth
+     */
+    public Population(FactionTypes factionTypes, GameRandom random) {
+        this.factionTypes = factionTypes;
+        this.random = random;
+        int nbFactions = factionTypes.count();
+        this.nbSupporters = new int[nbFactions];
+        this.satisfactionRates = new int[nbFactions];
+        this.drawnSupportersByFaction = new int[nbFactions];
+        this.factions = new Faction[nbFactions];
+        for(int id = 0; id < nbFactions; id += 1) {
+            this.factions[id] = new Faction(this, id);
+            this.factionByName.put(factionTypes.getName(id), this.factions[id]);
+        }
+    }
+
+    public FactionTypes getFactionTypes() {
+        return this.factionTypes;
+    }
+
+    /**
+     * @return faction names in faction ID order
+     */
+    public List<String> getFactionNames() {
+        return this.factionTypes.getNames();
+    }
+
+    /**
+     * @return ID of the faction, -1 if it doesn't exist
+     */
+    public int getFactionId(String factionName) {
+        return this.factionTypes.getId(factionName);
+    }
+
+    /**
+     * Sets the start values of a faction
+     * @param id faction ID
+     * @param nbSupporters number of supporters, not negative
+     * @param satisfactionRate satisfaction rate between 0 and 100
+     * @throws IllegalArgumentException values are out of range
+     */
+    public void setFaction(int id, int nbSupporters, int satisfactionRate) throws IllegalArgumentException {
+        if(nbSupporters < 0) {
+            throw new IllegalArgumentException("Number of supporters can't be a negative value!");
+        }
+        if(satisfactionRate < 0 || satisfactionRate > 100) {
+            throw new IllegalArgumentException("The satisfaction rate must be between 0 and 100!");
+        }
+        updateTotals(nbSupporters - this.nbSupporters[id], (long) nbSupporters * satisfactionRate - getWeightedSatisfaction(id));
+        this.nbSupporters[id] = nbSupporters;
+        this.satisfactionRates[id] = satisfactionRate;
+    }
+
+    /**
+     * Adopts a faction created on its own : its values are copied in this population and it becomes a view on them
+     * @param factionName one of the population faction names
+     * @param faction faction created with its start parameters
+     */
+    public void setFaction(String factionName, Faction faction) {
+        int id = getFactionId(factionName);
+        setFaction(id, faction, faction.getNbSupporters(), faction.getSatisfactionRate());
+        faction.setOutput(this.factions[id].getOutput());
+    }
+
+    void setFaction(int id, Faction faction, int nbSupporters, int satisfactionRate) throws IllegalArgumentException {
+        setFaction(id, nbSupporters, satisfactionRate);
+        faction.setPopulation(this, id);
+        this.factions[id] = faction;
+        this.factionByName.put(this.factionTypes.getName(id), faction);
+    }
+
+    public Faction getFaction(int id) {
+        return this.factions[id];
     }
 
     public Faction createAndGetFaction(String factionName, int nbSupporters, int satisfactionRate) {
@@ -34,16 +128,28 @@ public class Population {
         return null;
     }
 
+    /**
+     * Factions which can't be bribed (loyalists) lose satisfaction when any other faction is bribed
+     */
     public void factionsSubscribeToBribeEventExceptLoyalists() {
-        Faction loyalists = this.factionByName.get(Loyalists.class.getSimpleName());
-        for (Map.Entry<String, Faction> factionsSet : this.factionByName.entrySet()) {
-            Faction faction = factionsSet.getValue();
-            if (faction.getClass() != Loyalists.class) {
-                faction.events.subscribe("bribed", new BriberyListener(loyalists));
+        for(int loyalId = 0; loyalId < this.factions.length; loyalId += 1) {
+            if(this.factionTypes.isBribable(loyalId)) {
+                continue;
+            }
+            for(Faction faction : this.factions) {
+                if(faction.events != null) {
+                    faction.events.subscribe(EventType.BRIBED, new BriberyListener(this.factions[loyalId]));
+                }
             }
         }
     }
 
+    public void setOutput(Output output) {
+        for(Faction faction : this.factions) {
+            faction.setOutput(output);
+        }
+    }
+
     public Map<String, Faction> getFactionByName() {
         return this.factionByName;
     }
@@ -52,67 +158,132 @@ public class Population {
         return this.factionByName.get(name);
     }
 
-    public int getTotalPopulation() {
-        AtomicInteger population = new AtomicInteger();
-        for (Map.Entry<String, Faction> factionsSet : this.factionByName.entrySet()) {
-            int currentFactionPopulation = factionsSet.getValue().getNbSupporters();
-            population.addAndGet(currentFactionPopulation);
+    public int getNbSupporters(int id) {
+        return this.nbSupporters[id];
+    }
+
+    public int getSatisfactionRate(int id) {
+        return this.satisfactionRates[id];
+    }
+
+    private long getWeightedSatisfaction(int id) {
+        return (long) this.nbSupporters[id] * this.satisfactionRates[id];
+    }
+
+    /**
+     * Running totals, updated on every change of a faction instead of summed on every read
+     * @param nbSupportersVariation variation of the number of supporters of a faction
+     * @param weightedSatisfactionVariation variation of the satisfaction rate weighted by supporters of a faction
+     */
+    private void updateTotals(int nbSupportersVariation, long weightedSatisfactionVariation) {
+        this.totalPopulation += nbSupportersVariation;
+        this.totalWeightedSatisfaction += weightedSatisfactionVariation;
+    }
+
+    /**
+     * @param nbSupporters new number of supporters, a negative one means no supporter
+     */
+    private void setNbSupporters(int id, int nbSupporters) {
+        int newNbSupporters = Math.max(nbSupporters, 0);
+        updateTotals(newNbSupporters - this.nbSupporters[id], (long) (newNbSupporters - this.nbSupporters[id]) * this.satisfactionRates[id]);
+        this.nbSupporters[id] = newNbSupporters;
+    }
+
+    /**
+     * A faction without any satisfaction is against the republic, its satisfaction can't change anymore
+     * @param newRate new satisfaction rate, kept between 0 and 100
+     */
+    private void setSatisfactionRate(int id, int newRate) {
+        int satisfactionRate = this.satisfactionRates[id];
+        if(satisfactionRate == 0) {
+            if(newRate > 0) {
+                this.factions[id].getOutput().printf("Les %s sont contre votre République (insatisfaits), il n'est plus possible de changer leur taux de satisfaction.%n", this.factions[id].getName());
+            }
+            return;
         }
-        return population.get();
+        int newSatisfactionRate = Math.min(Math.max(newRate, 0), 100);
+        updateTotals(0, (long) this.nbSupporters[id] * (newSatisfactionRate - satisfactionRate));
+        this.satisfactionRates[id] = newSatisfactionRate;
+    }
+
+    public void updateNbSupportersBy(int id, int percentage) {
+        setNbSupporters(id, (int)(this.nbSupporters[id] * (1 + (double)percentage/100)));
+    }
+
+    public void updateSatisfactionRate(int id, int percentagePoint) {
+        setSatisfactionRate(id, this.satisfactionRates[id] + percentagePoint);
+    }
+
+    /**
+     * @param nbSupportersToEliminate the faction can't have less than 0 supporter
+     */
+    public void eliminateSupporters(int id, int nbSupportersToEliminate) {
+        setNbSupporters(id, this.nbSupporters[id] - nbSupportersToEliminate);
+    }
+
+    public boolean canBeBribed(int id) {
+        return this.satisfactionRates[id] > 0 && this.factionTypes.isBribable(id);
     }
 
+    public int getBribePrice(int id) {
+        return this.nbSupporters[id] * this.factionTypes.getBribePricePerSupporter(id);
+    }
+
+    public int getTotalPopulation() {
+        return this.totalPopulation;
+    }
+
+    /**
+     * @return sum of the factions satisfaction rates weighted by their number of supporters
+     */
     public double getTotalSatisfactionRate() {
-        double totalSatisfactionRate = 0;
-        for (Map.Entry<String, Faction> factionsSet : this.factionByName.entrySet()) {
-            Faction currentFaction = factionsSet.getValue();
-            double satisfactionRate = currentFaction.getSatisfactionRate();
-            double nbSupporters = currentFaction.getNbSupporters();
-            totalSatisfactionRate += nbSupporters * satisfactionRate;
-        }
-        return totalSatisfactionRate;
+        return this.totalWeightedSatisfaction;
     }
 
     public double getGlobalSatisfactionRate() {
-        if(getTotalPopulation() != 0) {
-            return getTotalSatisfactionRate() / getTotalPopulation();
+        if(this.totalPopulation != 0) {
+            return (double) this.totalWeightedSatisfaction / this.totalPopulation;
         }
         return 0;
     }
 
     public int getNbFactions() {
-        return this.factionByName.size();
+        return this.factions.length;
     }
 
     public void updateSatisfactionRateByFaction(int percentagePoint, String factionName) {
-        this. factionByName.get(factionName).updateSatisfactionRate(percentagePoint);
+        updateSatisfactionRate(getFactionId(factionName), percentagePoint);
     }
 
     public void updateNbSupportersByFaction(int percentage, String factionName) {
-        this.factionByName.get(factionName).updateNbSupportersBy(percentage);
+        updateNbSupportersBy(getFactionId(factionName), percentage);
     }
 
     public void updateSatisfactionRateOnAllFactions(int percentagePoint) {
-        for (Map.Entry<String, Faction> factionsSet : this.factionByName.entrySet()) {
-            factionsSet.getValue().updateSatisfactionRate(percentagePoint);
+        for(int id = 0; id < this.factions.length; id += 1) {
+            updateSatisfactionRate(id, percentagePoint);
         }
     }
 
     public void updateNbSupportersOnAllFactions(int percentage) {
-        for (Map.Entry<String, Faction> factionsSet : this.factionByName.entrySet()) {
-            factionsSet.getValue().updateNbSupportersBy(percentage);
+        for(int id = 0; id < this.factions.length; id += 1) {
+            updateNbSupportersBy(id, percentage);
         }
     }
 
+    /**
+     * Each eliminated supporter comes from a faction picked uniformly at random,
+     * drawn for all supporters at once as a multinomial over the factions
+     * @param nbSupportersToEliminate number of supporters who can't be fed
+     * @return if supporters have been eliminated
+     */
     public boolean eliminateSupportersUntilEnoughFood(int nbSupportersToEliminate) {
-        boolean hasEliminatedSupporters = false;
-        AtomicInteger countNbSupporters = new AtomicInteger(nbSupportersToEliminate);
-        while(countNbSupporters.get() > 0) {
-            Faction randomFaction = getRandomFaction();
-            randomFaction.eliminateASupporter();
-            countNbSupporters.decrementAndGet();
-            hasEliminatedSupporters = true;
-        }
+        boolean hasEliminatedSupporters = nbSupportersToEliminate > 0;
         if(hasEliminatedSupporters) {
+            BinomialDistribution.sampleUniformMultinomial(this.random, nbSupportersToEliminate, this.factions.length, this.drawnSupportersByFaction);
+            for(int id = 0; id < this.factions.length; id += 1) {
+                eliminateSupporters(id, this.drawnSupportersByFaction[id]);
+            }
             updateSatisfactionRateOnAllFactions(-2);
         }
         return hasEliminatedSupporters;
@@ -123,65 +294,68 @@ public class Population {
         return getTotalPopulation() - populationWhoCanBeFed;
     }
 
+    /**
+     * Each new supporter joins a faction picked uniformly at random,
+     * drawn for all supporters at once as a multinomial over the factions
+     * @return number of new supporters
+     */
     public int increasePopulationRandomly() {
         int increasePopulationPercentage = generateRandomNumber(1, 10);
         int nbSupportersToGenerate = (int)Math.round(getTotalPopulation() * ((double)increasePopulationPercentage / 100));
-        int nbSupportersGenerated = nbSupportersToGenerate;
-        while(nbSupportersToGenerate > 0) {
-            Faction randomFaction = getRandomFaction();
-            randomFaction.addSupporters(1);
-            nbSupportersToGenerate -= 1;
+        if(nbSupportersToGenerate > 0) {
+            BinomialDistribution.sampleUniformMultinomial(this.random, nbSupportersToGenerate, this.factions.length, this.drawnSupportersByFaction);
+            for(int id = 0; id < this.factions.length; id += 1) {
+                setNbSupporters(id, this.nbSupporters[id] + this.drawnSupportersByFaction[id]);
+            }
         }
-        return nbSupportersGenerated;
+        return nbSupportersToGenerate;
     }
 
     public Faction getRandomFaction() {
-        List<Faction> factionNames = new ArrayList<>(this.factionByName.values());
-        int randomIndex = generateRandomNumber(0, factionNames.size() - 1);
-        return factionNames.get(randomIndex);
+        return this.factions[generateRandomNumber(0, this.factions.length - 1)];
     }
 
     public int generateRandomNumber(int min, int max) {
-        Random randomGenerator = new Random();
-        return randomGenerator.nextInt(max - min + 1 ) + min;
+        return this.random.nextInt(max - min + 1 ) + min;
     }
 
-    public void displaySummary() {
+    public void displaySummary(Output output) {
+        if(!output.isEnabled()) {
+            return;
+        }
         StringBuilder populationSummary = new StringBuilder();
-        System.out.printf("Population :%n");
-        for (Map.Entry<String, Faction> factionsSet : factionByName.entrySet()) {
-            Faction faction = factionsSet.getValue();
+        output.printf("Population :%n");
+        for(Faction faction : this.factions) {
             populationSummary.append(faction.toString());
         }
         populationSummary.append(toString());
-        System.out.println(populationSummary);
+        output.println(populationSummary.toString());
     }
 
-    public void displayAvailableFactions() {
+    public void displayAvailableFactions(Output output) {
+        if(!output.isEnabled()) {
+            return;
+        }
         int nbCountFaction = 1;
-        System.out.println("Choisissez dans cette liste des factions :");
-        for (Faction faction : this.factionByName.values()) {
+        output.println("Choisissez dans cette liste des factions :");
+        for(Faction faction : this.factions) {
             String factionName = faction.getName();
             if(faction.canBeBribed()) {
-                System.out.printf("\t%d. Les %s => %d$%n", nbCountFaction, factionName, faction.getBribePrice());
+                output.printf("\t%d. Les %s => %d$%n", nbCountFaction, factionName, faction.getBribePrice());
             }
             else {
-                System.out.printf("\t%d. Les %s ne peuvent pas recevoir de pot de vin%n", nbCountFaction, factionName);
+                output.printf("\t%d. Les %s ne peuvent pas recevoir de pot de vin%n", nbCountFaction, factionName);
             }
             nbCountFaction += 1;
         }
     }
 
     public String getFactionNameByIndex(int playerChoice) {
-        int nbCountFaction = 0;
         int playerChoiceIndex = playerChoice - 1;
-        for (String factionName : this.factionByName.keySet()) {
-            if(playerChoiceIndex == nbCountFaction) {
-                return factionName;
-            }
-            nbCountFaction += 1;
+        if(playerChoiceIndex < 0 || playerChoiceIndex >= this.factions.length) {
+            return null;
         }
-        return null;
+        return this.factionTypes.getName(playerChoiceIndex);
     }
 
     public String toString() {
@@ -4,8 +4,4 @@ public class Religious extends Faction {
     public Religious(int nbSupporters, int satisfactionRate) {
         super(nbSupporters, satisfactionRate);
     }
-
-    public String getName() {
-        return "Religieux";
-    }
 }
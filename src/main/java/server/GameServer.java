@@ -0,0 +1,148 @@
+package server;
+
+import game.needs.GameParameters;
+import output.ConsoleOutput;
+import output.Output;
+import parser.ScenarioHeader;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts game sessions of clients connected on a local port, each session on its own thread :
+ * a virtual thread when the JVM has them (Java 21 and later), a pooled platform thread otherwise
+ * Scenarios are parsed once for all the sessions (ScenarioCache)
+ *
+ * Usage : GameServer [port]
+ */
+public class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 4242;
+    private static final int BACKLOG = 4096;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessionExecutor = newSessionExecutor();
+    private final Set<Socket> sessionSockets = ConcurrentHashMap.newKeySet();
+    private final Set<String> playerNames = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nbSessions = new AtomicLong();
+    private final List<ScenarioHeader> playableScenarios;
+    private final String scenarioListInstructions;
+    private final Thread acceptThread;
+
+    /**
+     * @param port local port to listen on, 0 for any free port
+     * @throws IOException port can't be listened on or scenarios can't be listed
+     */
+    public GameServer(int port) throws IOException {
+        try {
+            GameParameters gameParameters = new GameParameters();
+            this.playableScenarios = gameParameters.getPlayableScenarios();
+            this.scenarioListInstructions = gameParameters.getScenarioListInstructions(this.playableScenarios);
+        } catch (URISyntaxException ex) {
+            throw new IOException("Cannot list the scenarios.", ex);
+        }
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.acceptThread = new Thread(this::acceptSessions, "game-server");
+    }
+
+    public void start() {
+        this.acceptThread.start();
+    }
+
+    public int getPort() {
+        return this.serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return number of sessions started since the server started
+     */
+    public long getNbSessions() {
+        return this.nbSessions.get();
+    }
+
+    public int getNbActiveSessions() {
+        return this.sessionSockets.size();
+    }
+
+    List<ScenarioHeader> getPlayableScenarios() {
+        return this.playableScenarios;
+    }
+
+    String getScenarioListInstructions() {
+        return this.scenarioListInstructions;
+    }
+
+    private void acceptSessions() {
+        while(!this.serverSocket.isClosed()) {
+            try {
+                Socket socket = this.serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                this.sessionSockets.add(socket);
+                this.nbSessions.incrementAndGet();
+                this.sessionExecutor.execute(new GameSession(socket, this));
+            } catch (IOException ex) {
+                if(!this.serverSocket.isClosed()) {
+                    ex.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Player names are compared ignoring case, as save file names may be
+     * @return if no other session uses this name, it is then used by the caller until released
+     */
+    boolean claimPlayerName(String playerName) {
+        return this.playerNames.add(playerName.toLowerCase(Locale.ROOT));
+    }
+
+    void releasePlayerName(String playerName) {
+        this.playerNames.remove(playerName.toLowerCase(Locale.ROOT));
+    }
+
+    void endSession(Socket socket) {
+        this.sessionSockets.remove(socket);
+    }
+
+    /**
+     * Stops listening and closes every session, their games are abandoned
+     */
+    @Override
+    public void close() throws IOException {
+        this.serverSocket.close();
+        for(Socket socket : this.sessionSockets) {
+            socket.close();
+        }
+        this.sessionExecutor.shutdown();
+    }
+
+    /**
+     * The project is built for Java 15 : virtual threads are looked up at runtime
+     * @return executor running each session on a new virtual thread if possible, else on a cached platform thread
+     */
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Output output = new ConsoleOutput();
+        GameServer server = new GameServer(port);
+        server.start();
+        output.printf("Serveur El Presidente à l'écoute sur le port %d (%d scénarios)%n", server.getPort(), server.getPlayableScenarios().size());
+        output.flush();
+    }
+}
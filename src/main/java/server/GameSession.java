@@ -0,0 +1,125 @@
+package server;
+
+import exceptions.GameLoadingException;
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import game.Game;
+import game.SandboxGame;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameInputOptions;
+import game.needs.GameParameters;
+import game.players.SessionPlayer;
+import output.BufferedOutput;
+import output.Output;
+import parser.ScenarioHeader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Games of one client connected to the server, played one after the other on the thread of the session
+ * with the connection as input and output (see SessionPlayer for the protocol)
+ * A player name is used by one session at a time, so that sessions never share game saves
+ * A game which cannot be loaded ends its session only
+ */
+public class GameSession implements Runnable {
+    private final Socket socket;
+    private final GameServer server;
+
+    GameSession(Socket socket, GameServer server) {
+        this.socket = socket;
+        this.server = server;
+    }
+
+    @Override
+    public void run() {
+        String playerName = null;
+        try(Socket socket = this.socket) {
+            BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Output output = new BufferedOutput(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            SessionPlayer player = new SessionPlayer(input, output);
+            Game.displayIntroduction(output);
+            playerName = askFreePlayerName(player, output);
+            boolean wantsToPlayAgain = true;
+            while(wantsToPlayAgain) {
+                GameParameters gameParameters = askGameParameters(player, output, playerName);
+                if(gameParameters == null) {
+                    break;
+                }
+                Game game = newGame(gameParameters, playerName, player, output);
+                try {
+                    game.load(gameParameters);
+                } catch (GameLoadingException ex) {
+                    ex.printStackTrace();
+                    output.printf("%nLa partie n'a pas pu être chargée.%n");
+                    break;
+                }
+                game.launchGame();
+                if(game.hasPlayerQuit()) {
+                    break;
+                }
+                wantsToPlayAgain = player.wantsToPlayAgain();
+            }
+            output.println("Le jeu est terminé.");
+            output.flush();
+        } catch (SessionPlayer.SessionClosedException | IOException | UncheckedIOException ignored) {
+        } catch (MissingParsingKeysException | MissingEventsException ex) {
+            ex.printStackTrace();
+        } finally {
+            if(playerName != null) {
+                this.server.releasePlayerName(playerName);
+            }
+            this.server.endSession(this.socket);
+        }
+    }
+
+    /**
+     * @return player name claimed for this session, asked again while another session uses it
+     */
+    private String askFreePlayerName(SessionPlayer player, Output output) {
+        while(true) {
+            String playerName = player.askPlayerName();
+            if(this.server.claimPlayerName(playerName)) {
+                return playerName;
+            }
+            output.println("Ce pseudo est déjà utilisé par un autre joueur.");
+        }
+    }
+
+    /**
+     * @return game mode, difficulty and scenario chosen by the player, null if he quits
+     */
+    private GameParameters askGameParameters(SessionPlayer player, Output output, String playerName) {
+        output.printf("%nChoisissez votre mode de jeu :%n1. Bac à sable%n2. Scénario%n");
+        boolean isSandbox = player.askChoice(SessionPlayer.GAME_MODE, 1, 2) == 1;
+        output.printf("%nChoisissez votre difficulté de jeu :%n1. Facile%n2. Normal%n3. Dur%n");
+        GameDifficulty gameDifficulty = GameDifficulty.values()[player.askChoice(SessionPlayer.DIFFICULTY, 1, GameDifficulty.values().length) - 1];
+        if(isSandbox) {
+            GameParameters gameParameters = new GameParameters(playerName, gameDifficulty, SandboxGame.class.getSimpleName(), null);
+            gameParameters.setFilePath(gameParameters.sandboxFilePath);
+            return gameParameters;
+        }
+        List<ScenarioHeader> scenarios = this.server.getPlayableScenarios();
+        output.printf("%s", this.server.getScenarioListInstructions());
+        int scenarioChoice = player.askChoice(SessionPlayer.SCENARIO, GameInputOptions.QUIT, scenarios.size());
+        if(scenarioChoice == GameInputOptions.QUIT) {
+            return null;
+        }
+        return new GameParameters(playerName, gameDifficulty, ScenarioGame.class.getSimpleName(), scenarios.get(scenarioChoice - 1).getFilePath());
+    }
+
+    private Game newGame(GameParameters gameParameters, String playerName, SessionPlayer player, Output output) {
+        GameDifficulty gameDifficulty = gameParameters.getGameDifficulty();
+        if(gameParameters.isGameModeSandbox()) {
+            return new SandboxGame(gameDifficulty, playerName, player, output);
+        }
+        return new ScenarioGame(gameDifficulty, playerName, player, output);
+    }
+}
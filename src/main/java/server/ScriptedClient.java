@@ -0,0 +1,136 @@
+package server;
+
+import game.needs.GameInputOptions;
+import game.needs.GameRandom;
+import game.players.SessionPlayer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Client of the game server answering its prompts with a script, e.g. a bot for tests and load runs
+ * The latency of a turn is the time between an answer and the next prompt of the server
+ */
+public class ScriptedClient {
+    private final Script script;
+    private long nbAnswers;
+    private long totalLatencyNanos;
+    private long maxLatencyNanos;
+    private boolean hasServerEndedSession;
+
+    public ScriptedClient(Script script) {
+        this.script = script;
+    }
+
+    /**
+     * Answers the prompts of a session until the script or the server ends it
+     * @param port local port of the server
+     */
+    public void play(int port) throws IOException {
+        try(Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter output = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            long answeredAt = -1;
+            String line;
+            while((line = input.readLine()) != null) {
+                if(!line.startsWith(SessionPlayer.PROMPT_START) || !line.endsWith(SessionPlayer.PROMPT_END)) {
+                    continue;
+                }
+                if(answeredAt >= 0) {
+                    long latency = System.nanoTime() - answeredAt;
+                    this.totalLatencyNanos += latency;
+                    this.maxLatencyNanos = Math.max(this.maxLatencyNanos, latency);
+                }
+                String answer = answer(line.substring(SessionPlayer.PROMPT_START.length(), line.length() - SessionPlayer.PROMPT_END.length()));
+                if(answer == null) {
+                    return;
+                }
+                output.println(answer);
+                output.flush();
+                answeredAt = System.nanoTime();
+                this.nbAnswers += 1;
+            }
+            this.hasServerEndedSession = true;
+        }
+    }
+
+    private String answer(String prompt) {
+        int rangeStart = prompt.lastIndexOf(' ');
+        if(rangeStart < 0) {
+            return this.script.answer(prompt, 0, 0);
+        }
+        String range = prompt.substring(rangeStart + 1);
+        int rangeSeparator = range.indexOf('-');
+        int min = Integer.parseInt(range.substring(0, rangeSeparator));
+        int max = Integer.parseInt(range.substring(rangeSeparator + 1));
+        return this.script.answer(prompt.substring(0, rangeStart), min, max);
+    }
+
+    public long getNbAnswers() {
+        return this.nbAnswers;
+    }
+
+    public long getTotalLatencyNanos() {
+        return this.totalLatencyNanos;
+    }
+
+    public long getMaxLatencyNanos() {
+        return this.maxLatencyNanos;
+    }
+
+    /**
+     * @return if the server closed the session, rather than the script
+     */
+    public boolean hasServerEndedSession() {
+        return this.hasServerEndedSession;
+    }
+
+    /**
+     * @param playerName name given to the server
+     * @param gameMode 1 for the sandbox, 2 for a scenario (a random one)
+     * @param maxYears the bot quits after this number of years, as a RandomPlayer
+     * @return script taking random decisions for one game, then leaving
+     */
+    public static Script newBot(String playerName, int gameMode, long seed, int maxYears) {
+        GameRandom random = new GameRandom(seed);
+        int[] nbYears = new int[1];
+        return (kind, min, max) -> {
+            switch(kind) {
+                case SessionPlayer.NAME:
+                    return playerName;
+                case SessionPlayer.GAME_MODE:
+                    return Integer.toString(gameMode);
+                case SessionPlayer.SCENARIO:
+                    return Integer.toString(random.nextInt(max) + 1);
+                case SessionPlayer.USE_GAME_SAVE:
+                    return Integer.toString(GameInputOptions.NO);
+                case SessionPlayer.LAUNCH_GAME:
+                    return "1";
+                case SessionPlayer.CONTINUE_OR_QUIT:
+                    nbYears[0] += 1;
+                    return Integer.toString(nbYears[0] >= maxYears ? GameInputOptions.END_YEAR_QUIT : GameInputOptions.END_YEAR_CONTINUE);
+                case SessionPlayer.PLAY_AGAIN:
+                    return Integer.toString(GameInputOptions.END_GAME_CHOICE_STOP_PLAYING);
+                default:
+                    return Integer.toString(min + random.nextInt(max - min + 1));
+            }
+        };
+    }
+
+    public interface Script {
+        /**
+         * @param kind what is asked, one of the SessionPlayer prompt kinds
+         * @param min lowest possible answer
+         * @param max highest possible answer
+         * @return answer sent to the server, null to leave
+         */
+        String answer(String kind, int min, int max);
+    }
+}
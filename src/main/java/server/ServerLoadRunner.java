@@ -0,0 +1,71 @@
+package server;
+
+import output.ConsoleOutput;
+import output.Output;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Plays a lot of bot sessions on a local game server, a given number of them at the same time,
+ * to measure sessions per second per core and the latency of a turn
+ *
+ * Usage : ServerLoadRunner [nbSessions] [nbConcurrentSessions] [gameMode] [maxYears]
+ * e.g. ServerLoadRunner 100000 2000 2
+ */
+public class ServerLoadRunner {
+
+    public static void main(String[] args) throws Exception {
+        int nbSessions = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int nbConcurrentSessions = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int gameMode = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int maxYears = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        Output output = new ConsoleOutput();
+        try(GameServer server = new GameServer(0)) {
+            server.start();
+            ExecutorService clients = Executors.newFixedThreadPool(nbConcurrentSessions);
+            long start = System.nanoTime();
+            List<Future<ScriptedClient>> sessions = new ArrayList<>(nbSessions);
+            for(int session = 0; session < nbSessions; session += 1) {
+                ScriptedClient client = new ScriptedClient(ScriptedClient.newBot("bot" + session, gameMode, session, maxYears));
+                sessions.add(clients.submit(() -> play(client, server.getPort())));
+            }
+            long nbAnswers = 0;
+            long totalLatencyNanos = 0;
+            long maxLatencyNanos = 0;
+            int nbErrors = 0;
+            for(Future<ScriptedClient> session : sessions) {
+                ScriptedClient client = session.get();
+                if(client == null) {
+                    nbErrors += 1;
+                    continue;
+                }
+                nbAnswers += client.getNbAnswers();
+                totalLatencyNanos += client.getTotalLatencyNanos();
+                maxLatencyNanos = Math.max(maxLatencyNanos, client.getMaxLatencyNanos());
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            clients.shutdown();
+
+            int nbCores = Runtime.getRuntime().availableProcessors();
+            output.printf("%d sessions (%d simultanées, %d erreurs) en %.2f s%n", nbSessions, nbConcurrentSessions, nbErrors, seconds);
+            output.printf("%.0f sessions/s, %.0f sessions/s par cœur, %.0f tours/s%n", nbSessions / seconds, nbSessions / seconds / nbCores, nbAnswers / seconds);
+            output.printf("Latence d'un tour : moyenne %.3f ms, max %.3f ms%n", totalLatencyNanos / 1e6 / Math.max(nbAnswers, 1), maxLatencyNanos / 1e6);
+            output.flush();
+        }
+    }
+
+    private static ScriptedClient play(ScriptedClient client, int port) {
+        try {
+            client.play(port);
+            return client;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
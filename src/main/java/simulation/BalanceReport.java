@@ -0,0 +1,149 @@
+package simulation;
+
+import game.Game;
+import game.GameOutcome;
+import output.Output;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics of many games played on the same configuration file and difficulty
+ * Reports of games played in parallel are merged together
+ * Games which failed are counted by exception type, the first exception of each type is kept to be displayed
+ */
+public class BalanceReport {
+    private final int scoreBucketWidth;
+    private long nbGames = 0;
+    private long nbErrors = 0;
+    private final long[] nbGamesByOutcome = new long[GameOutcome.values().length];
+    private double scoreSum = 0;
+    private double scoreSquaresSum = 0;
+    private double minScore = Double.POSITIVE_INFINITY;
+    private double maxScore = Double.NEGATIVE_INFINITY;
+    private final Map<Long, Long> nbGamesByScoreBucket = new TreeMap<>();
+    private final Map<Integer, Long> nbGamesBySurvivalYears = new TreeMap<>();
+    private long survivalYearsSum = 0;
+    private final Map<String, Long> nbErrorsByType = new TreeMap<>();
+    private final Map<String, Exception> firstErrorByType = new TreeMap<>();
+
+    public BalanceReport(int scoreBucketWidth) {
+        this.scoreBucketWidth = scoreBucketWidth;
+    }
+
+    public void addGame(Game game) {
+        double score = game.getScore();
+        this.nbGames += 1;
+        this.nbGamesByOutcome[game.getOutcome().ordinal()] += 1;
+        this.scoreSum += score;
+        this.scoreSquaresSum += score * score;
+        this.minScore = Math.min(this.minScore, score);
+        this.maxScore = Math.max(this.maxScore, score);
+        this.nbGamesByScoreBucket.merge((long)Math.floor(score / this.scoreBucketWidth), 1L, Long::sum);
+        this.nbGamesBySurvivalYears.merge(game.getYear(), 1L, Long::sum);
+        this.survivalYearsSum += game.getYear();
+    }
+
+    /**
+     * @param error exception which stopped a game
+     */
+    public void addError(Exception error) {
+        this.nbErrors += 1;
+        String type = error.getClass().getName();
+        this.nbErrorsByType.merge(type, 1L, Long::sum);
+        this.firstErrorByType.putIfAbsent(type, error);
+    }
+
+    public void merge(BalanceReport other) {
+        this.nbGames += other.nbGames;
+        this.nbErrors += other.nbErrors;
+        for(int outcome = 0; outcome < this.nbGamesByOutcome.length; outcome += 1) {
+            this.nbGamesByOutcome[outcome] += other.nbGamesByOutcome[outcome];
+        }
+        this.scoreSum += other.scoreSum;
+        this.scoreSquaresSum += other.scoreSquaresSum;
+        this.minScore = Math.min(this.minScore, other.minScore);
+        this.maxScore = Math.max(this.maxScore, other.maxScore);
+        other.nbGamesByScoreBucket.forEach((bucket, nbGames) -> this.nbGamesByScoreBucket.merge(bucket, nbGames, Long::sum));
+        other.nbGamesBySurvivalYears.forEach((years, nbGames) -> this.nbGamesBySurvivalYears.merge(years, nbGames, Long::sum));
+        this.survivalYearsSum += other.survivalYearsSum;
+        other.nbErrorsByType.forEach((type, nbErrors) -> this.nbErrorsByType.merge(type, nbErrors, Long::sum));
+        other.firstErrorByType.forEach(this.firstErrorByType::putIfAbsent);
+    }
+
+    public long getNbGames() {
+        return this.nbGames;
+    }
+
+    public long getNbErrors() {
+        return this.nbErrors;
+    }
+
+    /**
+     * @return number of failed games by exception class name
+     */
+    public Map<String, Long> getNbErrorsByType() {
+        return Collections.unmodifiableMap(this.nbErrorsByType);
+    }
+
+    /**
+     * @return first exception of each exception class name
+     */
+    public Map<String, Exception> getFirstErrorByType() {
+        return Collections.unmodifiableMap(this.firstErrorByType);
+    }
+
+    public long getNbGames(GameOutcome outcome) {
+        return this.nbGamesByOutcome[outcome.ordinal()];
+    }
+
+    public double getWinRate() {
+        return rate(getNbGames(GameOutcome.WON));
+    }
+
+    public double getMeanScore() {
+        return this.nbGames == 0 ? 0 : this.scoreSum / this.nbGames;
+    }
+
+    public double getScoreStandardDeviation() {
+        if(this.nbGames == 0) {
+            return 0;
+        }
+        double mean = getMeanScore();
+        return Math.sqrt(Math.max(this.scoreSquaresSum / this.nbGames - mean * mean, 0));
+    }
+
+    public double getMeanSurvivalYears() {
+        return this.nbGames == 0 ? 0 : (double)this.survivalYearsSum / this.nbGames;
+    }
+
+    private double rate(long count) {
+        return this.nbGames == 0 ? 0 : 100.0 * count / this.nbGames;
+    }
+
+    public void display(Output output) {
+        output.printf("%nParties jouées : %d (erreurs : %d)%n", this.nbGames, this.nbErrors);
+        output.printf("Taux de victoire : %.2f%%%n", getWinRate());
+        output.printf("%nFin de partie :%n");
+        for(GameOutcome outcome : GameOutcome.values()) {
+            output.printf("\t%s : %d (%.2f%%)%n", outcome.name(), getNbGames(outcome), rate(getNbGames(outcome)));
+        }
+        output.printf("%nScore : moyenne %.2f | écart-type %.2f | min %.2f | max %.2f%n", getMeanScore(), getScoreStandardDeviation(), this.minScore, this.maxScore);
+        for(Map.Entry<Long, Long> bucket : this.nbGamesByScoreBucket.entrySet()) {
+            long bucketStart = bucket.getKey() * this.scoreBucketWidth;
+            output.printf("\t[%d ; %d[ : %d (%.2f%%)%n", bucketStart, bucketStart + this.scoreBucketWidth, bucket.getValue(), rate(bucket.getValue()));
+        }
+        output.printf("%nAnnées de survie : moyenne %.2f%n", getMeanSurvivalYears());
+        for(Map.Entry<Integer, Long> years : this.nbGamesBySurvivalYears.entrySet()) {
+            output.printf("\t%d an(s) : %d (%.2f%%)%n", years.getKey(), years.getValue(), rate(years.getValue()));
+        }
+        for(Map.Entry<String, Exception> error : this.firstErrorByType.entrySet()) {
+            StringWriter stackTrace = new StringWriter();
+            error.getValue().printStackTrace(new PrintWriter(stackTrace));
+            output.printf("%nErreur %s : %d partie(s), première :%n%s", error.getKey(), this.nbErrorsByType.get(error.getKey()), stackTrace);
+        }
+    }
+}
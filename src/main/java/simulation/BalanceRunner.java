@@ -0,0 +1,106 @@
+package simulation;
+
+import game.Game;
+import game.SandboxGame;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import game.saving.NoGameSaver;
+import output.ConsoleOutput;
+import output.Output;
+import output.SilentOutput;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays a lot of complete headless games with random players on every core
+ * to measure how hard a scenario (or the sandbox) is for a given difficulty
+ * Games never touch the disk for game saves (NoGameSaver) : a save left by a player named like the bot changes nothing
+ *
+ * Usage : BalanceRunner file [difficulty|ALL] [nbGames] [seed] [maxYears]
+ * e.g. BalanceRunner scenarios/attackOnTitans_remastered.json ALL 1000000
+ */
+public class BalanceRunner {
+    public static final String botName = "bot";
+    public static final int DEFAULT_MAX_YEARS = 50;
+    public static final int SCORE_BUCKET_WIDTH = 250;
+
+    private final GameParameters gameParameters;
+    private final boolean isSandbox;
+    private final int maxYears;
+    private final Output silentOutput = new SilentOutput();
+
+    public BalanceRunner(String filePath, GameDifficulty gameDifficulty, int maxYears) {
+        this.isSandbox = filePath.startsWith("sandbox/");
+        String gameModeClass = this.isSandbox ? SandboxGame.class.getSimpleName() : ScenarioGame.class.getSimpleName();
+        this.gameParameters = new GameParameters(botName, gameDifficulty, gameModeClass, filePath);
+        this.maxYears = maxYears;
+    }
+
+    /**
+     * @param nbGames number of games to play
+     * @param seed every game gets its own random stream split from this seed
+     * @param pool where games are played
+     * @return statistics of all games
+     */
+    public BalanceReport run(long nbGames, long seed, ForkJoinPool pool) {
+        return pool.invoke(new BalanceTask(this, nbGames, new GameRandom(seed)));
+    }
+
+    public BalanceReport newReport() {
+        return new BalanceReport(SCORE_BUCKET_WIDTH);
+    }
+
+    public Game newGame(long seed) {
+        GameDifficulty gameDifficulty = this.gameParameters.getGameDifficulty();
+        GameRandom random = new GameRandom(seed);
+        RandomPlayer player = new RandomPlayer(random.split(), this.maxYears);
+        Game game;
+        if(this.isSandbox) {
+            game = new SandboxGame(gameDifficulty, botName, player, this.silentOutput, random);
+        }
+        else {
+            game = new ScenarioGame(gameDifficulty, botName, player, this.silentOutput, random);
+        }
+        game.setGameSaver(new NoGameSaver(game));
+        return game;
+    }
+
+    public void playGame(long seed, BalanceReport report) {
+        Game game = newGame(seed);
+        try {
+            game.load(this.gameParameters);
+            game.launchGame();
+            report.addGame(game);
+        } catch (Exception ex) {
+            report.addError(ex);
+        }
+    }
+
+    public static void main(String[] args) {
+        if(args.length == 0) {
+            System.out.println("Usage : BalanceRunner fichier [EASY|NORMAL|HARD|ALL] [nbParties] [graine] [annéesMax]");
+            return;
+        }
+        String filePath = args[0];
+        String difficulty = args.length > 1 ? args[1].toUpperCase() : "ALL";
+        long nbGames = args.length > 2 ? Long.parseLong(args[2]) : 100000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        int maxYears = args.length > 4 ? Integer.parseInt(args[4]) : DEFAULT_MAX_YEARS;
+
+        Output output = new ConsoleOutput();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        GameDifficulty[] gameDifficulties = difficulty.equals("ALL") ? GameDifficulty.values() : new GameDifficulty[] { GameDifficulty.valueOf(difficulty) };
+        for(GameDifficulty gameDifficulty : gameDifficulties) {
+            long start = System.nanoTime();
+            BalanceReport report = new BalanceRunner(filePath, gameDifficulty, maxYears).run(nbGames, seed, pool);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            output.printf("%n===== %s | difficulté %s | graine %d =====%n", filePath, gameDifficulty.toString(), seed);
+            report.display(output);
+            output.printf("%n%.2f s (%.0f parties/s, %d threads)%n", seconds, nbGames / seconds, pool.getParallelism());
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package simulation;
+
+import game.needs.GameRandom;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a range of games, splitting it in halves (and its random stream with it) until it is small enough
+ * Splitting is deterministic, so a given seed always gives the same games whatever the number of threads
+ */
+public class BalanceTask extends RecursiveTask<BalanceReport> {
+    public static final long NB_GAMES_PER_TASK = 256;
+
+    private final BalanceRunner runner;
+    private final long nbGames;
+    private final GameRandom random;
+
+    public BalanceTask(BalanceRunner runner, long nbGames, GameRandom random) {
+        this.runner = runner;
+        this.nbGames = nbGames;
+        this.random = random;
+    }
+
+    @Override
+    protected BalanceReport compute() {
+        if(this.nbGames <= NB_GAMES_PER_TASK) {
+            return playGames();
+        }
+        long half = this.nbGames / 2;
+        BalanceTask firstHalf = new BalanceTask(this.runner, half, this.random.split());
+        BalanceTask secondHalf = new BalanceTask(this.runner, this.nbGames - half, this.random);
+        firstHalf.fork();
+        BalanceReport report = secondHalf.compute();
+        report.merge(firstHalf.join());
+        return report;
+    }
+
+    private BalanceReport playGames() {
+        BalanceReport report = this.runner.newReport();
+        for(long gameCount = 0; gameCount < this.nbGames; gameCount += 1) {
+            this.runner.playGame(this.random.nextLong(), report);
+        }
+        return report;
+    }
+}
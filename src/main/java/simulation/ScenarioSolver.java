@@ -0,0 +1,319 @@
+package simulation;
+
+import exceptions.MissingEventsException;
+import game.Game;
+import game.GameOutcome;
+import game.GameSnapshot;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameInputOptions;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.needs.GameRules;
+import game.players.Player;
+import game.players.RandomPlayer;
+import output.ConsoleOutput;
+import output.Output;
+import output.SilentOutput;
+import republic.factions.FactionTypes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Explores the decision sequences of a scenario game to find the best final score and if the game can be won
+ *
+ * Decisions are the choices of the events and, when a year ends, a year end plan : nothing, one bribe,
+ * buying the food the population needs, or both (the bribe being chosen among the factions which can be bribed)
+ * Repeated bribes and other food purchases are not explored : a game found not winnable may still be won with them
+ * Random draws (related events placement, famine and growth) come from the game generator, whose state is part
+ * of the game state : a game is solved for its seed
+ *
+ * Each thread steps its own fork of the game from state to state (restore, then play until the next decision).
+ * States are hashed (Zobrist) into a bounded transposition table shared by the threads, so a state reached
+ * by several decision sequences is solved once. The first decisions are explored in parallel
+ *
+ * Usage : ScenarioSolver file [difficulty|ALL] [seed] [maxNodes]
+ * e.g. ScenarioSolver scenarios/attackOnTitans_remastered.json ALL 42 1000000
+ */
+public class ScenarioSolver {
+    public static final int DEFAULT_TABLE_SIZE = 1 << 20;
+    public static final long DEFAULT_MAX_NODES = 1_000_000;
+    public static final int PARALLEL_DEPTH = 3;
+    private static final int BUY_FOOD = -1;
+
+    private final Game game;
+    private final GameSnapshot startSnapshot;
+    private final int[][] yearEndPlans;
+    private final TranspositionTable table;
+    private final StateHasher hasher = new StateHasher(0);
+    private final long maxNodes;
+    private final AtomicLong nbNodes = new AtomicLong();
+    private final LongAdder nbTableHits = new LongAdder();
+    private final ThreadLocal<Stepper> steppers = ThreadLocal.withInitial(Stepper::new);
+    private final Output silentOutput = new SilentOutput();
+
+    /**
+     * @param game scenario game loaded and not launched yet
+     * @param tableSize maximum number of states in the transposition table
+     * @param maxNodes maximum number of states explored, the solution is incomplete beyond
+     */
+    public ScenarioSolver(Game game, int tableSize, long maxNodes) {
+        this.game = game;
+        this.startSnapshot = game.snapshot();
+        this.yearEndPlans = newYearEndPlans(this.startSnapshot.getFactionTypes());
+        this.table = new TranspositionTable(tableSize);
+        this.maxNodes = maxNodes;
+    }
+
+    private static int[][] newYearEndPlans(FactionTypes factionTypes) {
+        List<int[]> yearEndPlans = new ArrayList<>();
+        yearEndPlans.add(new int[0]);
+        yearEndPlans.add(new int[] { BUY_FOOD });
+        for(int factionId = 0; factionId < factionTypes.count(); factionId += 1) {
+            if(factionTypes.isBribable(factionId)) {
+                yearEndPlans.add(new int[] { factionId });
+                yearEndPlans.add(new int[] { factionId, BUY_FOOD });
+            }
+        }
+        return yearEndPlans.toArray(new int[0][]);
+    }
+
+    public long getNbNodes() {
+        return this.nbNodes.get();
+    }
+
+    public long getNbTableHits() {
+        return this.nbTableHits.sum();
+    }
+
+    /**
+     * @param pool threads of the search
+     * @return best score and if a win was found, from its start (see SolverResult)
+     * @throws MissingEventsException the scenario cannot be played
+     */
+    public SolverResult solve(ForkJoinPool pool) throws MissingEventsException {
+        Step start = this.steppers.get().start();
+        if(start.result != null) {
+            return start.result;
+        }
+        return pool.invoke(new SolveTask(start.snapshot, 0));
+    }
+
+    private SolverResult solve(GameSnapshot state, int depth) {
+        if(this.nbNodes.incrementAndGet() > this.maxNodes) {
+            return SolverResult.OUT_OF_BUDGET;
+        }
+        long key = this.hasher.hash(state);
+        SolverResult result = this.table.get(key);
+        if(result != null) {
+            this.nbTableHits.increment();
+            return result;
+        }
+        result = depth < PARALLEL_DEPTH ? solveInParallel(state, depth) : solveInSequence(state, depth);
+        if(result.isComplete()) {
+            this.table.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Steps every decision at once, then solves the reached states in parallel
+     */
+    private SolverResult solveInParallel(GameSnapshot state, int depth) {
+        SolverResult result = SolverResult.NO_DECISION;
+        List<SolveTask> tasks = new ArrayList<>();
+        Stepper stepper = this.steppers.get();
+        for(int choice = 1; choice <= state.getCurrentEvent().getNbChoices(); choice += 1) {
+            for(int[] yearEndPlan : this.yearEndPlans) {
+                Step step = stepper.step(state, choice, yearEndPlan);
+                if(step.result != null) {
+                    result = result.max(step.result);
+                }
+                else {
+                    tasks.add(new SolveTask(step.snapshot, depth + 1));
+                }
+                if(!step.hasUsedYearEndPlan) {
+                    break;
+                }
+            }
+        }
+        for(SolveTask task : ForkJoinTask.invokeAll(tasks)) {
+            result = result.max(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * Depth first, a decision is stepped only when the previous one is solved
+     */
+    private SolverResult solveInSequence(GameSnapshot state, int depth) {
+        SolverResult result = SolverResult.NO_DECISION;
+        for(int choice = 1; choice <= state.getCurrentEvent().getNbChoices(); choice += 1) {
+            for(int[] yearEndPlan : this.yearEndPlans) {
+                Step step = this.steppers.get().step(state, choice, yearEndPlan);
+                result = result.max(step.result != null ? step.result : solve(step.snapshot, depth + 1));
+                if(!step.hasUsedYearEndPlan) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private class SolveTask extends RecursiveTask<SolverResult> {
+        private final GameSnapshot state;
+        private final int depth;
+
+        private SolveTask(GameSnapshot state, int depth) {
+            this.state = state;
+            this.depth = depth;
+        }
+
+        @Override
+        protected SolverResult compute() {
+            return solve(this.state, this.depth);
+        }
+    }
+
+    /**
+     * State reached by a decision : the next decision state, or the solution of the finished game
+     */
+    private static class Step {
+        private final GameSnapshot snapshot;
+        private final SolverResult result;
+        private final boolean hasUsedYearEndPlan;
+
+        private Step(GameSnapshot snapshot, SolverResult result, boolean hasUsedYearEndPlan) {
+            this.snapshot = snapshot;
+            this.result = result;
+            this.hasUsedYearEndPlan = hasUsedYearEndPlan;
+        }
+    }
+
+    /**
+     * Fork of the game of a thread, and its player : it plays the year end plan it is given
+     * and stops the game at the next event choice
+     */
+    private class Stepper implements Player {
+        private final Game fork = game.fork(startSnapshot, this, silentOutput);
+        private int[] yearEndPlan;
+        private int yearEndAction;
+        private boolean hasUsedYearEndPlan;
+
+        private Step start() throws MissingEventsException {
+            this.fork.restore(startSnapshot);
+            this.yearEndPlan = yearEndPlans[0];
+            this.hasUsedYearEndPlan = false;
+            try {
+                this.fork.launchGame();
+            } catch (DecisionReachedException ex) {
+                return new Step(this.fork.snapshot(), null, this.hasUsedYearEndPlan);
+            }
+            return new Step(null, getResult(), this.hasUsedYearEndPlan);
+        }
+
+        private Step step(GameSnapshot state, int choice, int[] yearEndPlan) {
+            this.fork.restore(state);
+            this.yearEndPlan = yearEndPlan;
+            this.hasUsedYearEndPlan = false;
+            try {
+                this.fork.playFromChoice(choice);
+            } catch (DecisionReachedException ex) {
+                return new Step(this.fork.snapshot(), null, this.hasUsedYearEndPlan);
+            }
+            return new Step(null, getResult(), this.hasUsedYearEndPlan);
+        }
+
+        private SolverResult getResult() {
+            return new SolverResult(this.fork.getScore(), this.fork.getOutcome() == GameOutcome.WON, true);
+        }
+
+        @Override
+        public boolean wantsToUseGameSave() {
+            return false;
+        }
+
+        @Override
+        public boolean wantsToQuitGame() {
+            return false;
+        }
+
+        @Override
+        public int chooseEventSolution(Game game, int nbChoices) {
+            throw new DecisionReachedException();
+        }
+
+        @Override
+        public int chooseEndYearOption(Game game, int nbChoicesDone) {
+            this.hasUsedYearEndPlan = true;
+            this.yearEndAction = nbChoicesDone;
+            if(nbChoicesDone >= this.yearEndPlan.length) {
+                return GameInputOptions.YEAR_END_DO_NOTHING_CHOICE;
+            }
+            return this.yearEndPlan[nbChoicesDone] == BUY_FOOD ? GameInputOptions.YEAR_END_BUY_FOOD_CHOICE : GameInputOptions.YEAR_END_BRIBE_CHOICE;
+        }
+
+        @Override
+        public int chooseFactionToBribe(Game game, int nbFactions) {
+            return this.yearEndPlan[this.yearEndAction] + 1;
+        }
+
+        /**
+         * Buys the food the population needs, as much as the money allows
+         */
+        @Override
+        public int chooseFoodUnitsToBuy(Game game, int foodUnitPossibleToBuy) {
+            int neededFoodUnits = game.getRepublic().getTotalPopulation() * GameRules.NEEDED_FOOD_PER_CITIZEN - game.getRepublic().getFoodUnits();
+            return Math.max(Math.min(neededFoodUnits, foodUnitPossibleToBuy), 0);
+        }
+
+        @Override
+        public int chooseContinueOrSaveAndOrQuit(Game game) {
+            return GameInputOptions.END_YEAR_CONTINUE;
+        }
+
+        @Override
+        public void pressAnyKeyToContinue() {}
+    }
+
+    private static class DecisionReachedException extends RuntimeException {
+        private DecisionReachedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if(args.length == 0) {
+            System.out.println("Usage : ScenarioSolver fichier [EASY|NORMAL|HARD|ALL] [graine] [nœudsMax]");
+            return;
+        }
+        String filePath = args[0];
+        String difficulty = args.length > 1 ? args[1].toUpperCase() : "ALL";
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        long maxNodes = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_MAX_NODES;
+
+        Output output = new ConsoleOutput();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        GameDifficulty[] gameDifficulties = difficulty.equals("ALL") ? GameDifficulty.values() : new GameDifficulty[] { GameDifficulty.valueOf(difficulty) };
+        for(GameDifficulty gameDifficulty : gameDifficulties) {
+            long start = System.nanoTime();
+            Game game = new ScenarioGame(gameDifficulty, BalanceRunner.botName, new RandomPlayer(seed, 0), new SilentOutput(), new GameRandom(seed));
+            game.load(new GameParameters(BalanceRunner.botName, gameDifficulty, ScenarioGame.class.getSimpleName(), filePath));
+            ScenarioSolver solver = new ScenarioSolver(game, DEFAULT_TABLE_SIZE, maxNodes);
+            SolverResult result = solver.solve(pool);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            output.printf("%n===== %s | difficulté %s | graine %d =====%n", filePath, gameDifficulty.toString(), seed);
+            output.printf("Meilleur score : %.2f%n", result.getBestScore());
+            output.printf("Gagnable avec au plus un pot-de-vin et un achat de nourriture par an : %s%n", result.isWinnable() ? "oui" : "non");
+            output.printf("Exploration %s : %d états, %d trouvés dans la table%n", result.isComplete() ? "complète" : "incomplète (budget atteint)", solver.getNbNodes(), solver.getNbTableHits());
+            output.printf("%.2f s (%d threads)%n", seconds, pool.getParallelism());
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package simulation;
+
+/**
+ * Solution of a game state : best final score reachable from it and if a win was found
+ * Only the year end plans of the solver are explored, so both are lower bounds of what a player could do
+ */
+public class SolverResult {
+    static final SolverResult NO_DECISION = new SolverResult(Double.NEGATIVE_INFINITY, false, true);
+    static final SolverResult OUT_OF_BUDGET = new SolverResult(Double.NEGATIVE_INFINITY, false, false);
+
+    private final double bestScore;
+    private final boolean isWinnable;
+    private final boolean isComplete;
+
+    SolverResult(double bestScore, boolean isWinnable, boolean isComplete) {
+        this.bestScore = bestScore;
+        this.isWinnable = isWinnable;
+        this.isComplete = isComplete;
+    }
+
+    public double getBestScore() {
+        return this.bestScore;
+    }
+
+    /**
+     * @return if a winning decision sequence was found among the explored ones (year end plans of at most one bribe
+     *         and one food purchase), false doesn't prove that the game cannot be won with other year end options
+     */
+    public boolean isWinnable() {
+        return this.isWinnable;
+    }
+
+    /**
+     * @return if every decision sequence was explored, else the node budget ran out and the result is a lower bound
+     */
+    public boolean isComplete() {
+        return this.isComplete;
+    }
+
+    /**
+     * @return best of this solution and another one of a sibling decision
+     */
+    SolverResult max(SolverResult result) {
+        return new SolverResult(Math.max(this.bestScore, result.bestScore), this.isWinnable || result.isWinnable, this.isComplete && result.isComplete);
+    }
+}
@@ -0,0 +1,85 @@
+package simulation;
+
+import game.GameSnapshot;
+import gameplay.Event;
+import gameplay.Season;
+
+/**
+ * Zobrist hashing of game states : the hash is the XOR of one key by (feature, value) pair
+ * Values being unbounded (money, score, random state...), the key of a pair is derived by mixing a random key
+ * of the feature with the value instead of being read in a table
+ * Events of the seasons are hashed from the current year only, earlier events being the same for every state
+ * reached from the same game
+ * Events are hashed by their ID, unique in their scenario and the same at each run
+ */
+class StateHasher {
+    private static final int EVENT_COUNT = 0;
+    private static final int YEAR = 1;
+    private static final int CURRENT_SEASON = 2;
+    private static final int CURRENT_EVENT = 3;
+    private static final int SCORE = 4;
+    private static final int FOOD_UNITS = 5;
+    private static final int MONEY = 6;
+    private static final int FARM_RATE = 7;
+    private static final int INDUSTRY_RATE = 8;
+    private static final int RANDOM_STATE = 9;
+    private static final int NB_SUPPORTERS = 10;
+    private static final int SATISFACTION_RATE = 11;
+    private static final int EVENT_SLOT = 12;
+    private static final int NB_FEATURES = 13;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long[] featureKeys = new long[NB_FEATURES];
+
+    StateHasher(long seed) {
+        long key = seed;
+        for(int feature = 0; feature < NB_FEATURES; feature += 1) {
+            key += GOLDEN_GAMMA;
+            this.featureKeys[feature] = mix64(key);
+        }
+    }
+
+    long hash(GameSnapshot snapshot) {
+        long hash = key(EVENT_COUNT, 0, snapshot.getEventCount());
+        hash ^= key(YEAR, 0, snapshot.getYear());
+        hash ^= key(CURRENT_SEASON, 0, snapshot.getCurrentSeason().ordinal());
+        hash ^= key(CURRENT_EVENT, 0, eventId(snapshot.getCurrentEvent()));
+        hash ^= key(SCORE, 0, Double.doubleToLongBits(snapshot.getScore()));
+        hash ^= key(FOOD_UNITS, 0, snapshot.getFoodUnits());
+        hash ^= key(MONEY, 0, Double.doubleToLongBits(snapshot.getMoney()));
+        hash ^= key(FARM_RATE, 0, snapshot.getFarmRate());
+        hash ^= key(INDUSTRY_RATE, 0, snapshot.getIndustryRate());
+        hash ^= key(RANDOM_STATE, 0, snapshot.getRandomState());
+        for(int factionId = 0; factionId < snapshot.getFactionTypes().count(); factionId += 1) {
+            hash ^= key(NB_SUPPORTERS, factionId, snapshot.getNbSupporters(factionId));
+            hash ^= key(SATISFACTION_RATE, factionId, snapshot.getSatisfactionRate(factionId));
+        }
+        for(Season season : Season.values()) {
+            for(int index = snapshot.getYear(); index < snapshot.getNbEvents(season); index += 1) {
+                int slot = index * Season.values().length + season.ordinal();
+                hash ^= key(EVENT_SLOT, slot, eventId(snapshot.getEvent(season, index)));
+            }
+        }
+        return hash;
+    }
+
+    private static long eventId(Event event) {
+        return event == null ? Long.MIN_VALUE : event.getId();
+    }
+
+    /**
+     * @param feature feature of the state
+     * @param index index of the feature (faction ID, event slot), 0 for a single feature
+     * @param value value of the feature
+     * @return key of the (feature, index, value) triple
+     */
+    private long key(int feature, int index, long value) {
+        return mix64(this.featureKeys[feature] + index * GOLDEN_GAMMA ^ mix64(value));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,54 @@
+package simulation;
+
+/**
+ * Bounded table of solved game states shared by the solver threads, a new entry replaces the one in its slot
+ * Entries are written without lock : the key of an entry is stored XORed with its data,
+ * so an entry torn by concurrent writes doesn't match its key anymore and is read as missing
+ */
+class TranspositionTable {
+    private static final int ENTRY_LENGTH = 3;
+
+    private final long[] entries;
+    private final int mask;
+
+    /**
+     * @param nbEntries maximum number of entries, rounded up to a power of two
+     */
+    TranspositionTable(int nbEntries) {
+        int capacity = Integer.highestOneBit(Math.max(nbEntries - 1, 1)) << 1;
+        this.entries = new long[capacity * ENTRY_LENGTH];
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * @param key hash of a game state
+     * @return solution of the state, null if it isn't in the table
+     */
+    SolverResult get(long key) {
+        int index = ((int) (key ^ (key >>> 32)) & this.mask) * ENTRY_LENGTH;
+        long checkedKey = this.entries[index];
+        long score = this.entries[index + 1];
+        long flags = this.entries[index + 2];
+        if((checkedKey ^ score ^ flags) != key || flags == 0) {
+            return null;
+        }
+        return new SolverResult(Double.longBitsToDouble(score), (flags & 2) != 0, true);
+    }
+
+    /**
+     * @param key hash of a game state
+     * @param result complete solution of the state
+     */
+    void put(long key, SolverResult result) {
+        int index = ((int) (key ^ (key >>> 32)) & this.mask) * ENTRY_LENGTH;
+        long score = Double.doubleToLongBits(result.getBestScore());
+        long flags = 1 | (result.isWinnable() ? 2 : 0);
+        this.entries[index + 1] = score;
+        this.entries[index + 2] = flags;
+        this.entries[index] = key ^ score ^ flags;
+    }
+}
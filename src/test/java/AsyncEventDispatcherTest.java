@@ -0,0 +1,56 @@
+import junit.framework.TestCase;
+import publisher.AsyncEventDispatcher;
+import publisher.EventManager;
+import publisher.EventType;
+import publisher.OverflowPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class AsyncEventDispatcherTest extends TestCase {
+
+    public void test_blocking_dispatcher_delivers_every_event_in_order() throws Exception {
+        List<Integer> variations = Collections.synchronizedList(new ArrayList<>());
+        EventManager events = new EventManager(EventType.SATISFACTION_INCREASED);
+        try (AsyncEventDispatcher dispatcher = AsyncEventDispatcher.newIntDispatcher((eventType, variation) -> {
+            variations.add(variation);
+            Thread.yield();
+        }, 4, OverflowPolicy.BLOCK)) {
+            dispatcher.subscribeTo(events, EventType.SATISFACTION_INCREASED);
+            for(int variation = 0; variation < 1000; variation += 1) {
+                events.notify(EventType.SATISFACTION_INCREASED, variation);
+            }
+            dispatcher.flush();
+            assertEquals(0, dispatcher.getNbDroppedEvents());
+        }
+        assertEquals(1000, variations.size());
+        for(int variation = 0; variation < 1000; variation += 1) {
+            assertEquals(variation, (int) variations.get(variation));
+        }
+    }
+
+    public void test_dropping_dispatcher_never_blocks_the_publisher() throws Exception {
+        CountDownLatch slowListener = new CountDownLatch(1);
+        List<Object> bribedFactions = Collections.synchronizedList(new ArrayList<>());
+        try (AsyncEventDispatcher dispatcher = AsyncEventDispatcher.newDispatcher((eventName, faction) -> {
+            try {
+                slowListener.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            bribedFactions.add(faction);
+        }, 8, OverflowPolicy.DROP)) {
+            EventManager events = new EventManager(EventType.BRIBED);
+            dispatcher.subscribeTo(events, EventType.BRIBED);
+            for(int bribe = 0; bribe < 100; bribe += 1) {
+                events.notify(EventType.BRIBED, "faction " + bribe);
+            }
+            slowListener.countDown();
+            dispatcher.flush();
+            assertTrue(dispatcher.getNbDroppedEvents() > 0);
+            assertEquals(100, bribedFactions.size() + dispatcher.getNbDroppedEvents());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+import exceptions.GameLoadingException;
+import game.Game;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.players.RandomPlayer;
+import junit.framework.TestCase;
+import output.BufferedOutput;
+import output.SilentOutput;
+import simulation.BalanceReport;
+import simulation.BalanceRunner;
+import simulation.BalanceTask;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
+
+public class BalanceRunnerTest extends TestCase {
+    private static final long NB_GAMES = 3 * BalanceTask.NB_GAMES_PER_TASK;
+    private static final long SEED = 42;
+
+    public void test_seeded_batches_give_the_same_report_whatever_the_number_of_threads() {
+        BalanceRunner runner = new BalanceRunner("sandbox/sandboxProperties.json", GameDifficulty.NORMAL, 10);
+        ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BalanceReport report = runner.run(NB_GAMES, SEED, singleThreadPool);
+            assertEquals(NB_GAMES, report.getNbGames());
+            assertEquals(0, report.getNbErrors());
+            assertEquals(display(report), display(runner.run(NB_GAMES, SEED, pool)));
+            assertEquals(display(report), display(runner.run(NB_GAMES, SEED, singleThreadPool)));
+        } finally {
+            singleThreadPool.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    public void test_failed_games_keep_their_first_exception() {
+        BalanceRunner runner = new BalanceRunner("scenarios/missing.json", GameDifficulty.NORMAL, 10);
+        BalanceReport report = runner.run(NB_GAMES, SEED, ForkJoinPool.commonPool());
+        assertEquals(0, report.getNbGames());
+        assertEquals(NB_GAMES, report.getNbErrors());
+        String type = GameLoadingException.class.getName();
+        assertEquals(Long.valueOf(NB_GAMES), report.getNbErrorsByType().get(type));
+        assertTrue(report.getFirstErrorByType().get(type) instanceof GameLoadingException);
+        assertTrue(display(report).contains(type));
+    }
+
+    public void test_game_saves_of_the_bot_are_neither_read_nor_written() throws Exception {
+        String filePath = "scenarios/attackOnTitans_remastered.json";
+        BalanceRunner runner = new BalanceRunner(filePath, GameDifficulty.EASY, 10);
+        BalanceReport report = runner.run(NB_GAMES, SEED, ForkJoinPool.commonPool());
+
+        Game game = new ScenarioGame(GameDifficulty.EASY, BalanceRunner.botName, new RandomPlayer(0, 10), new SilentOutput());
+        game.load(new GameParameters(BalanceRunner.botName, GameDifficulty.EASY, ScenarioGame.class.getSimpleName(), filePath));
+        Path savePath = Paths.get(game.getSavePath());
+        Files.createDirectories(savePath.getParent());
+        Files.writeString(savePath, "pas une partie sauvegardée");
+        try {
+            BalanceReport reportWithSave = runner.run(NB_GAMES, SEED, ForkJoinPool.commonPool());
+            assertEquals(0, reportWithSave.getNbErrors());
+            assertEquals(display(report), display(reportWithSave));
+            assertTrue(Files.exists(savePath));
+        } finally {
+            Files.deleteIfExists(savePath);
+        }
+    }
+
+    private String display(BalanceReport report) {
+        StringBuilder screen = new StringBuilder();
+        BufferedOutput output = new BufferedOutput(screen);
+        report.display(output);
+        output.flush();
+        return screen.toString();
+    }
+}
@@ -0,0 +1,66 @@
+import game.needs.BinomialDistribution;
+import junit.framework.TestCase;
+
+import java.util.Random;
+
+public class BinomialDistributionTest extends TestCase {
+    private static final int NB_SAMPLES = 200000;
+
+    public void test_inversion_samples_have_binomial_mean_and_variance() {
+        assertBinomialMoments(50, 0.1);
+    }
+
+    public void test_rejection_samples_have_binomial_mean_and_variance() {
+        assertBinomialMoments(1000000, 1.0 / 8);
+    }
+
+    public void test_samples_with_high_probability_have_binomial_mean_and_variance() {
+        assertBinomialMoments(400, 0.9);
+    }
+
+    public void test_samples_are_between_zero_and_number_of_trials() {
+        Random random = new Random(1);
+        for(int nbTrials = 0; nbTrials < 200; nbTrials += 1) {
+            int nbSuccesses = BinomialDistribution.sample(random, nbTrials, 0.5);
+            assertTrue(nbSuccesses >= 0 && nbSuccesses <= nbTrials);
+        }
+        assertEquals(0, BinomialDistribution.sample(random, 10, 0));
+        assertEquals(10, BinomialDistribution.sample(random, 10, 1));
+    }
+
+    public void test_multinomial_keeps_number_of_trials_and_is_uniform() {
+        Random random = new Random(2);
+        int nbOutcomes = 8;
+        int[] countByOutcome = new int[nbOutcomes];
+        long[] totalByOutcome = new long[nbOutcomes];
+        for(int sample = 0; sample < 10000; sample += 1) {
+            BinomialDistribution.sampleUniformMultinomial(random, 1000, nbOutcomes, countByOutcome);
+            int nbTrials = 0;
+            for(int outcome = 0; outcome < nbOutcomes; outcome += 1) {
+                nbTrials += countByOutcome[outcome];
+                totalByOutcome[outcome] += countByOutcome[outcome];
+            }
+            assertEquals(1000, nbTrials);
+        }
+        for(long total : totalByOutcome) {
+            assertEquals(1000.0 / nbOutcomes, total / 10000.0, 1);
+        }
+    }
+
+    private void assertBinomialMoments(int nbTrials, double probability) {
+        Random random = new Random(nbTrials);
+        double sum = 0;
+        double sumOfSquares = 0;
+        for(int sample = 0; sample < NB_SAMPLES; sample += 1) {
+            int nbSuccesses = BinomialDistribution.sample(random, nbTrials, probability);
+            sum += nbSuccesses;
+            sumOfSquares += (double) nbSuccesses * nbSuccesses;
+        }
+        double mean = sum / NB_SAMPLES;
+        double variance = sumOfSquares / NB_SAMPLES - mean * mean;
+        double expectedMean = nbTrials * probability;
+        double expectedVariance = expectedMean * (1 - probability);
+        assertEquals(expectedMean, mean, 5 * Math.sqrt(expectedVariance / NB_SAMPLES));
+        assertEquals(expectedVariance, variance, 0.02 * expectedVariance);
+    }
+}
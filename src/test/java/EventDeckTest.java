@@ -0,0 +1,79 @@
+import game.needs.GameRandom;
+import gameplay.*;
+import junit.framework.TestCase;
+import output.SilentOutput;
+import parser.JSONParser;
+import parser.ParsedScenario;
+import parser.Parser;
+import republic.Republic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventDeckTest extends TestCase {
+
+    public void test_alias_table_draws_indexes_proportionally_to_their_weight() {
+        double[] weights = { 1, 2, 3, 4 };
+        AliasTable aliasTable = new AliasTable(weights);
+        GameRandom random = new GameRandom(3);
+        int[] nbDraws = new int[weights.length];
+        int nbTotalDraws = 100_000;
+        for(int draw = 0; draw < nbTotalDraws; draw += 1) {
+            nbDraws[aliasTable.sample(random)] += 1;
+        }
+        for(int index = 0; index < weights.length; index += 1) {
+            assertEquals(weights[index] / 10, (double) nbDraws[index] / nbTotalDraws, 0.01);
+        }
+    }
+
+    public void test_related_event_is_drawn_only_once() {
+        List<Event> events = new ArrayList<>();
+        events.add(new Event("Évènement", ""));
+        EventDeck deck = new EventDeck(events);
+        Event relatedEvent = new Event("Évènement lié", "");
+        relatedEvent.setIsARelatedEvent();
+        relatedEvent.setWeight(1000);
+        deck.add(relatedEvent);
+        assertEquals(2, deck.size());
+
+        GameRandom random = new GameRandom(5);
+        int nbRelatedEventDraws = 0;
+        for(int draw = 0; draw < 100; draw += 1) {
+            if(deck.draw(random) == relatedEvent) {
+                nbRelatedEventDraws += 1;
+            }
+        }
+        assertEquals(1, nbRelatedEventDraws);
+        assertEquals(1, deck.size());
+    }
+
+    public void test_conditional_event_is_eligible_only_while_its_conditions_are_satisfied() throws Exception {
+        Parser parser = new JSONParser();
+        parser.openFile("customFactions.json");
+        ParsedScenario scenario = parser.parseScenario();
+        Republic republic = new Republic(scenario.getStartParameters("NORMAL").createPopulation(), scenario.getStartParameters("NORMAL").createResources());
+        republic.setOutput(new SilentOutput());
+        EligibilityIndex eligibilityIndex = new EligibilityIndex();
+        EventDeck deck = new EventDeck(scenario.getEvents(Season.SUMMER), eligibilityIndex);
+        assertTrue(deck.hasUnconditionalEvent());
+        assertEquals(1, deck.getNbEligibleEvents());
+
+        eligibilityIndex.watch(new ConditionState(republic), 1);
+        assertEquals(1, deck.getNbEligibleEvents());
+
+        int merchantsId = republic.getPopulation().getFactionId("Merchants");
+        republic.getPopulation().updateSatisfactionRate(merchantsId, -30);
+        eligibilityIndex.update(1);
+        assertEquals(2, deck.getNbEligibleEvents());
+
+        eligibilityIndex.update(11);
+        assertEquals(1, deck.getNbEligibleEvents());
+        eligibilityIndex.update(10);
+        republic.getResources().useMoney(600);
+        eligibilityIndex.update(10);
+        assertEquals(1, deck.getNbEligibleEvents());
+        republic.getResources().earnMoney(600);
+        eligibilityIndex.update(10);
+        assertEquals(2, deck.getNbEligibleEvents());
+    }
+}
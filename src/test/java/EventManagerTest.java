@@ -0,0 +1,23 @@
+import junit.framework.TestCase;
+import listeners.IntEventListener;
+import publisher.EventManager;
+import publisher.EventType;
+
+public class EventManagerTest extends TestCase {
+
+    public void test_satisfaction_variation_is_published_to_typed_and_object_listeners() {
+        EventManager events = new EventManager(EventType.SATISFACTION_INCREASED);
+        int[] intVariation = new int[1];
+        Object[] objectVariation = new Object[1];
+        IntEventListener intListener = (eventType, variation) -> intVariation[0] += variation;
+        events.subscribeInt(EventType.SATISFACTION_INCREASED, intListener);
+        events.subscribe("satisfaction_increased", (eventName, variation) -> objectVariation[0] = variation);
+
+        events.notify(EventType.SATISFACTION_INCREASED, 7);
+        events.unsubscribeInt(EventType.SATISFACTION_INCREASED, intListener);
+        events.notify(EventType.SATISFACTION_INCREASED, 3);
+
+        assertEquals(7, intVariation[0]);
+        assertEquals(3, objectVariation[0]);
+    }
+}
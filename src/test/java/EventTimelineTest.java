@@ -0,0 +1,34 @@
+import gameplay.Event;
+import gameplay.EventTimeline;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class EventTimelineTest extends TestCase {
+
+    public void test_timeline_keeps_events_in_the_same_order_as_a_list() {
+        Random random = new Random(7);
+        List<Event> events = new ArrayList<>();
+        for(int indexEvent = 0; indexEvent < 150; indexEvent += 1) {
+            events.add(new Event("Évènement " + indexEvent, ""));
+        }
+        EventTimeline timeline = new EventTimeline(events);
+        for(int operation = 0; operation < 5000; operation += 1) {
+            if(random.nextInt(4) == 0 && !events.isEmpty()) {
+                int index = random.nextInt(events.size());
+                assertSame(events.remove(index), timeline.remove(index));
+            }
+            else {
+                int index = random.nextInt(events.size() + 1);
+                Event event = new Event("Évènement lié " + operation, "");
+                events.add(index, event);
+                timeline.add(index, event);
+            }
+            int index = random.nextInt(events.size());
+            assertSame(events.get(index), timeline.get(index));
+        }
+        assertEquals(events, timeline);
+    }
+}
@@ -107,4 +107,15 @@ public class FactionFactoryTest extends TestCase {
             ex.printStackTrace();
         }
     }
+
+    public void test_default_faction_types_cannot_be_added_to() {
+        int nbDefaultFactions = FactionTypes.DEFAULT.count();
+        try {
+            FactionTypes.DEFAULT.add("Merchants", "Marchands", true, 15);
+            Assert.fail("IllegalStateException not thrown in " + this.getName());
+        } catch (IllegalStateException ex) {
+            assertEquals(nbDefaultFactions, FactionTypes.DEFAULT.count());
+            assertEquals(-1, FactionTypes.DEFAULT.getId("Merchants"));
+        }
+    }
 }
@@ -0,0 +1,108 @@
+import game.Game;
+import game.GameSnapshot;
+import game.SandboxGame;
+import game.ScenarioGame;
+import game.journal.GameJournal;
+import game.journal.JournalReplayer;
+import game.journal.ReplayResult;
+import game.needs.GameDifficulty;
+import game.needs.GameInputOptions;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import game.saving.NoGameSaver;
+import junit.framework.TestCase;
+import output.SilentOutput;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class GameJournalTest extends TestCase {
+    private static final int NB_GAMES = 20;
+    private final GameParameters sandboxParameters = new GameParameters("bot", GameDifficulty.NORMAL, SandboxGame.class.getSimpleName(), "sandbox/sandboxProperties.json");
+    private final GameParameters scenarioParameters = new GameParameters("bot", GameDifficulty.HARD, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json");
+    private final JournalReplayer replayer = new JournalReplayer();
+
+    public void test_replays_of_recorded_games_reproduce_them() throws Exception {
+        List<byte[]> journals = new ArrayList<>();
+        for(int seed = 0; seed < NB_GAMES; seed += 1) {
+            GameRandom random = new GameRandom(seed);
+            Game sandboxGame = new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(random.split(), 20), new SilentOutput(), random);
+            journals.add(play(sandboxGame, this.sandboxParameters));
+            random = new GameRandom(seed);
+            Game scenarioGame = new ScenarioGame(GameDifficulty.HARD, "bot", new RandomPlayer(random.split(), 100), new SilentOutput(), random);
+            journals.add(play(scenarioGame, this.scenarioParameters));
+        }
+        for(byte[] journal : journals) {
+            assertEquals(ReplayResult.REPRODUCED, this.replayer.replay(journal));
+        }
+        Map<ReplayResult, Long> results = this.replayer.replayAll(journals, ForkJoinPool.commonPool());
+        assertEquals(Long.valueOf(journals.size()), results.get(ReplayResult.REPRODUCED));
+    }
+
+    public void test_journals_of_forked_games_start_from_the_game_they_were_forked_from() throws Exception {
+        for(int seed = 0; seed < 5; seed += 1) {
+            Game game = new ScenarioGame(GameDifficulty.EASY, "bot", new RandomPlayer(seed, 100), new SilentOutput(), new GameRandom(seed));
+            game.load(this.scenarioParameters);
+            GameSnapshot snapshot = game.snapshot();
+            game.launchGame();
+            Game forkedGame = game.fork(snapshot, new RandomPlayer(seed + 1, 100), new SilentOutput());
+            forkedGame.launchGame();
+            assertEquals(ReplayResult.REPRODUCED, this.replayer.replay(forkedGame.getJournal()));
+
+            game.restore(snapshot);
+            assertFalse(game.getJournal().isEnded());
+        }
+    }
+
+    public void test_replays_find_the_journals_which_do_not_match_their_game() throws Exception {
+        Game game = new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(7, 20), new SilentOutput(), new GameRandom(7));
+        byte[] journal = play(game, this.sandboxParameters);
+
+        byte[] otherFingerprint = Arrays.copyOf(journal, journal.length);
+        otherFingerprint[journal.length - 1] ^= 1;
+        assertEquals(ReplayResult.DIFFERENT_RESULT, this.replayer.replay(otherFingerprint));
+
+        Game unfinishedGame = new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(7, 20), new SilentOutput(), new GameRandom(7));
+        unfinishedGame.load(this.sandboxParameters);
+        assertEquals(ReplayResult.NOT_REPLAYABLE, this.replayer.replay(unfinishedGame.getJournal()));
+
+        try {
+            this.replayer.replay(Arrays.copyOf(journal, journal.length - 4));
+            fail("IllegalArgumentException should have been thrown");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(true);
+        }
+    }
+
+    public void test_replays_of_saved_and_quit_games_do_not_write_game_saves() throws Exception {
+        RandomPlayer savingPlayer = new RandomPlayer(3, 20) {
+            @Override
+            public int chooseContinueOrSaveAndOrQuit(Game game) {
+                return GameInputOptions.END_YEAR_SAVE_AND_QUIT;
+            }
+        };
+        Game game = new ScenarioGame(GameDifficulty.EASY, "replayBot", savingPlayer, new SilentOutput(), new GameRandom(3));
+        game.setGameSaver(new NoGameSaver(game));
+        byte[] journal = play(game, new GameParameters("replayBot", GameDifficulty.EASY, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json"));
+        assertTrue(game.hasPlayerQuit());
+        File saveFile = new File(game.getSavePath());
+        saveFile.delete();
+
+        assertEquals(ReplayResult.REPRODUCED, this.replayer.replay(journal));
+        assertFalse(saveFile.exists());
+    }
+
+    private byte[] play(Game game, GameParameters gameParameters) throws Exception {
+        game.load(gameParameters);
+        game.launchGame();
+        GameJournal journal = game.getJournal();
+        assertTrue(journal.isEnded());
+        assertEquals(game.getScore(), journal.getScore());
+        return journal.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+import game.players.SessionPlayer;
+import junit.framework.TestCase;
+import server.GameServer;
+import server.ScriptedClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class GameServerTest extends TestCase {
+    private static final int NB_SESSIONS = 40;
+
+    public void test_concurrent_scripted_sessions_are_played_to_the_end() throws Exception {
+        try(GameServer server = new GameServer(0)) {
+            server.start();
+            ExecutorService clients = Executors.newFixedThreadPool(NB_SESSIONS);
+            List<Future<ScriptedClient>> sessions = new ArrayList<>();
+            for(int session = 0; session < NB_SESSIONS; session += 1) {
+                ScriptedClient client = new ScriptedClient(ScriptedClient.newBot("bot" + session, 1 + session % 2, session, 10));
+                sessions.add(clients.submit(() -> {
+                    client.play(server.getPort());
+                    return client;
+                }));
+            }
+            for(Future<ScriptedClient> session : sessions) {
+                ScriptedClient client = session.get();
+                assertTrue(client.hasServerEndedSession());
+                assertTrue(client.getNbAnswers() > 5);
+            }
+            clients.shutdown();
+            assertEquals(NB_SESSIONS, server.getNbSessions());
+        }
+    }
+
+    public void test_sessions_ask_again_until_the_answer_is_correct() throws Exception {
+        try(GameServer server = new GameServer(0)) {
+            server.start();
+            List<String> kinds = new ArrayList<>();
+            ScriptedClient client = new ScriptedClient((kind, min, max) -> {
+                kinds.add(kind);
+                if(kind.equals(SessionPlayer.NAME)) {
+                    return kinds.size() == 1 ? "../saves" : "bot";
+                }
+                if(kind.equals(SessionPlayer.GAME_MODE)) {
+                    return kinds.size() == 3 ? "trois" : null;
+                }
+                return "1";
+            });
+            client.play(server.getPort());
+            assertEquals(List.of(SessionPlayer.NAME, SessionPlayer.NAME, SessionPlayer.GAME_MODE, SessionPlayer.GAME_MODE), kinds);
+            assertFalse(client.hasServerEndedSession());
+        }
+    }
+
+    public void test_a_player_name_is_used_by_one_session_at_a_time() throws Exception {
+        try(GameServer server = new GameServer(0)) {
+            server.start();
+            CountDownLatch firstSessionNamed = new CountDownLatch(1);
+            CountDownLatch secondSessionDone = new CountDownLatch(1);
+            ScriptedClient firstClient = new ScriptedClient((kind, min, max) -> {
+                if(kind.equals(SessionPlayer.NAME)) {
+                    return "bot";
+                }
+                firstSessionNamed.countDown();
+                try {
+                    secondSessionDone.await();
+                } catch (InterruptedException ignored) {}
+                return null;
+            });
+            ExecutorService clients = Executors.newSingleThreadExecutor();
+            Future<?> firstSession = clients.submit(() -> {
+                firstClient.play(server.getPort());
+                return null;
+            });
+            firstSessionNamed.await();
+
+            List<String> kinds = new ArrayList<>();
+            ScriptedClient secondClient = new ScriptedClient((kind, min, max) -> {
+                kinds.add(kind);
+                if(kind.equals(SessionPlayer.NAME)) {
+                    return kinds.size() == 1 ? "BOT" : "bot2";
+                }
+                return null;
+            });
+            secondClient.play(server.getPort());
+            secondSessionDone.countDown();
+            firstSession.get();
+            clients.shutdown();
+            assertEquals(List.of(SessionPlayer.NAME, SessionPlayer.NAME, SessionPlayer.GAME_MODE), kinds);
+        }
+    }
+}
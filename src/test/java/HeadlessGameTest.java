@@ -0,0 +1,94 @@
+import game.Game;
+import game.GameSnapshot;
+import game.SandboxGame;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import output.SilentOutput;
+
+public class HeadlessGameTest extends TestCase {
+    private static final int NB_GAMES = 50;
+
+    public void test_sandbox_games_can_be_played_headless() {
+        GameParameters gameParameters = new GameParameters("bot", GameDifficulty.NORMAL, SandboxGame.class.getSimpleName(), "sandbox/sandboxProperties.json");
+        for(int seed = 0; seed < NB_GAMES; seed += 1) {
+            Game game = new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(seed, 20), new SilentOutput());
+            playHeadless(game, gameParameters);
+            assertTrue(game.getYear() <= 20);
+        }
+    }
+
+    public void test_scenario_games_can_be_played_headless() {
+        GameParameters gameParameters = new GameParameters("bot", GameDifficulty.HARD, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json");
+        for(int seed = 0; seed < NB_GAMES; seed += 1) {
+            Game game = new ScenarioGame(GameDifficulty.HARD, "bot", new RandomPlayer(seed, 100), new SilentOutput());
+            playHeadless(game, gameParameters);
+            assertTrue(game.getEventCount() > 1);
+        }
+    }
+
+    public void test_games_with_the_same_seed_are_the_same() {
+        GameParameters sandboxParameters = new GameParameters("bot", GameDifficulty.NORMAL, SandboxGame.class.getSimpleName(), "sandbox/sandboxProperties.json");
+        GameParameters scenarioParameters = new GameParameters("bot", GameDifficulty.EASY, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json");
+        for(int seed = 0; seed < NB_GAMES; seed += 1) {
+            Game[] sandboxGames = new Game[2];
+            Game[] scenarioGames = new Game[2];
+            for(int indexGame = 0; indexGame < 2; indexGame += 1) {
+                GameRandom random = new GameRandom(seed);
+                sandboxGames[indexGame] = new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(random.split(), 20), new SilentOutput(), random);
+                playHeadless(sandboxGames[indexGame], sandboxParameters);
+                random = new GameRandom(seed);
+                scenarioGames[indexGame] = new ScenarioGame(GameDifficulty.EASY, "bot", new RandomPlayer(random.split(), 100), new SilentOutput(), random);
+                playHeadless(scenarioGames[indexGame], scenarioParameters);
+            }
+            assertSameGame(sandboxGames[0], sandboxGames[1]);
+            assertSameGame(scenarioGames[0], scenarioGames[1]);
+        }
+    }
+
+    public void test_forked_games_play_like_the_game_they_were_forked_from() throws Exception {
+        GameParameters sandboxParameters = new GameParameters("bot", GameDifficulty.NORMAL, SandboxGame.class.getSimpleName(), "sandbox/sandboxProperties.json");
+        GameParameters scenarioParameters = new GameParameters("bot", GameDifficulty.EASY, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json");
+        for(int seed = 0; seed < 10; seed += 1) {
+            assertForkPlaysTheSame(new SandboxGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(seed, 20), new SilentOutput(), new GameRandom(seed)), sandboxParameters, new RandomPlayer(seed, 20));
+            assertForkPlaysTheSame(new ScenarioGame(GameDifficulty.EASY, "bot", new RandomPlayer(seed, 100), new SilentOutput(), new GameRandom(seed)), scenarioParameters, new RandomPlayer(seed, 100));
+        }
+    }
+
+    private void assertForkPlaysTheSame(Game game, GameParameters gameParameters, RandomPlayer forkPlayer) throws Exception {
+        game.load(gameParameters);
+        GameSnapshot snapshot = game.snapshot();
+        game.launchGame();
+        Game forkedGame = game.fork(snapshot, forkPlayer, new SilentOutput());
+        forkedGame.launchGame();
+        assertSameGame(game, forkedGame);
+
+        game.restore(snapshot);
+        assertNull(game.getOutcome());
+        assertEquals(0, game.getYear());
+        assertEquals(snapshot.getScore(), game.getScore());
+        assertEquals(snapshot.getMoney(), game.getRepublic().getResources().getMoney());
+    }
+
+    private void assertSameGame(Game expected, Game actual) {
+        assertEquals(expected.getOutcome(), actual.getOutcome());
+        assertEquals(expected.getYear(), actual.getYear());
+        assertEquals(expected.getEventCount(), actual.getEventCount());
+        assertEquals(expected.getCurrentSeason(), actual.getCurrentSeason());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getRepublic().getPopulation().getTotalPopulation(), actual.getRepublic().getPopulation().getTotalPopulation());
+    }
+
+    private void playHeadless(Game game, GameParameters gameParameters) {
+        try {
+            game.load(gameParameters);
+            game.launchGame();
+        } catch (Exception ex) {
+            Assert.fail(ex.getClass() + " shouldn't have been thrown");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+import game.Game;
+import game.ScenarioGame;
+import game.advisor.Advice;
+import game.advisor.MonteCarloAdvisor;
+import game.advisor.Objective;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.Player;
+import game.players.RandomPlayer;
+import junit.framework.TestCase;
+import output.Output;
+import output.SilentOutput;
+
+public class MonteCarloAdvisorTest extends TestCase {
+    private static final long TIME_BUDGET_MILLIS = 300;
+    private static final long DEADLINE_MARGIN_MILLIS = 5000;
+    private final GameParameters gameParameters = new GameParameters("bot", GameDifficulty.NORMAL, ScenarioGame.class.getSimpleName(), "scenarios/attackOnTitans_remastered.json");
+
+    public void test_advisor_recommends_a_choice_before_its_deadline() throws Exception {
+        Advice[] advice = new Advice[1];
+        long[] searchDurations = new long[1];
+        try(MonteCarloAdvisor advisor = new MonteCarloAdvisor(Objective.SCORE, 2, 5, new GameRandom(1))) {
+            RandomPlayer advisedPlayer = new RandomPlayer(1, 3) {
+                @Override
+                public int chooseEventSolution(Game game, int nbChoices) {
+                    if(advice[0] == null) {
+                        long start = System.nanoTime();
+                        advice[0] = advisor.advise(game, TIME_BUDGET_MILLIS);
+                        searchDurations[0] = (System.nanoTime() - start) / 1_000_000;
+                        return advice[0].getChoice();
+                    }
+                    return super.chooseEventSolution(game, nbChoices);
+                }
+            };
+            Game game = new ScenarioGame(GameDifficulty.NORMAL, "bot", advisedPlayer, new SilentOutput(), new GameRandom(1));
+            game.load(this.gameParameters);
+            game.launchGame();
+        }
+
+        assertNotNull(advice[0]);
+        assertTrue(searchDurations[0] < TIME_BUDGET_MILLIS + DEADLINE_MARGIN_MILLIS);
+        assertTrue(advice[0].getNbRollouts() > 0);
+        assertTrue(advice[0].getChoice() >= 1 && advice[0].getChoice() <= advice[0].getNbChoices());
+        assertTrue(advice[0].getNbVisits(advice[0].getChoice()) > 0);
+    }
+
+    public void test_advisor_throws_the_failures_of_the_game_engine() throws Exception {
+        RuntimeException engineFailure = new IllegalArgumentException("broken rules");
+        try(MonteCarloAdvisor advisor = new MonteCarloAdvisor(Objective.SCORE, 2, 5, new GameRandom(1))) {
+            RandomPlayer advisedPlayer = new RandomPlayer(1, 3) {
+                @Override
+                public int chooseEventSolution(Game game, int nbChoices) {
+                    return advisor.advise(game, TIME_BUDGET_MILLIS).getChoice();
+                }
+            };
+            Game game = new ScenarioGame(GameDifficulty.NORMAL, "bot", advisedPlayer, new SilentOutput(), new GameRandom(1)) {
+                @Override
+                protected Game newGame(Player player, Output output, GameRandom random) {
+                    return new ScenarioGame(GameDifficulty.NORMAL, "bot", player, output, random) {
+                        @Override
+                        public void playFromChoice(int choice) {
+                            throw engineFailure;
+                        }
+                    };
+                }
+            };
+            game.load(this.gameParameters);
+            game.launchGame();
+            fail("IllegalStateException should have been thrown");
+        } catch (IllegalStateException ex) {
+            assertSame(engineFailure, ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+import game.needs.GameParameters;
+import junit.framework.TestCase;
+import output.BufferedOutput;
+import output.SilentOutput;
+
+import java.io.StringWriter;
+
+public class OutputTest extends TestCase {
+
+    public void test_buffered_output_writes_a_screen_at_once_when_flushed() {
+        StringWriter target = new StringWriter();
+        BufferedOutput output = new BufferedOutput(target);
+        output.printf("Événement %d : %s", 1, "Grève");
+        output.println();
+        output.println("Entrez votre choix :");
+        assertEquals("", target.toString());
+
+        output.flush();
+        String screen = String.format("Événement 1 : Grève%nEntrez votre choix :%n");
+        assertEquals(screen, target.toString());
+
+        output.println("Suite");
+        output.flush();
+        assertEquals(screen + String.format("Suite%n"), target.toString());
+    }
+
+    public void test_buffered_output_is_written_when_it_grows_too_much() {
+        StringWriter target = new StringWriter();
+        BufferedOutput output = new BufferedOutput(target);
+        String line = "x".repeat(1000);
+        for(int i = 0; i <= BufferedOutput.MAX_BUFFERED_CHARS / line.length(); i += 1) {
+            output.println(line);
+        }
+        assertTrue(target.toString().length() > BufferedOutput.MAX_BUFFERED_CHARS);
+    }
+
+    public void test_silent_output_is_not_enabled() {
+        assertFalse(new SilentOutput().isEnabled());
+        assertTrue(new BufferedOutput(new StringWriter()).isEnabled());
+    }
+
+    public void test_pre_game_menus_are_displayed_through_the_given_output() {
+        StringWriter target = new StringWriter();
+        BufferedOutput output = new BufferedOutput(target);
+        GameParameters gameParameters = new GameParameters(output);
+        gameParameters.displayGameModeInstructions();
+        gameParameters.displayGameDifficultyInstructions();
+        output.flush();
+        assertTrue(target.toString().contains("Choisissez votre mode de jeu :"));
+        assertTrue(target.toString().contains("Choisissez votre difficulté de jeu :"));
+    }
+}
@@ -0,0 +1,85 @@
+import exceptions.MissingParsingKeysException;
+import game.Game;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.needs.GameRules;
+import game.players.RandomPlayer;
+import gameplay.Season;
+import junit.framework.TestCase;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import output.SilentOutput;
+import parser.JSONParser;
+import parser.ParsedScenario;
+import parser.Parser;
+import parser.ParsingKeys;
+import publisher.EventManager;
+import publisher.EventType;
+import republic.Republic;
+import republic.factions.Population;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+public class ParserTest extends TestCase {
+
+    public void test_scenario_declares_its_own_factions() throws Exception {
+        Parser parser = new JSONParser();
+        parser.openFile("customFactions.json");
+        ParsedScenario scenario = parser.parseScenario();
+        Population population = scenario.getStartParameters("NORMAL").createPopulation();
+        population.setOutput(new SilentOutput());
+        Republic republic = new Republic(population, scenario.getStartParameters("NORMAL").createResources());
+        republic.setOutput(new SilentOutput());
+        republic.events = new EventManager(EventType.SATISFACTION_INCREASED, EventType.SATISFACTION_DECREASED);
+
+        assertEquals(3, population.getNbFactions());
+        assertEquals("Marchands", population.getFaction("Merchants").getName());
+        assertFalse(population.getFaction("Guards").canBeBribed());
+        assertEquals(20 * 30, population.getFaction("Merchants").getBribePrice());
+
+        republic.applyEffects(scenario.getEvents(Season.SPRING).get(0).getChoices().get(1).getEffects());
+        assertEquals(60, population.getFaction("Farmers").getSatisfactionRate());
+        assertEquals(60, population.getFaction("Farmers").getNbSupporters());
+
+        assertTrue(republic.bribeIfPossible("Merchants"));
+        assertEquals(70, population.getFaction("Merchants").getSatisfactionRate());
+        assertEquals(70 + 600 / GameRules.BRIBE_FACTION_DECREASE_LOYALISTS_SATISFACTION, population.getFaction("Guards").getSatisfactionRate());
+    }
+
+    public void test_incorrect_start_parameters_only_make_their_difficulty_unavailable() throws Exception {
+        JSONObject configuration;
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("customFactions.json")) {
+            configuration = new JSONObject(new JSONTokener(stream));
+        }
+        configuration.getJSONObject(ParsingKeys.gameStartParameters).put(GameDifficulty.HARD.name(), new JSONObject().put(ParsingKeys.farmRate, "beaucoup"));
+        Path filePath = Files.createTempFile("incorrectHard", ".json");
+        try {
+            Files.writeString(filePath, configuration.toString());
+            Parser parser = new JSONParser();
+            parser.openFile(filePath.toString());
+            ParsedScenario scenario = parser.parseScenario();
+            assertEquals(Set.of(GameDifficulty.NORMAL.name()), scenario.getStartParametersDifficulties());
+            assertNotNull(scenario.getStartParametersError(GameDifficulty.HARD.name()));
+
+            GameParameters gameParameters = new GameParameters("bot", GameDifficulty.EASY, ScenarioGame.class.getSimpleName(), filePath.toString());
+            Game game = new ScenarioGame(GameDifficulty.EASY, "bot", new RandomPlayer(0, 10), new SilentOutput());
+            game.load(gameParameters);
+            game.launchGame();
+            assertNotNull(game.getOutcome());
+
+            Game hardGame = new ScenarioGame(GameDifficulty.HARD, "bot", new RandomPlayer(0, 10), new SilentOutput());
+            try {
+                hardGame.load(new GameParameters("bot", GameDifficulty.HARD, ScenarioGame.class.getSimpleName(), filePath.toString()));
+                fail("MissingParsingKeysException should have been thrown");
+            } catch (MissingParsingKeysException ex) {
+                assertTrue(ex.getMessage().contains(GameDifficulty.HARD.name()));
+            }
+        } finally {
+            Files.deleteIfExists(filePath);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import gameplay.Effect;
+import gameplay.Season;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import parser.JSONParser;
+import parser.ParsedScenario;
+import parser.Parser;
+import publisher.EventManager;
+import publisher.EventType;
+import republic.Republic;
+import republic.SatisfactionChange;
+import republic.factions.Population;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RepublicTest extends TestCase {
+
+    public void test_batched_effect_publishes_one_satisfaction_change() throws Exception {
+        Parser parser = new JSONParser();
+        parser.openFile("customFactions.json");
+        ParsedScenario scenario = parser.parseScenario();
+        Effect effect = scenario.getEvents(Season.SPRING).get(0).getChoices().get(0).getEffects();
+
+        int[] variations = new int[2];
+        Republic republic = new Republic(scenario.getStartParameters("NORMAL").createPopulation(), scenario.getStartParameters("NORMAL").createResources());
+        republic.events = new EventManager(EventType.SATISFACTION_INCREASED, EventType.SATISFACTION_DECREASED);
+        republic.events.subscribeInt(EventType.SATISFACTION_INCREASED, (eventType, variation) -> variations[0] += variation);
+        republic.events.subscribeInt(EventType.SATISFACTION_DECREASED, (eventType, variation) -> variations[1] -= variation);
+        republic.applyEffects(effect);
+
+        List<SatisfactionChange> changes = new ArrayList<>();
+        int[] batchedVariations = new int[2];
+        Republic batchedRepublic = new Republic(scenario.getStartParameters("NORMAL").createPopulation(), scenario.getStartParameters("NORMAL").createResources());
+        batchedRepublic.setBatchedEffects(true);
+        batchedRepublic.events = new EventManager(EventType.SATISFACTION_CHANGED);
+        batchedRepublic.events.subscribe(EventType.SATISFACTION_CHANGED, (eventName, change) -> {
+            SatisfactionChange satisfactionChange = (SatisfactionChange) change;
+            changes.add(satisfactionChange);
+            batchedVariations[0] = satisfactionChange.getTotalIncrease();
+            batchedVariations[1] = satisfactionChange.getTotalDecrease();
+        });
+        batchedRepublic.applyEffects(effect);
+
+        assertEquals(1, changes.size());
+        Assert.assertArrayEquals(variations, batchedVariations);
+        Population population = batchedRepublic.getPopulation();
+        assertEquals(10, changes.get(0).getVariation(population.getFactionId("Merchants")));
+        assertEquals(-10, changes.get(0).getVariation(population.getFactionId("Farmers")));
+    }
+}
@@ -0,0 +1,45 @@
+import game.Game;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.players.RandomPlayer;
+import junit.framework.TestCase;
+import output.SilentOutput;
+import parser.JSONParser;
+import parser.ParsedScenario;
+import parser.ScenarioCache;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+public class ScenarioCacheTest extends TestCase {
+    private static final String scenarioPath = "scenarios/attackOnTitans_remastered.json";
+
+    public void test_games_played_on_the_same_file_share_one_parse() throws Exception {
+        GameParameters gameParameters = new GameParameters("bot", GameDifficulty.NORMAL, ScenarioGame.class.getSimpleName(), scenarioPath);
+        Game game = new ScenarioGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(0, 100), new SilentOutput());
+        Game otherGame = new ScenarioGame(GameDifficulty.NORMAL, "bot", new RandomPlayer(1, 100), new SilentOutput());
+        game.load(gameParameters);
+        otherGame.load(gameParameters);
+
+        assertSame(game.getScenario(scenarioPath), otherGame.getScenario(scenarioPath));
+    }
+
+    public void test_modified_file_is_parsed_again() throws Exception {
+        File file = File.createTempFile("customFactions", ".json");
+        file.deleteOnExit();
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream("customFactions.json")) {
+            Files.copy(stream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        ParsedScenario scenario = ScenarioCache.getScenario(file.getPath(), new JSONParser());
+        assertSame(scenario, ScenarioCache.getScenario(file.getPath(), new JSONParser()));
+
+        assertTrue(file.setLastModified(file.lastModified() - 60_000));
+        ParsedScenario modifiedScenario = ScenarioCache.getScenario(file.getPath(), new JSONParser());
+        assertNotSame(scenario, modifiedScenario);
+        assertEquals(scenario.getName(), modifiedScenario.getName());
+        assertSame(modifiedScenario, ScenarioCache.getScenario(file.getPath(), new JSONParser()));
+    }
+}
@@ -0,0 +1,54 @@
+import gameplay.Season;
+import junit.framework.TestCase;
+import parser.*;
+
+import java.util.List;
+
+public class ScenarioCatalogTest extends TestCase {
+
+    public void test_header_is_the_same_as_parsed_scenario() throws Exception {
+        String filePath = "scenarios/attackOnTitans_remastered.json";
+        Parser parser = new JSONParser();
+        parser.openFile(filePath);
+        ParsedScenario scenario = parser.parseScenario();
+
+        ScenarioHeader header = ScenarioCatalog.getHeader(filePath);
+        assertNotNull(header);
+        assertEquals(filePath, header.getFilePath());
+        assertEquals(scenario.getName(), header.getName());
+        assertEquals(scenario.getFirstSeason(), header.getFirstSeason());
+        assertEquals(scenario.getStartParametersDifficulties(), header.getDifficulties());
+        for(Season season : Season.values()) {
+            assertEquals(scenario.getEvents(season).size(), (int) header.getNbEventsBySeason().get(season));
+        }
+        assertTrue(header.isPlayable());
+    }
+
+    public void test_old_configuration_file_is_not_playable() {
+        ScenarioHeader header = ScenarioCatalog.getHeader("scenarios/coldWarUSA.json");
+        assertNotNull(header);
+        assertFalse(header.isPlayable());
+    }
+
+    public void test_header_is_read_once_while_file_is_not_modified() {
+        String filePath = "scenarios/scenario_test_saisons.json";
+        assertSame(ScenarioCatalog.getHeader(filePath), ScenarioCatalog.getHeader(filePath));
+    }
+
+    public void test_build_manifest_has_the_same_headers_as_catalog() {
+        List<ScenarioHeader> manifestHeaders = ScenarioManifest.getHeaders();
+        assertNotNull(manifestHeaders);
+        assertFalse(manifestHeaders.isEmpty());
+        for(ScenarioHeader manifestHeader : manifestHeaders) {
+            ScenarioHeader header = ScenarioCatalog.getHeader(manifestHeader.getFilePath());
+            assertEquals(header.getName(), manifestHeader.getName());
+            assertEquals(header.getFirstSeason(), manifestHeader.getFirstSeason());
+            assertEquals(header.getDifficulties(), manifestHeader.getDifficulties());
+            assertEquals(header.getNbEventsBySeason(), manifestHeader.getNbEventsBySeason());
+        }
+    }
+
+    public void test_missing_file_has_no_header() {
+        assertNull(ScenarioCatalog.getHeader("scenarios/missing.json"));
+    }
+}
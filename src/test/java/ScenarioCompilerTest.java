@@ -0,0 +1,217 @@
+import exceptions.MissingEventsException;
+import exceptions.MissingParsingKeysException;
+import exceptions.MissingParsingObjectException;
+import game.Game;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameParameters;
+import game.players.RandomPlayer;
+import gameplay.Choice;
+import gameplay.Condition;
+import gameplay.Event;
+import gameplay.Season;
+import junit.framework.TestCase;
+import org.junit.Assert;
+import output.SilentOutput;
+import parser.*;
+import republic.factions.FactionTypes;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+public class ScenarioCompilerTest extends TestCase {
+    private static final String scenarioPath = "scenarios/attackOnTitans_remastered.json";
+
+    private Path compiledPath;
+
+    @Override
+    protected void setUp() throws Exception {
+        this.compiledPath = Files.createTempFile("attackOnTitans_remastered", ScenarioCompiler.FILE_EXTENSION);
+        ScenarioCompiler.compile(scenarioPath, this.compiledPath);
+    }
+
+    @Override
+    protected void tearDown() throws IOException {
+        Files.deleteIfExists(this.compiledPath);
+    }
+
+    public void test_compiled_scenario_is_the_same_as_configuration_file() throws Exception {
+        ParsedScenario scenario = parse(new JSONParser(), scenarioPath);
+        ParsedScenario compiledScenario = parse(new BinaryParser(), this.compiledPath.toString());
+
+        assertEquals(scenario.getName(), compiledScenario.getName());
+        assertEquals(scenario.getStory(), compiledScenario.getStory());
+        assertEquals(scenario.getFirstSeason(), compiledScenario.getFirstSeason());
+        assertEquals(scenario.getStartParametersDifficulties(), compiledScenario.getStartParametersDifficulties());
+        for(String difficultyName : scenario.getStartParametersDifficulties()) {
+            StartParameters startParameters = scenario.getStartParameters(difficultyName);
+            StartParameters compiledStartParameters = compiledScenario.getStartParameters(difficultyName);
+            assertEquals(startParameters.getMoney(), compiledStartParameters.getMoney());
+            assertEquals(startParameters.getFoodUnits(), compiledStartParameters.getFoodUnits());
+            assertEquals(startParameters.getSatisfactionRateByFaction(), compiledStartParameters.getSatisfactionRateByFaction());
+            assertEquals(startParameters.getNbSupportersByFaction(), compiledStartParameters.getNbSupportersByFaction());
+        }
+        for(Season season : Season.values()) {
+            assertSameEvents(scenario.getEvents(season), compiledScenario.getEvents(season));
+        }
+    }
+
+    public void test_file_which_is_not_compiled_cannot_be_parsed() throws IOException {
+        File notCompiled = File.createTempFile("notCompiled", ScenarioCompiler.FILE_EXTENSION);
+        notCompiled.deleteOnExit();
+        Files.writeString(notCompiled.toPath(), "{\"name\": \"pas compilé\"}");
+        BinaryParser parser = new BinaryParser();
+        parser.openFile(notCompiled.getPath());
+        assertFalse(parser.canParseFile());
+    }
+
+    public void test_truncated_or_corrupt_compiled_scenario_fails_with_parsing_exceptions() throws Exception {
+        byte[] compiled = Files.readAllBytes(this.compiledPath);
+        List<byte[]> corruptFiles = new ArrayList<>();
+        for(int length = 0; length < compiled.length; length += compiled.length / 50 + 1) {
+            corruptFiles.add(Arrays.copyOf(compiled, length));
+        }
+        corruptFiles.add(withInt(compiled, 6, -1));
+        corruptFiles.add(withInt(compiled, 10, -5));
+        corruptFiles.add(withInt(compiled, 6, Integer.MAX_VALUE));
+        Random random = new Random(0);
+        for(int corruption = 0; corruption < 200; corruption += 1) {
+            byte[] corruptFile = Arrays.copyOf(compiled, compiled.length);
+            corruptFile[compiled.length / 2 + random.nextInt(compiled.length / 2)] = (byte) random.nextInt(256);
+            corruptFiles.add(corruptFile);
+        }
+        Path corruptPath = Files.createTempFile("corrupt", ScenarioCompiler.FILE_EXTENSION);
+        try {
+            for(byte[] corruptFile : corruptFiles) {
+                Files.write(corruptPath, corruptFile);
+                BinaryParser.readScenarioHeader(corruptPath.toString(), new ByteArrayInputStream(corruptFile));
+                try {
+                    parse(new BinaryParser(), corruptPath.toString());
+                } catch (MissingParsingKeysException | MissingParsingObjectException | MissingEventsException ex) {
+                    assertNotNull(ex.getMessage());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(corruptPath);
+        }
+    }
+
+    private byte[] withInt(byte[] bytes, int position, int value) {
+        byte[] changedBytes = Arrays.copyOf(bytes, bytes.length);
+        ByteBuffer.wrap(changedBytes).putInt(position, value);
+        return changedBytes;
+    }
+
+    public void test_game_can_be_played_on_compiled_scenario() {
+        GameParameters gameParameters = new GameParameters("bot", GameDifficulty.HARD, ScenarioGame.class.getSimpleName(), this.compiledPath.toString());
+        Game game = new ScenarioGame(GameDifficulty.HARD, "bot", new RandomPlayer(0, 100), new SilentOutput());
+        try {
+            game.load(gameParameters);
+            game.launchGame();
+        } catch (Exception ex) {
+            Assert.fail(ex.getClass() + " shouldn't have been thrown");
+        }
+        assertNotNull(game.getOutcome());
+    }
+
+    public void test_compiled_scenario_keeps_its_declared_factions() throws Exception {
+        Path compiledCustomFactionsPath = Files.createTempFile("customFactions", ScenarioCompiler.FILE_EXTENSION);
+        try {
+            ScenarioCompiler.compile("customFactions.json", compiledCustomFactionsPath);
+            ParsedScenario scenario = parse(new JSONParser(), "customFactions.json");
+            ParsedScenario compiledScenario = parse(new BinaryParser(), compiledCustomFactionsPath.toString());
+            FactionTypes factionTypes = scenario.getFactionTypes();
+            FactionTypes compiledFactionTypes = compiledScenario.getFactionTypes();
+
+            assertEquals(factionTypes.getNames(), compiledFactionTypes.getNames());
+            for(int factionId = 0; factionId < factionTypes.count(); factionId += 1) {
+                assertEquals(factionTypes.getLabel(factionId), compiledFactionTypes.getLabel(factionId));
+                assertEquals(factionTypes.isBribable(factionId), compiledFactionTypes.isBribable(factionId));
+                assertEquals(factionTypes.getBribePricePerSupporter(factionId), compiledFactionTypes.getBribePricePerSupporter(factionId));
+            }
+            for(Season season : Season.values()) {
+                assertSameEvents(scenario.getEvents(season), compiledScenario.getEvents(season));
+            }
+        } finally {
+            Files.deleteIfExists(compiledCustomFactionsPath);
+        }
+    }
+
+    public void test_events_are_numbered_in_the_order_of_the_configuration_file() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        ParsedScenario scenario = parse(new JSONParser(), scenarioPath);
+        for(Season season : Season.values()) {
+            addIds(scenario.getEvents(season), ids);
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertTrue(ids.stream().allMatch(id -> id >= 0 && id < ids.size()));
+    }
+
+    private void addIds(List<Event> events, List<Integer> ids) {
+        if(events == null) {
+            return;
+        }
+        for(Event event : events) {
+            ids.add(event.getId());
+            for(Choice choice : event.getChoices()) {
+                if(choice.hasRelatedEvents()) {
+                    addIds(choice.getRelatedEvents(), ids);
+                }
+            }
+        }
+    }
+
+    private ParsedScenario parse(Parser parser, String filePath) throws Exception {
+        parser.openFile(filePath);
+        return parser.parseScenario();
+    }
+
+    private void assertSameEvents(List<Event> events, List<Event> compiledEvents) {
+        if(events == null) {
+            assertNull(compiledEvents);
+            return;
+        }
+        assertEquals(events.size(), compiledEvents.size());
+        for(int indexEvent = 0; indexEvent < events.size(); indexEvent += 1) {
+            Event event = events.get(indexEvent);
+            Event compiledEvent = compiledEvents.get(indexEvent);
+            assertEquals(event.getName(), compiledEvent.getName());
+            assertEquals(event.getId(), compiledEvent.getId());
+            assertEquals(event.getDescription(), compiledEvent.getDescription());
+            assertEquals(event.isARelatedEvent(), compiledEvent.isARelatedEvent());
+            assertEquals(event.getWeight(), compiledEvent.getWeight());
+            assertEquals(event.getConditions().size(), compiledEvent.getConditions().size());
+            for(int indexCondition = 0; indexCondition < event.getConditions().size(); indexCondition += 1) {
+                Condition condition = event.getConditions().get(indexCondition);
+                Condition compiledCondition = compiledEvent.getConditions().get(indexCondition);
+                assertEquals(condition.getVariable(), compiledCondition.getVariable());
+                assertEquals(condition.getMin(), compiledCondition.getMin());
+                assertEquals(condition.getMax(), compiledCondition.getMax());
+            }
+            assertEquals(event.hasIrreversibleEffects(), compiledEvent.hasIrreversibleEffects());
+            if(event.hasIrreversibleEffects()) {
+                assertEquals(event.getIrreversibleEffects().getEffectsByFaction(), compiledEvent.getIrreversibleEffects().getEffectsByFaction());
+                assertEquals(event.getIrreversibleEffects().getEffectsByFactor(), compiledEvent.getIrreversibleEffects().getEffectsByFactor());
+            }
+            assertEquals(event.getNbChoices(), compiledEvent.getNbChoices());
+            for(int indexChoice = 0; indexChoice < event.getNbChoices(); indexChoice += 1) {
+                Choice choice = event.getChoices().get(indexChoice);
+                Choice compiledChoice = compiledEvent.getChoices().get(indexChoice);
+                assertEquals(choice.getName(), compiledChoice.getName());
+                assertEquals(choice.getDescription(), compiledChoice.getDescription());
+                assertEquals(choice.getEffects().getEffectsByFaction(), compiledChoice.getEffects().getEffectsByFaction());
+                assertEquals(choice.getEffects().getEffectsByFactor(), compiledChoice.getEffects().getEffectsByFactor());
+                assertSameEvents(choice.getRelatedEvents(), compiledChoice.getRelatedEvents());
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import gameplay.ScenarioSimulation;
+import gameplay.Season;
+import junit.framework.TestCase;
+
+import java.util.Random;
+
+public class ScenarioSimulationTest extends TestCase {
+
+    public void test_simulation_is_the_same_as_playing_event_by_event() {
+        Random random = new Random(42);
+        for(int scenario = 0; scenario < 2000; scenario += 1) {
+            int[] nbEventsBySeason = new int[Season.values().length];
+            for(int seasonOrdinal = 0; seasonOrdinal < nbEventsBySeason.length; seasonOrdinal += 1) {
+                nbEventsBySeason[seasonOrdinal] = random.nextInt(12);
+            }
+            for(Season firstSeason : Season.values()) {
+                int[] nbEventsLeft = nbEventsBySeason.clone();
+                Season season = firstSeason;
+                int nbPlayedEvents = 0;
+                while(nbEventsLeft[season.ordinal()] != 0) {
+                    nbEventsLeft[season.ordinal()] -= 1;
+                    nbPlayedEvents += 1;
+                    season = Season.getNextSeason(season);
+                }
+
+                ScenarioSimulation scenarioSimulation = new ScenarioSimulation(nbEventsBySeason);
+                scenarioSimulation.launch(firstSeason);
+                assertEquals(nbPlayedEvents, scenarioSimulation.getNbSimulatedEvents());
+                assertEquals(season, scenarioSimulation.getSeasonAfterLastSeason());
+                for(Season simulatedSeason : Season.values()) {
+                    assertEquals(nbEventsLeft[simulatedSeason.ordinal()], (int) scenarioSimulation.getNbEventsBySeasonAfterSimulation().get(simulatedSeason));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import game.Game;
+import game.ScenarioGame;
+import game.needs.GameDifficulty;
+import game.needs.GameInputOptions;
+import game.needs.GameParameters;
+import game.needs.GameRandom;
+import game.players.RandomPlayer;
+import junit.framework.TestCase;
+import output.SilentOutput;
+import simulation.ScenarioSolver;
+import simulation.SolverResult;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ScenarioSolverTest extends TestCase {
+    private static final long SEED = 7;
+
+    public void test_solver_finds_at_least_the_score_of_any_decision_sequence() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ScenarioSolver solver = new ScenarioSolver(loadGame(new RandomPlayer(SEED, 100)), ScenarioSolver.DEFAULT_TABLE_SIZE, ScenarioSolver.DEFAULT_MAX_NODES);
+            SolverResult result = solver.solve(pool);
+            SolverResult resultWithoutTable = new ScenarioSolver(loadGame(new RandomPlayer(SEED, 100)), 1, ScenarioSolver.DEFAULT_MAX_NODES).solve(pool);
+
+            RandomPlayer firstChoicePlayer = new RandomPlayer(SEED, 100) {
+                @Override
+                public int chooseEventSolution(Game game, int nbChoices) {
+                    return 1;
+                }
+
+                @Override
+                public int chooseEndYearOption(Game game, int nbChoicesDone) {
+                    return GameInputOptions.YEAR_END_DO_NOTHING_CHOICE;
+                }
+            };
+            Game game = loadGame(firstChoicePlayer);
+            game.launchGame();
+
+            assertTrue(result.isComplete());
+            assertTrue(solver.getNbNodes() > 1);
+            assertEquals(resultWithoutTable.getBestScore(), result.getBestScore());
+            assertEquals(resultWithoutTable.isWinnable(), result.isWinnable());
+            assertTrue(result.getBestScore() >= game.getScore());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Game loadGame(RandomPlayer player) throws Exception {
+        Game game = new ScenarioGame(GameDifficulty.NORMAL, "bot", player, new SilentOutput(), new GameRandom(SEED));
+        game.load(new GameParameters("bot", GameDifficulty.NORMAL, ScenarioGame.class.getSimpleName(), "customFactions.json"));
+        return game;
+    }
+}